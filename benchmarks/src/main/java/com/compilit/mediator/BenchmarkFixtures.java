@@ -0,0 +1,74 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.CommandHandler;
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.Query;
+import com.compilit.mediator.api.QueryHandler;
+import java.util.List;
+
+/**
+ * Requests and handlers shared by the benchmarks. The handlers do as little as possible, so the measured time is
+ * dominated by the mediator itself.
+ */
+final class BenchmarkFixtures {
+
+  private BenchmarkFixtures() {
+  }
+
+  static RequestMediator createMediator(List<? extends CommandHandler<?, ?>> commandHandlers,
+                                        List<? extends QueryHandler<?, ?>> queryHandlers,
+                                        List<? extends EventHandler<?>> eventHandlers) {
+    return createMediator(commandHandlers, queryHandlers, eventHandlers, new SequentialEventDelivery());
+  }
+
+  static RequestMediator createMediator(List<? extends CommandHandler<?, ?>> commandHandlers,
+                                        List<? extends QueryHandler<?, ?>> queryHandlers,
+                                        List<? extends EventHandler<?>> eventHandlers,
+                                        EventDelivery eventDelivery) {
+    return new RequestMediator(
+      new CommandHandlerProvider(List.copyOf(commandHandlers)),
+      new QueryHandlerProvider(List.copyOf(queryHandlers)),
+      new EventHandlerProvider(List.copyOf(eventHandlers)),
+      eventDelivery,
+      List.of()
+    );
+  }
+
+  record BenchmarkCommand(int value) implements Command<Integer> {
+  }
+
+  record BenchmarkQuery(int value) implements Query<Integer> {
+  }
+
+  record BenchmarkEvent(int value) implements Event {
+  }
+
+  static final class BenchmarkCommandHandler implements CommandHandler<BenchmarkCommand, Integer> {
+
+    @Override
+    public Integer handle(BenchmarkCommand command) {
+      return command.value();
+    }
+  }
+
+  static final class BenchmarkQueryHandler implements QueryHandler<BenchmarkQuery, Integer> {
+
+    @Override
+    public Integer handle(BenchmarkQuery query) {
+      return query.value();
+    }
+  }
+
+  static final class BenchmarkEventHandler implements EventHandler<BenchmarkEvent> {
+
+    private volatile int lastValue;
+
+    @Override
+    public Void handle(BenchmarkEvent event) {
+      lastValue = event.value();
+      return null;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkCommand;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkCommandHandler;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkEvent;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkEventHandler;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkQuery;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkQueryHandler;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of the static Dispatchers when many threads dispatch at the same time. Run with -t to vary
+ * the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ContendedDispatchBenchmark {
+
+  private final BenchmarkCommand command = new BenchmarkCommand(1);
+  private final BenchmarkQuery query = new BenchmarkQuery(1);
+  private final BenchmarkEvent event = new BenchmarkEvent(1);
+
+  @Setup
+  public void setup() {
+    var mediator = BenchmarkFixtures.createMediator(
+      List.of(new BenchmarkCommandHandler()),
+      List.of(new BenchmarkQueryHandler()),
+      List.of(new BenchmarkEventHandler())
+    );
+    new Dispatchers(
+      new MediatingCommandDispatcher(mediator),
+      new MediatingQueryDispatcher(mediator),
+      new MediatingEventEmitter(mediator)
+    ).install();
+  }
+
+  @Benchmark
+  public Integer apply() {
+    return Dispatchers.apply(command);
+  }
+
+  @Benchmark
+  public Integer resolve() {
+    return Dispatchers.resolve(query);
+  }
+
+  @Benchmark
+  public void emit() {
+    Dispatchers.emit(event);
+  }
+}
@@ -0,0 +1,69 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkCommand;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkCommandHandler;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkEvent;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkEventHandler;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkQuery;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkQueryHandler;
+import com.compilit.mediator.api.CommandDispatcher;
+import com.compilit.mediator.api.EventEmitter;
+import com.compilit.mediator.api.QueryDispatcher;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of a warm dispatch through the public dispatchers, with a single handler per request type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+  private final BenchmarkCommand command = new BenchmarkCommand(1);
+  private final BenchmarkQuery query = new BenchmarkQuery(1);
+  private final BenchmarkEvent event = new BenchmarkEvent(1);
+  private CommandDispatcher commandDispatcher;
+  private QueryDispatcher queryDispatcher;
+  private EventEmitter eventEmitter;
+
+  @Setup
+  public void setup() {
+    var mediator = BenchmarkFixtures.createMediator(
+      List.of(new BenchmarkCommandHandler()),
+      List.of(new BenchmarkQueryHandler()),
+      List.of(new BenchmarkEventHandler())
+    );
+    commandDispatcher = new MediatingCommandDispatcher(mediator);
+    queryDispatcher = new MediatingQueryDispatcher(mediator);
+    eventEmitter = new MediatingEventEmitter(mediator);
+  }
+
+  @Benchmark
+  public Integer dispatchCommand() {
+    return commandDispatcher.dispatch(command);
+  }
+
+  @Benchmark
+  public Integer dispatchQuery() {
+    return queryDispatcher.dispatch(query);
+  }
+
+  @Benchmark
+  public void emitEvent() {
+    eventEmitter.emit(event);
+  }
+}
@@ -0,0 +1,58 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkEvent;
+import com.compilit.mediator.BenchmarkFixtures.BenchmarkEventHandler;
+import com.compilit.mediator.api.EventEmitter;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of emitting an Event to a growing number of handlers, for each EventOrdering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventFanOutBenchmark {
+
+  @Param({"1", "10", "100"})
+  private int handlerCount;
+
+  @Param({"SEQUENTIAL", "NONE", "PER_HANDLER_FIFO"})
+  private String eventOrdering;
+
+  private final BenchmarkEvent event = new BenchmarkEvent(1);
+  private EventEmitter eventEmitter;
+
+  @Setup
+  public void setup() {
+    var eventHandlers = Stream.generate(BenchmarkEventHandler::new).limit(handlerCount).toList();
+    var mediator = BenchmarkFixtures.createMediator(
+      List.of(),
+      List.of(),
+      eventHandlers,
+      EventDelivery.of(EventOrdering.valueOf(eventOrdering), ForkJoinPool.commonPool())
+    );
+    eventEmitter = new MediatingEventEmitter(mediator);
+  }
+
+  @Benchmark
+  public void emit() {
+    eventEmitter.emit(event);
+  }
+}
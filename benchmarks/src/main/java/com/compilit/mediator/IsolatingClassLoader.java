@@ -0,0 +1,55 @@
+package com.compilit.mediator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Defines its own copy of the given classes and delegates everything else to its parent. Every instance therefore
+ * yields distinct Class objects for the isolated classes.
+ */
+final class IsolatingClassLoader extends ClassLoader {
+
+  private final Set<String> isolatedClassNames;
+
+  IsolatingClassLoader(ClassLoader parent, Class<?>... isolatedClasses) {
+    super(parent);
+    this.isolatedClassNames = Stream.of(isolatedClasses).map(Class::getName).collect(Collectors.toUnmodifiableSet());
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    if (!isolatedClassNames.contains(name)) {
+      return super.loadClass(name, resolve);
+    }
+    synchronized (getClassLoadingLock(name)) {
+      var loadedClass = findLoadedClass(name);
+      if (loadedClass == null) {
+        var bytes = readClassFile(name);
+        loadedClass = defineClass(name, bytes, 0, bytes.length);
+      }
+      return loadedClass;
+    }
+  }
+
+  <T> T newInstance(Class<? extends T> isolatedClass) {
+    try {
+      return (T) loadClass(isolatedClass.getName()).getConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private byte[] readClassFile(String name) throws ClassNotFoundException {
+    try (var classFile = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+      if (classFile == null) {
+        throw new ClassNotFoundException(name);
+      }
+      return classFile.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
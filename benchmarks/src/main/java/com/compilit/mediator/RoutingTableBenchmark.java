@@ -0,0 +1,74 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.CommandHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how dispatching scales with the number of registered request types. Every handler gets its own Command type
+ * through an IsolatingClassLoader.
+ * <p>
+ * coldDispatch measures building the routing table, which resolves the request type of every handler through the
+ * HandlerAbilityValidator, followed by the first dispatch. warmDispatch measures dispatching to an already built
+ * routing table, cycling through all request types.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class RoutingTableBenchmark {
+
+  @Param({"10", "100", "1000", "10000"})
+  private int handlerCount;
+
+  private final List<CommandHandler<?, ?>> handlers = new ArrayList<>();
+  private final List<Command<Integer>> commands = new ArrayList<>();
+  private MediatingCommandDispatcher commandDispatcher;
+  private int nextCommand;
+
+  @Setup
+  public void setup() {
+    for (int i = 0; i < handlerCount; i++) {
+      var classLoader = new IsolatingClassLoader(
+        getClass().getClassLoader(),
+        ScaledCommand.class,
+        ScaledCommandHandler.class
+      );
+      handlers.add(classLoader.newInstance(ScaledCommandHandler.class));
+      commands.add(classLoader.newInstance(ScaledCommand.class));
+    }
+    commandDispatcher = new MediatingCommandDispatcher(BenchmarkFixtures.createMediator(handlers, List.of(), List.of()));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 20)
+  public Integer coldDispatch() {
+    var mediator = BenchmarkFixtures.createMediator(handlers, List.of(), List.of());
+    return mediator.mediateCommand(commands.get(handlerCount - 1));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @Warmup(iterations = 3, time = 1)
+  @Measurement(iterations = 5, time = 1)
+  public Integer warmDispatch() {
+    var command = commands.get(nextCommand);
+    nextCommand = (nextCommand + 1) % handlerCount;
+    return commandDispatcher.dispatch(command);
+  }
+}
@@ -0,0 +1,13 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Command;
+
+/**
+ * A Command that is loaded by a separate IsolatingClassLoader for every registered handler, which yields as many
+ * distinct request types as the benchmark needs without generating source code.
+ */
+public final class ScaledCommand implements Command<Integer> {
+
+  public ScaledCommand() {
+  }
+}
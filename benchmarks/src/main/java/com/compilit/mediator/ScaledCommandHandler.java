@@ -0,0 +1,18 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.CommandHandler;
+
+/**
+ * The handler of ScaledCommand. Because it is loaded by the same IsolatingClassLoader as its Command, its request type
+ * differs from that of every other ScaledCommandHandler.
+ */
+public final class ScaledCommandHandler implements CommandHandler<ScaledCommand, Integer> {
+
+  public ScaledCommandHandler() {
+  }
+
+  @Override
+  public Integer handle(ScaledCommand command) {
+    return 1;
+  }
+}
@@ -0,0 +1,23 @@
+package com.compilit.mediator.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An AsyncCommandDispatcher is the non-blocking counterpart of the CommandDispatcher. The Command is handled on a
+ * separate thread, so the caller is never blocked by a slow CommandHandler.
+ *
+ * @see Command
+ * @see CommandDispatcher
+ */
+public interface AsyncCommandDispatcher {
+
+  /**
+   * Send the command into the mediator. If a matching handler is found, the returned future completes with the result
+   * of this handler. If the handler could not be found or throws an exception, the future completes exceptionally.
+   *
+   * @param command The specific Command you wish to send to the Mediator.
+   * @param <T>     The return type of the Command.
+   * @return A CompletableFuture of the return type value.
+   */
+  <T> CompletableFuture<T> dispatch(Command<T> command);
+}
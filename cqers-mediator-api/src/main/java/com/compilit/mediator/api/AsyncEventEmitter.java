@@ -0,0 +1,23 @@
+package com.compilit.mediator.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An AsyncEventEmitter is the non-blocking counterpart of the EventEmitter. The Events are handled on a separate
+ * thread, so the caller does not have to wait for all subscribed EventHandlers.
+ *
+ * @see Event
+ * @see EventEmitter
+ */
+public interface AsyncEventEmitter {
+
+  /**
+   * Send the events into the mediator. The returned future completes once all matching handlers have handled all
+   * events, or completes exceptionally if one of them failed.
+   *
+   * @param event  The specific Event you wish to emit to the Mediator.
+   * @param events The extra Events you wish to emit to the Mediator.
+   * @return A CompletableFuture which completes when all events are handled.
+   */
+  CompletableFuture<Void> emit(Event event, Event... events);
+}
@@ -0,0 +1,23 @@
+package com.compilit.mediator.api;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An AsyncQueryDispatcher is the non-blocking counterpart of the QueryDispatcher. The Query is handled on a separate
+ * thread, which makes it possible to resolve multiple Queries at once.
+ *
+ * @see Query
+ * @see QueryDispatcher
+ */
+public interface AsyncQueryDispatcher {
+
+  /**
+   * Send the query into the mediator. If a matching handler is found, the returned future completes with the result of
+   * this handler. If the handler could not be found or throws an exception, the future completes exceptionally.
+   *
+   * @param query The specific Query to send to the Mediator.
+   * @param <T>   The return type.
+   * @return A CompletableFuture of the return type value.
+   */
+  <T> CompletableFuture<T> dispatch(Query<T> query);
+}
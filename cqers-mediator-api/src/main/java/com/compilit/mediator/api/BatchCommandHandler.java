@@ -0,0 +1,28 @@
+package com.compilit.mediator.api;
+
+import java.util.List;
+
+/**
+ * A BatchCommandHandler is a CommandHandler that is able to handle a whole group of Commands of the same type in a
+ * single call, for example to turn them into a single bulk write. It receives all Commands of its type that are
+ * dispatched together through {@link CommandDispatcher#dispatchAll}.
+ *
+ * @param <T> The specific Command implementation.
+ * @param <R> The return type of the Command.
+ */
+public interface BatchCommandHandler<T extends Command<R>, R> extends CommandHandler<T, R> {
+
+  /**
+   * Handle all given commands at once.
+   *
+   * @param commands The commands to handle.
+   * @return The results, one for each command and in the same order as the commands.
+   */
+  List<R> handleAll(List<T> commands);
+
+  @Override
+  default R handle(T command) {
+    return handleAll(List.of(command)).get(0);
+  }
+
+}
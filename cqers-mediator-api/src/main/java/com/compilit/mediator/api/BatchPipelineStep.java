@@ -0,0 +1,22 @@
+package com.compilit.mediator.api;
+
+import java.util.List;
+
+/**
+ * A step in the chain of PipelineBehaviors around the handler of a batch of requests of the same type.
+ *
+ * @param <R> The return type of the requests.
+ * @see PipelineBehavior#handleAll(List, BatchPipelineStep)
+ */
+@FunctionalInterface
+public interface BatchPipelineStep<R> {
+
+  /**
+   * Pass the requests on to the next step in the chain.
+   *
+   * @param requests The requests that are being dispatched together.
+   * @return The return values of the requests, in the same order as the requests.
+   */
+  List<R> proceedAll(List<? extends Request> requests);
+
+}
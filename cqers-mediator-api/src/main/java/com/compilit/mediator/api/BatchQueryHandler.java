@@ -0,0 +1,28 @@
+package com.compilit.mediator.api;
+
+import java.util.List;
+
+/**
+ * A BatchQueryHandler is a QueryHandler that is able to resolve a whole group of Queries of the same type in a single
+ * call, for example with a single read. It receives all Queries of its type that are dispatched together through
+ * {@link QueryDispatcher#resolveAll}.
+ *
+ * @param <T> The specific Query implementation.
+ * @param <R> The return type of the Query.
+ */
+public interface BatchQueryHandler<T extends Query<R>, R> extends QueryHandler<T, R> {
+
+  /**
+   * Handle all given queries at once.
+   *
+   * @param queries The queries to handle.
+   * @return The results, one for each query and in the same order as the queries.
+   */
+  List<R> handleAll(List<T> queries);
+
+  @Override
+  default R handle(T query) {
+    return handleAll(List.of(query)).get(0);
+  }
+
+}
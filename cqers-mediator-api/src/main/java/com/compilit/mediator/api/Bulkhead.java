@@ -0,0 +1,27 @@
+package com.compilit.mediator.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the number of concurrent executions of the annotated CommandHandler or QueryHandler. A request that arrives
+ * while the limit is reached is not queued, but rejected right away with a MediatorException.
+ *
+ * @see Timeout
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Bulkhead {
+
+  /**
+   * @return The maximum number of concurrent executions of the handler.
+   */
+  int value();
+
+}
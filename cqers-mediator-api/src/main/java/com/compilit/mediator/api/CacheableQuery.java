@@ -0,0 +1,12 @@
+package com.compilit.mediator.api;
+
+/**
+ * A CacheableQuery is a Query of which the result may be cached by the Mediator. This is only suitable for idempotent
+ * reads. The Query itself is used as the cache key, so implementations must implement equals and hashCode based on
+ * their values. Records do this automatically.
+ *
+ * @param <T> The return type.
+ * @see InvalidatedBy
+ */
+public interface CacheableQuery<T> extends Query<T> {
+}
@@ -0,0 +1,11 @@
+package com.compilit.mediator.api;
+
+/**
+ * A CoalescableQuery is a Query of which concurrent dispatches may share a single handler execution, when query
+ * coalescing is enabled. This is only suitable for idempotent reads. Queries are compared using equals and hashCode, so
+ * implementations must implement them based on their values. Records do this automatically.
+ *
+ * @param <T> The return type.
+ */
+public interface CoalescableQuery<T> extends Query<T> {
+}
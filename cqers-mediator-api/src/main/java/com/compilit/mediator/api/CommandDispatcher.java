@@ -1,5 +1,9 @@
 package com.compilit.mediator.api;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * A CommandDispatcher is a dedicated interface for sending Commands to the Mediator. A Mediator should never be
  * interacted with directly because you could never truly know that your code complies with CQERS.
@@ -25,4 +29,22 @@ public interface CommandDispatcher {
    * @param commands The extra Commands you wish to send to the Mediator.
    */
   void dispatch(SimpleCommand command, SimpleCommand... commands);
+
+  /**
+   * Send all commands into the mediator. The handler of each distinct Command type is looked up only once. If this
+   * handler is a BatchCommandHandler, it receives all Commands of its type in a single call. Commands of the same type
+   * are handled together, in order of their first occurrence. By default, the commands are dispatched one by one.
+   *
+   * @param commands The Commands you wish to send to the Mediator.
+   * @param <T>      The return type of the Commands.
+   * @return The results of the handlers, in the same order as the commands.
+   * @see BatchCommandHandler
+   */
+  default <T> List<T> dispatchAll(Collection<? extends Command<T>> commands) {
+    List<T> results = new ArrayList<>(commands.size());
+    for (var command : commands) {
+      results.add(dispatch(command));
+    }
+    return results;
+  }
 }
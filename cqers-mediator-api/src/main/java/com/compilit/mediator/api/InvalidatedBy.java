@@ -0,0 +1,25 @@
+package com.compilit.mediator.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares which Events make the cached results of a CacheableQuery stale. Once one of these Events has been handled,
+ * all cached results of the annotated Query type are evicted.
+ *
+ * @see CacheableQuery
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface InvalidatedBy {
+
+  /**
+   * @return The Event types which invalidate the cached results of the annotated Query.
+   */
+  Class<? extends Event>[] value();
+
+}
@@ -0,0 +1,57 @@
+package com.compilit.mediator.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A PipelineBehavior wraps the handling of a request in cross-cutting logic, such as timing, retries, caching or
+ * transactions. All registered behaviors form an ordered chain around the handler(s) of a request. A behavior decides
+ * itself whether it proceeds to the next step in the chain, so it can also short-circuit the handling altogether.
+ * <p>
+ * The chain is composed once per request type, so whether a behavior applies to a request type is only asked once.
+ * Requests of the same type that are dispatched in a batch pass through the chain together, through handleAll. By
+ * default, a behavior passes them on one by one, in which case a BatchCommandHandler or BatchQueryHandler receives them
+ * one at a time. Override handleAll to keep the batch together.
+ *
+ * @see PipelineStep
+ * @see BatchPipelineStep
+ */
+public interface PipelineBehavior {
+
+  /**
+   * @param requestType The type of Command, Query or Event.
+   * @return true if this behavior should be part of the chain of the given request type. By default, a behavior
+   * applies to all requests.
+   */
+  default boolean appliesTo(Class<? extends Request> requestType) {
+    return true;
+  }
+
+  /**
+   * Handle the request, usually by calling next.proceed(request) somewhere along the way.
+   *
+   * @param request The Command, Query or Event which is being dispatched.
+   * @param next    The next step in the chain. The last step invokes the handler(s) of the request.
+   * @param <R>     The return type of the request.
+   * @return The return value of the request.
+   */
+  <R> R handle(Request request, PipelineStep<R> next);
+
+  /**
+   * Handle a batch of requests of the same type, usually by calling next.proceedAll(requests) somewhere along the way.
+   * By default, every request is passed through handle on its own, as a batch of one.
+   *
+   * @param requests The Commands or Queries which are being dispatched together.
+   * @param next     The next step in the chain. The last step invokes the handler of the requests.
+   * @param <R>      The return type of the requests.
+   * @return The return values of the requests, in the same order as the requests.
+   */
+  default <R> List<R> handleAll(List<? extends Request> requests, BatchPipelineStep<R> next) {
+    List<R> results = new ArrayList<>(requests.size());
+    for (var request : requests) {
+      results.add(handle(request, single -> next.proceedAll(List.of(single)).get(0)));
+    }
+    return results;
+  }
+
+}
@@ -0,0 +1,20 @@
+package com.compilit.mediator.api;
+
+/**
+ * A step in the chain of PipelineBehaviors around the handler(s) of a request.
+ *
+ * @param <R> The return type of the request.
+ * @see PipelineBehavior
+ */
+@FunctionalInterface
+public interface PipelineStep<R> {
+
+  /**
+   * Pass the request on to the next step in the chain.
+   *
+   * @param request The request that is being dispatched.
+   * @return The return value of the request.
+   */
+  R proceed(Request request);
+
+}
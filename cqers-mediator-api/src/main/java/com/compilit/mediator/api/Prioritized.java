@@ -0,0 +1,25 @@
+package com.compilit.mediator.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the priority of all instances of the annotated Command type. When the Command also implements
+ * PrioritizedCommand, its getPriority method takes precedence.
+ *
+ * @see PrioritizedCommand
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Prioritized {
+
+  /**
+   * @return The priority lane in which the annotated Command waits when it is dispatched asynchronously.
+   */
+  Priority value();
+
+}
@@ -0,0 +1,16 @@
+package com.compilit.mediator.api;
+
+/**
+ * A Command of which the priority is determined per instance. Use the Prioritized annotation when all instances of a
+ * Command type have the same priority.
+ *
+ * @param <T> The return type.
+ */
+public interface PrioritizedCommand<T> extends Command<T> {
+
+  /**
+   * @return The priority lane in which this Command waits when it is dispatched asynchronously.
+   */
+  Priority getPriority();
+
+}
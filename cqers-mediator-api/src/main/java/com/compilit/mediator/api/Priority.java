@@ -0,0 +1,24 @@
+package com.compilit.mediator.api;
+
+/**
+ * The priority lane in which a Command waits when it is dispatched asynchronously. Commands without a priority are
+ * dispatched with NORMAL priority.
+ *
+ * @see PrioritizedCommand
+ * @see Prioritized
+ */
+public enum Priority {
+
+  /**
+   * For latency-critical Commands, such as those issued on behalf of a waiting user.
+   */
+  HIGH,
+
+  NORMAL,
+
+  /**
+   * For bulk and background Commands, which may wait while there is more urgent work.
+   */
+  LOW
+
+}
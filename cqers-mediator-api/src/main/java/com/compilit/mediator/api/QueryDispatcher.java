@@ -1,5 +1,9 @@
 package com.compilit.mediator.api;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * A QueryDispatcher is a dedicated interface for sending Queries to the Mediator. A Mediator should never be interacted
  * with directly because you could never truly know that your code complies with CQERS.
@@ -16,4 +20,22 @@ public interface QueryDispatcher {
    * @return T The return type value.
    */
   <T> T dispatch(Query<T> query);
+
+  /**
+   * Send all queries into the mediator. The handler of each distinct Query type is looked up only once. If this handler
+   * is a BatchQueryHandler, it receives all Queries of its type in a single call. By default, the queries are
+   * dispatched one by one.
+   *
+   * @param queries The Queries to send to the Mediator.
+   * @param <T>     The return type.
+   * @return The results of the handlers, in the same order as the queries.
+   * @see BatchQueryHandler
+   */
+  default <T> List<T> resolveAll(Collection<? extends Query<T>> queries) {
+    List<T> results = new ArrayList<>(queries.size());
+    for (var query : queries) {
+      results.add(dispatch(query));
+    }
+    return results;
+  }
 }
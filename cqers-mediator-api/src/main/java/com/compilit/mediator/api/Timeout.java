@@ -0,0 +1,33 @@
+package com.compilit.mediator.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the time a caller waits for the annotated CommandHandler or QueryHandler. When the handler does not complete
+ * in time, it is interrupted and the caller gets a MediatorException.
+ *
+ * @see Bulkhead
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Timeout {
+
+  /**
+   * @return The maximum time to wait for the handler, in the given unit.
+   */
+  long value();
+
+  /**
+   * @return The unit of the timeout. Milliseconds by default.
+   */
+  TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+}
@@ -2,34 +2,62 @@ package com.compilit.mediator;
 
 import static com.compilit.mediator.ExceptionMessages.handlerNotFoundMessage;
 import static com.compilit.mediator.ExceptionMessages.multipleHandlersRegisteredMessage;
-import static com.compilit.mediator.HandlerAbilityValidator.handlersMatchingRequest;
+import static com.compilit.mediator.ExceptionMessages.unresolvableRequestTypeMessage;
+import static com.compilit.mediator.HandlerAbilityValidator.requestTypeOf;
 
 import com.compilit.mediator.api.Request;
 import com.compilit.mediator.api.RequestHandler;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Set;
 import java.util.function.UnaryOperator;
 
 abstract class AbstractHandlerProvider {
 
   protected static final int FIRST_ENTRY = 0;
   protected static final int EXPECTED_NON_EVENT_HANDLERS = 1;
-  protected final Map<String, Provider<?>> handlerCache = new HashMap<>();
+  private final List<String> registrationErrors = new ArrayList<>();
+  private final Map<Class<?>, Provider<?>> routingTable;
 
-  protected <T> String getIdFor(T requestClass) {
-    return UUID.nameUUIDFromBytes(requestClass.getClass().getName().getBytes()).toString();
+  protected AbstractHandlerProvider(List<? extends RequestHandler<?, ?>> requestHandlers) {
+    this.routingTable = createRoutingTable(requestHandlers);
   }
 
-  protected <H extends RequestHandler<T, R>, T extends Request, R> List<H> findMatchingHandlers(Class<? extends Request> requestClass,
-                                                                                                List<? extends RequestHandler<?, ?>> requestHandlers) {
+  /**
+   * Looks up the route for the exact class of the given request. The routing table is built once on construction, so
+   * this is a single map lookup which does not allocate.
+   *
+   * @param request the request to find the route for.
+   * @return the Provider of the handler(s) registered for the request type.
+   */
+  protected Provider<?> getProviderFor(Request request) {
+    var provider = routingTable.get(request.getClass());
+    if (provider == null) {
+      throw new MediatorException(handlerNotFoundMessage(request.getClass().getName()));
+    }
+    return provider;
+  }
+
+  /**
+   * @return all request types for which at least one handler is registered.
+   */
+  Set<Class<?>> getRequestTypes() {
+    return routingTable.keySet();
+  }
 
-    return (List<H>) requestHandlers.stream()
-                                    .filter(handlersMatchingRequest(requestClass))
-                                    .toList();
+  /**
+   * @return the messages of all invalid registrations, such as multiple handlers for a single Command or Query, or a
+   * handler of which the request type cannot be resolved. Empty if every registered handler can be dispatched to.
+   */
+  List<String> getRegistrationErrors() {
+    return List.copyOf(registrationErrors);
   }
 
+  protected abstract Provider<?> createProvider(List<? extends RequestHandler<?, ?>> requestHandlers);
+
   protected abstract <T extends RequestHandler<?, ?>> UnaryOperator<List<T>> validateResult(String requestName);
 
   protected void onNullThrowException(List<?> list, String requestName) {
@@ -50,4 +78,34 @@ abstract class AbstractHandlerProvider {
     }
   }
 
+  private Map<Class<?>, Provider<?>> createRoutingTable(List<? extends RequestHandler<?, ?>> requestHandlers) {
+    Map<Class<?>, List<RequestHandler<?, ?>>> handlersByRequestType = new LinkedHashMap<>();
+    for (var requestHandler : requestHandlers) {
+      requestTypeOf(requestHandler).ifPresentOrElse(
+        requestType -> handlersByRequestType.computeIfAbsent(requestType, x -> new ArrayList<>()).add(requestHandler),
+        () -> registrationErrors.add(unresolvableRequestTypeMessage(requestHandler.getClass().getName()))
+      );
+    }
+    Map<Class<?>, Provider<?>> routes = new HashMap<>();
+    handlersByRequestType.forEach((requestType, handlers) -> routes.put(requestType, createRoute(requestType, handlers)));
+    return Map.copyOf(routes);
+  }
+
+  /**
+   * Invalid registrations are kept in the table as a route that fails on use, so the error surfaces when the affected
+   * request type is dispatched. The error is also recorded, so it can be reported eagerly through
+   * getRegistrationErrors.
+   */
+  private Provider<?> createRoute(Class<?> requestType, List<RequestHandler<?, ?>> handlers) {
+    try {
+      return createProvider(this.<RequestHandler<?, ?>>validateResult(requestType.getName()).apply(handlers));
+    } catch (MediatorException exception) {
+      var message = exception.getMessage();
+      registrationErrors.add(message);
+      return () -> {
+        throw new MediatorException(message);
+      };
+    }
+  }
+
 }
@@ -0,0 +1,277 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.eventBusClosedMessage;
+import static com.compilit.mediator.ExceptionMessages.eventQueueFullMessage;
+import static com.compilit.mediator.ExceptionMessages.eventQueueFullOnWorkerMessage;
+import static com.compilit.mediator.ExceptionMessages.handlerInterruptedMessage;
+
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventEmitter;
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An EventEmitter which decouples the emitting thread from the EventHandlers. Every EventHandler gets its own bounded
+ * queue and worker thread, so a slow subscriber never adds to the latency of the emitter, nor to that of the other
+ * subscribers. What happens when a queue is full is determined by the OverflowPolicy.
+ * <p>
+ * The PipelineBehaviors that apply to an Event run around every single handler, on the worker thread of that handler.
+ * A handler that throws is logged and counted as failed, after which its worker carries on with the next Event.
+ * <p>
+ * Under the BLOCK policy, a worker thread never waits for room in a full queue, since it might be waiting for itself.
+ * An Event that a handler emits to a full queue is rejected with a MediatorException instead.
+ */
+public final class AsyncEventBus implements EventEmitter, AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(AsyncEventBus.class);
+  private static final long POLL_INTERVAL_MILLIS = 100;
+  private static final ThreadLocal<Boolean> WORKER = ThreadLocal.withInitial(() -> false);
+  private final EventHandlerProvider eventHandlerProvider;
+  private final int queueCapacity;
+  private final OverflowPolicy overflowPolicy;
+  private final List<PipelineBehavior> pipelineBehaviors;
+  private final Map<EventHandler<Event>, HandlerQueue> handlerQueues = new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  AsyncEventBus(EventHandlerProvider eventHandlerProvider, int queueCapacity, OverflowPolicy overflowPolicy) {
+    this(eventHandlerProvider, queueCapacity, overflowPolicy, List.of());
+  }
+
+  AsyncEventBus(EventHandlerProvider eventHandlerProvider,
+                int queueCapacity,
+                OverflowPolicy overflowPolicy,
+                List<PipelineBehavior> pipelineBehaviors) {
+    this.eventHandlerProvider = eventHandlerProvider;
+    this.queueCapacity = queueCapacity;
+    this.overflowPolicy = overflowPolicy;
+    this.pipelineBehaviors = List.copyOf(pipelineBehaviors);
+  }
+
+  @Override
+  public void emit(Event event, Event... events) {
+    publish(event);
+    if (events != null) {
+      for (var e : events) {
+        publish(e);
+      }
+    }
+  }
+
+  /**
+   * @return a snapshot of the queue of every EventHandler that has received at least one event.
+   */
+  public List<EventQueueMetrics> getMetrics() {
+    return handlerQueues.values().stream().map(HandlerQueue::toMetrics).toList();
+  }
+
+  /**
+   * @return a snapshot of the queue of the given EventHandler, which is empty if it has not received any event yet.
+   */
+  EventQueueMetrics getMetrics(EventHandler<?> handler) {
+    var handlerQueue = handlerQueues.get(handler);
+    if (handlerQueue == null) {
+      return new EventQueueMetrics(handler.getClass().getName(), 0, queueCapacity, 0, 0, 0, Duration.ZERO, Duration.ZERO);
+    }
+    return handlerQueue.toMetrics();
+  }
+
+  /**
+   * Stops accepting new events and waits until all queued events have been handled.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (var handlerQueue : handlerQueues.values()) {
+      handlerQueue.awaitTermination();
+    }
+  }
+
+  private void publish(Event event) {
+    if (closed) {
+      throw new MediatorException(eventBusClosedMessage());
+    }
+    var handlers = eventHandlerProvider.getEventHandlers(event);
+    if (overflowPolicy == OverflowPolicy.FAIL) {
+      publishToAllOrNone(event, handlers);
+      return;
+    }
+    for (var handler : handlers) {
+      queueFor(handler, event).offer(event);
+    }
+  }
+
+  /**
+   * Reserves room in the queue of every handler first, so the Event is either queued for all handlers or for none.
+   */
+  private void publishToAllOrNone(Event event, List<EventHandler<Event>> handlers) {
+    List<HandlerQueue> reserved = new ArrayList<>(handlers.size());
+    int rejected = 0;
+    for (var handler : handlers) {
+      var handlerQueue = queueFor(handler, event);
+      if (handlerQueue.reserve()) {
+        reserved.add(handlerQueue);
+      } else {
+        rejected++;
+      }
+    }
+    if (rejected > 0) {
+      reserved.forEach(HandlerQueue::cancelReservation);
+      throw new MediatorException(eventQueueFullMessage(event.getClass().getName(), rejected, handlers.size()));
+    }
+    for (var handlerQueue : reserved) {
+      handlerQueue.offer(event);
+    }
+  }
+
+  private HandlerQueue queueFor(EventHandler<Event> handler, Event event) {
+    var handlerQueue = handlerQueues.get(handler);
+    if (handlerQueue == null) {
+      handlerQueue = handlerQueues.computeIfAbsent(handler, x -> new HandlerQueue(handler, event.getClass()));
+    }
+    return handlerQueue;
+  }
+
+  private record Delivery(Event event, long enqueuedAt) {
+  }
+
+  private final class HandlerQueue implements Runnable {
+
+    private final EventHandler<Event> handler;
+    private final PipelineStep<Object> pipeline;
+    private final BlockingQueue<Delivery> queue = new ArrayBlockingQueue<>(queueCapacity);
+    private final Semaphore freeSlots = new Semaphore(queueCapacity);
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong lastDeliveryLag = new AtomicLong();
+    private final AtomicLong maxDeliveryLag = new AtomicLong();
+    private final Thread worker;
+
+    private HandlerQueue(EventHandler<Event> handler, Class<? extends Event> eventType) {
+      this.handler = handler;
+      this.pipeline = Pipelines.compose(eventType, pipelineBehaviors, request -> handler.handle((Event) request));
+      this.worker = new Thread(this, "mediator-event-bus-" + handler.getClass().getSimpleName());
+      this.worker.setDaemon(true);
+      this.worker.start();
+    }
+
+    /**
+     * Reserves room for an Event under the FAIL policy, which is released again once the Event has been taken from
+     * the queue.
+     *
+     * @return false if the queue is full.
+     */
+    private boolean reserve() {
+      return freeSlots.tryAcquire();
+    }
+
+    private void cancelReservation() {
+      freeSlots.release();
+    }
+
+    private void offer(Event event) {
+      var delivery = new Delivery(event, System.nanoTime());
+      switch (overflowPolicy) {
+        case BLOCK -> put(delivery);
+        case DROP_OLDEST -> {
+          while (!queue.offer(delivery)) {
+            if (queue.poll() != null) {
+              dropped.increment();
+            }
+          }
+        }
+        case DROP_NEWEST -> {
+          if (!queue.offer(delivery)) {
+            dropped.increment();
+          }
+        }
+        case FAIL -> queue.add(delivery);
+      }
+    }
+
+    private void put(Delivery delivery) {
+      if (WORKER.get()) {
+        if (!queue.offer(delivery)) {
+          throw new MediatorException(eventQueueFullOnWorkerMessage(
+            delivery.event().getClass().getName(),
+            handler.getClass().getName()
+          ));
+        }
+        return;
+      }
+      try {
+        queue.put(delivery);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new MediatorException(handlerInterruptedMessage(delivery.event().getClass().getName()), exception);
+      }
+    }
+
+    @Override
+    public void run() {
+      WORKER.set(true);
+      while (!closed || !queue.isEmpty()) {
+        try {
+          var delivery = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+          if (delivery != null) {
+            if (overflowPolicy == OverflowPolicy.FAIL) {
+              freeSlots.release();
+            }
+            deliver(delivery);
+          }
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+
+    private void deliver(Delivery delivery) {
+      var lag = System.nanoTime() - delivery.enqueuedAt();
+      lastDeliveryLag.set(lag);
+      maxDeliveryLag.accumulateAndGet(lag, Math::max);
+      try {
+        pipeline.proceed(delivery.event());
+        delivered.increment();
+      } catch (Throwable exception) {
+        failed.increment();
+        logger.error("{} failed to handle {}", handler.getClass().getName(), delivery.event(), exception);
+      }
+    }
+
+    private void awaitTermination() {
+      try {
+        worker.join();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private EventQueueMetrics toMetrics() {
+      return new EventQueueMetrics(
+        handler.getClass().getName(),
+        queue.size(),
+        queueCapacity,
+        delivered.sum(),
+        dropped.sum(),
+        failed.sum(),
+        Duration.ofNanos(lastDeliveryLag.get()),
+        Duration.ofNanos(maxDeliveryLag.get())
+      );
+    }
+  }
+}
@@ -8,11 +8,8 @@ import java.util.function.UnaryOperator;
 
 final class CommandHandlerProvider extends AbstractHandlerProvider {
 
-  private final List<? extends CommandHandler<?, ?>> commandHandlers;
-
   CommandHandlerProvider(List<? extends CommandHandler<?, ?>> commandHandlers) {
-    super();
-    this.commandHandlers = commandHandlers;
+    super(commandHandlers);
   }
 
   @Override
@@ -24,22 +21,12 @@ final class CommandHandlerProvider extends AbstractHandlerProvider {
     };
   }
 
-  <R> CommandHandler<Command<R>, R> getCommandHandler(Command<R> command) {
-    var id = getIdFor(command);
-    if (!handlerCache.containsKey(id)) {
-      var handler = findCommandHandler(command);
-      handlerCache.put(id, new CommandHandlerWrapper<>(handler));
-    }
-    return (CommandHandler<Command<R>, R>) handlerCache.get(id).provide();
+  @Override
+  protected Provider<?> createProvider(List<? extends RequestHandler<?, ?>> requestHandlers) {
+    return new CommandHandlerWrapper<>((CommandHandler<?, ?>) requestHandlers.get(FIRST_ENTRY));
   }
 
-  private <T extends Command<R>, R> CommandHandler<T, R> findCommandHandler(T command) {
-    var requestClass = command.getClass();
-    var requestName = requestClass.getName();
-    List<CommandHandler<T, R>> handlers = findMatchingHandlers(
-      requestClass,
-      commandHandlers
-    );
-    return this.<CommandHandler<T, R>>validateResult(requestName).apply(handlers).get(FIRST_ENTRY);
+  <R> CommandHandler<Command<R>, R> getCommandHandler(Command<R> command) {
+    return (CommandHandler<Command<R>, R>) getProviderFor(command).provide();
   }
 }
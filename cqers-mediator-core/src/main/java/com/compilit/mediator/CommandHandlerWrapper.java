@@ -7,7 +7,7 @@ final class CommandHandlerWrapper<C extends Command<R>, R> implements Provider<C
 
   private final CommandHandler<?, ?> handler;
 
-  public CommandHandlerWrapper(CommandHandler<C, R> handler) {
+  public CommandHandlerWrapper(CommandHandler<?, ?> handler) {
     this.handler = handler;
   }
 
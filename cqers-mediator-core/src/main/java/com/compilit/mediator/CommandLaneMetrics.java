@@ -0,0 +1,24 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Priority;
+import java.time.Duration;
+
+/**
+ * A snapshot of a single priority lane of the PrioritizedAsyncCommandDispatcher.
+ *
+ * @param priority      the priority of the Commands in the lane.
+ * @param weight        the share of the executor capacity the lane gets while other lanes have work waiting.
+ * @param queueDepth    the number of Commands waiting to be handled.
+ * @param maxQueueDepth the largest number of Commands that have been waiting at the same time.
+ * @param started       the number of Commands of which the handling has started.
+ * @param lastQueueWait the time the most recently started Command spent waiting in the lane.
+ * @param maxQueueWait  the longest time any started Command spent waiting in the lane.
+ */
+public record CommandLaneMetrics(Priority priority,
+                                 int weight,
+                                 int queueDepth,
+                                 int maxQueueDepth,
+                                 long started,
+                                 Duration lastQueueWait,
+                                 Duration maxQueueWait) {
+}
@@ -0,0 +1,111 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.handlerInterruptedMessage;
+
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.Query;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * A Mediator which limits the number of concurrent handler invocations per request type, to protect downstream
+ * resources from an unbounded amount of (virtual) threads. Requests are mediated on the calling thread, which waits for
+ * a permit of its request type if all are taken. A request that is dispatched by a handler of the same request type
+ * reuses the permit of that handler, so a handler dispatching its own request type cannot wait for itself.
+ */
+final class ConcurrencyLimitingMediator implements Mediator {
+
+  static final int UNLIMITED = 0;
+  private final Mediator mediator;
+  private final ClassValue<Semaphore> concurrencyLimits;
+  private final ThreadLocal<Set<Class<?>>> heldPermits = ThreadLocal.withInitial(HashSet::new);
+
+  ConcurrencyLimitingMediator(Mediator mediator, int maxConcurrentHandlersPerRequestType) {
+    this.mediator = mediator;
+    this.concurrencyLimits = createConcurrencyLimits(maxConcurrentHandlersPerRequestType);
+  }
+
+  /**
+   * @return the mediator itself if the limit is UNLIMITED, otherwise a ConcurrencyLimitingMediator around it.
+   */
+  static Mediator limit(Mediator mediator, int maxConcurrentHandlersPerRequestType) {
+    return maxConcurrentHandlersPerRequestType > UNLIMITED
+      ? new ConcurrencyLimitingMediator(mediator, maxConcurrentHandlersPerRequestType)
+      : mediator;
+  }
+
+  @Override
+  public <T extends Command<R>, R> R mediateCommand(T command) {
+    return withinConcurrencyLimit(command.getClass(), () -> mediator.mediateCommand(command));
+  }
+
+  @Override
+  public <T extends Query<R>, R> R mediateQuery(T query) {
+    return withinConcurrencyLimit(query.getClass(), () -> mediator.mediateQuery(query));
+  }
+
+  @Override
+  public <T extends Event> void mediateEvent(T event) {
+    withinConcurrencyLimit(event.getClass(), () -> {
+      mediator.mediateEvent(event);
+      return null;
+    });
+  }
+
+  @Override
+  public <R> List<R> mediateCommands(Collection<? extends Command<R>> commands) {
+    return RequestBatch.process(
+      commands,
+      (requestType, group) -> withinConcurrencyLimit(requestType, () -> mediator.mediateCommands(group))
+    );
+  }
+
+  @Override
+  public <R> List<R> mediateQueries(Collection<? extends Query<R>> queries) {
+    return RequestBatch.process(
+      queries,
+      (requestType, group) -> withinConcurrencyLimit(requestType, () -> mediator.mediateQueries(group))
+    );
+  }
+
+  private <R> R withinConcurrencyLimit(Class<?> requestType, Supplier<R> mediation) {
+    var permits = heldPermits.get();
+    if (!permits.add(requestType)) {
+      return mediation.get();
+    }
+    try {
+      var semaphore = concurrencyLimits.get(requestType);
+      acquire(semaphore, requestType);
+      try {
+        return mediation.get();
+      } finally {
+        semaphore.release();
+      }
+    } finally {
+      permits.remove(requestType);
+    }
+  }
+
+  private static void acquire(Semaphore semaphore, Class<?> requestType) {
+    try {
+      semaphore.acquire();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new MediatorException(handlerInterruptedMessage(requestType.getName()), exception);
+    }
+  }
+
+  private static ClassValue<Semaphore> createConcurrencyLimits(int maxConcurrentHandlersPerRequestType) {
+    return new ClassValue<>() {
+      @Override
+      protected Semaphore computeValue(Class<?> type) {
+        return new Semaphore(maxConcurrentHandlersPerRequestType, true);
+      }
+    };
+  }
+}
@@ -0,0 +1,28 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventEmitter;
+
+/**
+ * An EventEmitter which defers the emission of Events to the end of the Command that is being dispatched on the
+ * current thread. Outside the dispatch of a Command, Events are emitted right away.
+ *
+ * @see DeferredEventScope
+ */
+final class DeferredEventEmitter implements EventEmitter {
+
+  private final EventEmitter eventEmitter;
+  private final DeferredEventScope deferredEventScope;
+
+  DeferredEventEmitter(EventEmitter eventEmitter, DeferredEventScope deferredEventScope) {
+    this.eventEmitter = eventEmitter;
+    this.deferredEventScope = deferredEventScope;
+  }
+
+  @Override
+  public void emit(Event event, Event... events) {
+    if (!deferredEventScope.defer(() -> eventEmitter.emit(event, events))) {
+      eventEmitter.emit(event, events);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.BatchPipelineStep;
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import com.compilit.mediator.api.Request;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * A PipelineBehavior which opens a scope around the dispatch of every Command. Events emitted through a
+ * DeferredEventEmitter while a scope is open are buffered instead of emitted. Once the outermost Command completes, the
+ * buffered Events are emitted in order. If it fails, they are dropped.
+ * <p>
+ * A Command that is dispatched by another Command joins the scope of the outer Command. If the inner Command fails,
+ * only the Events it emitted itself are dropped. Commands that are dispatched together in a batch share one scope.
+ */
+final class DeferredEventScope implements PipelineBehavior {
+
+  private final ThreadLocal<List<Runnable>> scope = new ThreadLocal<>();
+
+  @Override
+  public boolean appliesTo(Class<? extends Request> requestType) {
+    return Command.class.isAssignableFrom(requestType);
+  }
+
+  @Override
+  public <R> R handle(Request request, PipelineStep<R> next) {
+    return withinScope(() -> next.proceed(request));
+  }
+
+  @Override
+  public <R> List<R> handleAll(List<? extends Request> requests, BatchPipelineStep<R> next) {
+    return withinScope(() -> next.proceedAll(requests));
+  }
+
+  /**
+   * @param emission the emission of one or more Events.
+   * @return true if the emission was deferred, false if no scope is open on the current thread.
+   */
+  boolean defer(Runnable emission) {
+    var deferredEmissions = scope.get();
+    if (deferredEmissions == null) {
+      return false;
+    }
+    deferredEmissions.add(emission);
+    return true;
+  }
+
+  /**
+   * Prepares a scope for a handler which runs on another thread, on behalf of the Command dispatched on the current
+   * thread.
+   *
+   * @return the Fork, or null if no scope is open on the current thread.
+   */
+  Fork fork() {
+    var deferredEmissions = scope.get();
+    return deferredEmissions == null ? null : new Fork(deferredEmissions);
+  }
+
+  private <R> R withinScope(Supplier<R> handling) {
+    var deferredEmissions = scope.get();
+    if (deferredEmissions != null) {
+      return handleInOuterScope(handling, deferredEmissions);
+    }
+    deferredEmissions = new ArrayList<>();
+    scope.set(deferredEmissions);
+    R result;
+    try {
+      result = handling.get();
+    } finally {
+      scope.remove();
+    }
+    deferredEmissions.forEach(Runnable::run);
+    return result;
+  }
+
+  private static <R> R handleInOuterScope(Supplier<R> handling, List<Runnable> deferredEmissions) {
+    var mark = deferredEmissions.size();
+    try {
+      return handling.get();
+    } catch (RuntimeException | Error e) {
+      deferredEmissions.subList(mark, deferredEmissions.size()).clear();
+      throw e;
+    }
+  }
+
+  /**
+   * A scope of its own for a handler on another thread. The Events it defers are only added to the scope of the
+   * dispatching thread when that thread joins the Fork, so they are dropped when the dispatching thread gives up on the
+   * handler.
+   */
+  final class Fork {
+
+    private final List<Runnable> parentEmissions;
+    private final List<Runnable> deferredEmissions = new ArrayList<>();
+
+    private Fork(List<Runnable> parentEmissions) {
+      this.parentEmissions = parentEmissions;
+    }
+
+    /**
+     * Runs the callable within this scope. Called on the thread that runs the handler.
+     */
+    <R> R call(Callable<R> callable) throws Exception {
+      var previous = scope.get();
+      scope.set(deferredEmissions);
+      try {
+        return callable.call();
+      } finally {
+        if (previous == null) {
+          scope.remove();
+        } else {
+          scope.set(previous);
+        }
+      }
+    }
+
+    /**
+     * Adds the deferred Events to the scope of the dispatching thread. Called on that thread, after the handler
+     * completed.
+     */
+    void join() {
+      parentEmissions.addAll(deferredEmissions);
+    }
+  }
+}
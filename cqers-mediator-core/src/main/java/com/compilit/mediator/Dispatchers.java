@@ -1,22 +1,24 @@
 package com.compilit.mediator;
 
+import static com.compilit.mediator.ExceptionMessages.dispatchersNotInstalledMessage;
+
 import com.compilit.mediator.api.Command;
 import com.compilit.mediator.api.CommandDispatcher;
 import com.compilit.mediator.api.Event;
 import com.compilit.mediator.api.EventEmitter;
 import com.compilit.mediator.api.Query;
 import com.compilit.mediator.api.QueryDispatcher;
-import org.springframework.beans.factory.InitializingBean;
-import org.springframework.stereotype.Component;
 
 /**
  * Through these static methods you have direct access to the internal Command- and QueryDispatchers and the
  * EventEmitter. You can use them if you do not wish to inject the necessary dependencies.
+ * <p>
+ * The static methods go through a volatile reference to the installed instance, so they never lock. An instance is
+ * installed by the Spring extension, or by MediatorBootstrap when the core is used on its own.
  */
-@Component
-public class Dispatchers implements InitializingBean {
+public class Dispatchers {
 
-  private static Dispatchers instance;
+  private static volatile Dispatchers instance;
   private final CommandDispatcher commandDispatcher;
   private final QueryDispatcher queryDispatcher;
   private final EventEmitter eventEmitter;
@@ -29,11 +31,34 @@ public class Dispatchers implements InitializingBean {
     this.eventEmitter = eventEmitter;
   }
 
-  @Override
-  public void afterPropertiesSet() {
+  /**
+   * Makes this instance the target of the static methods, replacing any previously installed instance.
+   */
+  void install() {
     instance = this;
   }
 
+  /**
+   * @return the CommandDispatcher behind the static apply method.
+   */
+  public CommandDispatcher getCommandDispatcher() {
+    return commandDispatcher;
+  }
+
+  /**
+   * @return the QueryDispatcher behind the static resolve method.
+   */
+  public QueryDispatcher getQueryDispatcher() {
+    return queryDispatcher;
+  }
+
+  /**
+   * @return the EventEmitter behind the static emit method.
+   */
+  public EventEmitter getEventEmitter() {
+    return eventEmitter;
+  }
+
   /**
    * Send the query into the mediator. If a matching handler is found, return the result of this handler.
    *
@@ -42,8 +67,8 @@ public class Dispatchers implements InitializingBean {
    * @param <R>   the return type
    * @return the return value in the form of R
    */
-  public static synchronized <T extends Query<R>, R> R resolve(T query) {
-    return instance.queryDispatcher.dispatch(query);
+  public static <T extends Query<R>, R> R resolve(T query) {
+    return installed().queryDispatcher.dispatch(query);
   }
 
   /**
@@ -54,8 +79,8 @@ public class Dispatchers implements InitializingBean {
    * @param <R>     the return type
    * @return the return value in the form of R
    */
-  public static synchronized <T extends Command<R>, R> R apply(T command) {
-    return instance.commandDispatcher.dispatch(command);
+  public static <T extends Command<R>, R> R apply(T command) {
+    return installed().commandDispatcher.dispatch(command);
   }
 
   /**
@@ -65,8 +90,16 @@ public class Dispatchers implements InitializingBean {
    * @param event the event you wish to emit.
    * @param <T>   the specific type of event.
    */
-  public static synchronized <T extends Event> void emit(T event) {
-    instance.eventEmitter.emit(event);
+  public static <T extends Event> void emit(T event) {
+    installed().eventEmitter.emit(event);
+  }
+
+  private static Dispatchers installed() {
+    var dispatchers = instance;
+    if (dispatchers == null) {
+      throw new MediatorException(dispatchersNotInstalledMessage());
+    }
+    return dispatchers;
   }
 
 }
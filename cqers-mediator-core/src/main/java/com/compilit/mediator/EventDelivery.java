@@ -0,0 +1,35 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.eventHandlersFailedMessage;
+
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventHandler;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+interface EventDelivery {
+
+  void deliver(Event event, List<EventHandler<Event>> handlers);
+
+  static EventDelivery of(EventOrdering eventOrdering, Executor executor) {
+    return switch (eventOrdering) {
+      case SEQUENTIAL -> new SequentialEventDelivery();
+      case NONE -> new ParallelEventDelivery(handler -> executor);
+      case PER_HANDLER_FIFO -> new ParallelEventDelivery(new SerialExecutors(executor)::forHandler);
+    };
+  }
+
+  /**
+   * Collects the failures of a delivery into a single MediatorException. The first failure is its cause, all others
+   * are added as suppressed exceptions.
+   */
+  static MediatorException aggregate(Event event, int handlerCount, List<Throwable> failures) {
+    var exception = new MediatorException(
+      eventHandlersFailedMessage(event.getClass().getName(), failures.size(), handlerCount),
+      failures.get(0)
+    );
+    failures.stream().skip(1).forEach(exception::addSuppressed);
+    return exception;
+  }
+
+}
@@ -9,11 +9,8 @@ import java.util.function.UnaryOperator;
 
 final class EventHandlerProvider extends AbstractHandlerProvider {
 
-  private final List<? extends EventHandler<?>> eventHandlers;
-
   EventHandlerProvider(List<? extends EventHandler<?>> eventHandlers) {
-    super();
-    this.eventHandlers = eventHandlers;
+    super(eventHandlers);
   }
 
   @Override
@@ -24,23 +21,12 @@ final class EventHandlerProvider extends AbstractHandlerProvider {
     };
   }
 
-  List<EventHandler<Event>> getEventHandlers(Event event) {
-    var id = getIdFor(event);
-    if (!handlerCache.containsKey(id)) {
-      var eventHandlers = findEventHandlers(event);
-      handlerCache.put(id, new EventHandlerWrapper(eventHandlers));
-    }
-    var provider = handlerCache.get(id);
-    return (List<EventHandler<Event>>) provider.provide();
+  @Override
+  protected Provider<?> createProvider(List<? extends RequestHandler<?, ?>> requestHandlers) {
+    return new EventHandlerWrapper((List<EventHandler<Event>>) (List<?>) requestHandlers);
   }
 
-  private <T extends Event> List<EventHandler<T>> findEventHandlers(T request) {
-    var requestClass = request.getClass();
-    var requestName = requestClass.getName();
-    List<EventHandler<T>> handlers = findMatchingHandlers(
-      requestClass,
-      eventHandlers
-    );
-    return this.<EventHandler<T>>validateResult(requestName).apply(handlers);
+  List<EventHandler<Event>> getEventHandlers(Event event) {
+    return (List<EventHandler<Event>>) getProviderFor(event).provide();
   }
 }
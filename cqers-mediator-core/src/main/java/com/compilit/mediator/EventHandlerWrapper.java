@@ -2,15 +2,14 @@ package com.compilit.mediator;
 
 import com.compilit.mediator.api.Event;
 import com.compilit.mediator.api.EventHandler;
-import java.util.ArrayList;
 import java.util.List;
 
 final class EventHandlerWrapper implements Provider<List<EventHandler<Event>>> {
 
-  private final List<EventHandler<Event>> handlers = new ArrayList<>();
+  private final List<EventHandler<Event>> handlers;
 
   public EventHandlerWrapper(List<EventHandler<Event>> handlers) {
-    this.handlers.addAll(handlers);
+    this.handlers = List.copyOf(handlers);
   }
 
   @Override
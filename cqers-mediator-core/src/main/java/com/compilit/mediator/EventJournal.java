@@ -0,0 +1,78 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.journalRecordTooLargeMessage;
+
+import com.compilit.mediator.api.Event;
+import java.nio.file.Path;
+
+/**
+ * A durable, append-only log of all emitted Events. The journal is stored in segment files of a fixed size, which are
+ * memory-mapped, so appending an Event is a copy into the page cache. Records are forced to disk after every syncEvery
+ * appends; a crash can lose at most the Events appended since the last sync.
+ * <p>
+ * On startup, replay hands every journaled Event to its EventHandlers again, for example to rebuild read models.
+ */
+public final class EventJournal implements AutoCloseable {
+
+  private final JournalSegments journalSegments;
+  private final EventSerializer eventSerializer;
+  private final EventHandlerProvider eventHandlerProvider;
+
+  EventJournal(Path directory,
+               int segmentSize,
+               int syncEvery,
+               EventSerializer eventSerializer,
+               EventHandlerProvider eventHandlerProvider) {
+    this.journalSegments = new JournalSegments(directory, segmentSize, syncEvery);
+    this.eventSerializer = eventSerializer;
+    this.eventHandlerProvider = eventHandlerProvider;
+  }
+
+  /**
+   * @param event the Event to append to the journal.
+   * @throws MediatorException when the Event cannot be serialized, does not fit in a segment or the journal is closed.
+   */
+  public void append(Event event) {
+    var payload = eventSerializer.serialize(event);
+    if (payload.length > journalSegments.maxPayloadSize()) {
+      throw new MediatorException(journalRecordTooLargeMessage(
+        event.getClass().getName(),
+        payload.length + JournalSegments.RECORD_HEADER_SIZE,
+        journalSegments.maxPayloadSize() + JournalSegments.RECORD_HEADER_SIZE
+      ));
+    }
+    journalSegments.append(payload);
+  }
+
+  /**
+   * Hands every journaled Event, oldest first, to its EventHandlers. The handlers are called directly, so replayed
+   * Events are not journaled again. Events without handlers are skipped.
+   *
+   * @return the number of replayed Events.
+   */
+  public long replay() {
+    var replayed = new long[1];
+    journalSegments.forEach(payload -> {
+      var bytes = new byte[payload.remaining()];
+      payload.get(bytes);
+      var event = eventSerializer.deserialize(bytes);
+      if (eventHandlerProvider.getRequestTypes().contains(event.getClass())) {
+        eventHandlerProvider.getEventHandlers(event).forEach(eventHandler -> eventHandler.handle(event));
+        replayed[0]++;
+      }
+    });
+    return replayed[0];
+  }
+
+  /**
+   * Forces all appended Events to disk.
+   */
+  public void sync() {
+    journalSegments.sync();
+  }
+
+  @Override
+  public void close() {
+    journalSegments.close();
+  }
+}
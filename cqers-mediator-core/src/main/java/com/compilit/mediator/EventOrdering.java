@@ -0,0 +1,26 @@
+package com.compilit.mediator;
+
+/**
+ * The ordering guarantee the Mediator gives when delivering an Event to its EventHandlers.
+ */
+enum EventOrdering {
+
+  /**
+   * Handlers are invoked one after another on the emitting thread, in order of registration. A failing handler does not
+   * stop the delivery. All failures are reported together once every handler has been invoked.
+   */
+  SEQUENTIAL,
+
+  /**
+   * Handlers are invoked in parallel, without any ordering guarantee. The same handler may handle multiple events at
+   * the same time.
+   */
+  NONE,
+
+  /**
+   * Handlers are invoked in parallel, but every handler receives its events one at a time and in the order in which
+   * they were emitted.
+   */
+  PER_HANDLER_FIFO
+
+}
@@ -0,0 +1,25 @@
+package com.compilit.mediator;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the queue of a single EventHandler in the AsyncEventBus.
+ *
+ * @param handlerName       the class name of the EventHandler.
+ * @param queueDepth        the number of events waiting to be handled.
+ * @param capacity          the maximum number of events the queue can hold.
+ * @param delivered         the number of events that have been handled.
+ * @param dropped           the number of events that were dropped because the queue was full.
+ * @param failed            the number of events for which the handler threw an exception.
+ * @param lastDeliveryLag   the time the most recently delivered event spent in the queue.
+ * @param maxDeliveryLag    the longest time any delivered event spent in the queue.
+ */
+public record EventQueueMetrics(String handlerName,
+                                int queueDepth,
+                                int capacity,
+                                long delivered,
+                                long dropped,
+                                long failed,
+                                Duration lastDeliveryLag,
+                                Duration maxDeliveryLag) {
+}
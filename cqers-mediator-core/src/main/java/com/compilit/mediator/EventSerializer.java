@@ -0,0 +1,23 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Event;
+
+/**
+ * Converts Events to and from bytes, so they can be stored in the EventJournal. The default implementation uses Java
+ * serialization, which requires Events to implement Serializable.
+ */
+public interface EventSerializer {
+
+  /**
+   * @param event the Event to serialize.
+   * @return the serialized Event.
+   */
+  byte[] serialize(Event event);
+
+  /**
+   * @param bytes an Event as returned by serialize.
+   * @return the deserialized Event.
+   */
+  Event deserialize(byte[] bytes);
+
+}
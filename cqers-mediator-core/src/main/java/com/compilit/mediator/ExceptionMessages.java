@@ -1,5 +1,8 @@
 package com.compilit.mediator;
 
+import java.time.Duration;
+import java.util.List;
+
 final class ExceptionMessages {
 
   private ExceptionMessages() {
@@ -16,4 +19,114 @@ final class ExceptionMessages {
     );
   }
 
+  public static String handlerFailedMessage(String requestName) {
+    return String.format("Handler for %s failed.", requestName);
+  }
+
+  public static String handlerInterruptedMessage(String requestName) {
+    return String.format("Interrupted while waiting for the handler of %s.", requestName);
+  }
+
+  public static String virtualThreadsNotSupportedMessage() {
+    return String.format(
+      "Virtual threads are not supported by the current Java runtime (%s), Java 21 or higher is required.",
+      Runtime.version()
+    );
+  }
+
+  public static String eventHandlersFailedMessage(String eventName, int failedHandlers, int totalHandlers) {
+    return String.format("%d of %d handlers failed to handle %s.", failedHandlers, totalHandlers, eventName);
+  }
+
+  public static String batchResultSizeMismatchMessage(String requestName, int resultCount, int requestCount) {
+    return String.format(
+      "Batch handler for %s returned %d results for %d requests.",
+      requestName,
+      resultCount,
+      requestCount
+    );
+  }
+
+  public static String eventQueueFullMessage(String eventName, int rejectedHandlers, int totalHandlers) {
+    return String.format(
+      "%s was rejected by %d of %d handlers because their queue is full.",
+      eventName,
+      rejectedHandlers,
+      totalHandlers
+    );
+  }
+
+  public static String eventQueueFullOnWorkerMessage(String eventName, String handlerName) {
+    return String.format(
+      "%s was rejected because the queue of %s is full, and an event bus worker cannot wait for room in a queue.",
+      eventName,
+      handlerName
+    );
+  }
+
+  public static String eventBusClosedMessage() {
+    return "The event bus is closed and no longer accepts events.";
+  }
+
+  public static String invalidRegistrationsMessage(List<String> registrationErrors) {
+    return "Invalid handler registrations found:\n - " + String.join("\n - ", registrationErrors);
+  }
+
+  public static String unresolvableRequestTypeMessage(String handlerName) {
+    return String.format(
+      "Failed to resolve the request type of %s, so it is never invoked. Lambdas and proxies cannot be registered as "
+        + "handlers, implement the handler interface in a class instead.",
+      handlerName
+    );
+  }
+
+  public static String unhandledRequestsMessage(List<String> requestNames) {
+    return "No handlers registered for:\n - " + String.join("\n - ", requestNames);
+  }
+
+  public static String unhandledInvalidatingEventMessage(String queryName, String eventName) {
+    return String.format(
+      "%s is invalidated by %s, but no handler is registered for that Event, so it can never be emitted.",
+      queryName,
+      eventName
+    );
+  }
+
+  public static String journalFailedMessage(String path) {
+    return String.format("Failed to access the event journal at %s.", path);
+  }
+
+  public static String journalRecordTooLargeMessage(String eventName, int recordSize, int segmentSize) {
+    return String.format(
+      "%s takes %d bytes, which does not fit in a journal segment of %d bytes.",
+      eventName,
+      recordSize,
+      segmentSize
+    );
+  }
+
+  public static String journalClosedMessage() {
+    return "The event journal is closed and no longer accepts events.";
+  }
+
+  public static String eventSerializationFailedMessage(String eventName) {
+    return String.format("Failed to serialize or deserialize %s.", eventName);
+  }
+
+  public static String handlerTimedOutMessage(String requestName, Duration timeout) {
+    return String.format("Handler for %s did not complete within %d ms.", requestName, timeout.toMillis());
+  }
+
+  public static String bulkheadFullMessage(String requestName, int maxConcurrentCalls) {
+    return String.format(
+      "Rejected %s, because its handler is already executing %d times concurrently.",
+      requestName,
+      maxConcurrentCalls
+    );
+  }
+
+  public static String dispatchersNotInstalledMessage() {
+    return "No Dispatchers installed, bootstrap the mediator through the Spring extension or MediatorBootstrap.";
+  }
+
 }
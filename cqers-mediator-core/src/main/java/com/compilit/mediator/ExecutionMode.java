@@ -0,0 +1,21 @@
+package com.compilit.mediator;
+
+/**
+ * Determines on which threads the asynchronous dispatchers invoke handlers. Synchronously dispatched requests are
+ * always handled on the thread that dispatched them, so they keep its transaction and other thread-bound state.
+ */
+enum ExecutionMode {
+
+  /**
+   * Handlers of asynchronously dispatched requests are invoked on the mediator executor, which is the common
+   * ForkJoinPool unless an Executor bean named mediatorExecutor is registered.
+   */
+  CALLER_THREAD,
+
+  /**
+   * Handlers of asynchronously dispatched requests are invoked on a virtual thread of their own, unless an Executor
+   * bean named mediatorExecutor is registered. This requires Java 21 or higher.
+   */
+  VIRTUAL_THREAD
+
+}
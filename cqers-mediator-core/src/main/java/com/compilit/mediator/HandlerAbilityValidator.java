@@ -5,45 +5,112 @@ import com.compilit.mediator.api.EventHandler;
 import com.compilit.mediator.api.QueryHandler;
 import com.compilit.mediator.api.Request;
 import com.compilit.mediator.api.RequestHandler;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.lang.reflect.TypeVariable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.function.Predicate;
 
+/**
+ * Resolves the request type a RequestHandler is able to handle. Handlers listed in a generated StaticRoutingTable are
+ * looked up directly. All others are resolved by walking the generic type hierarchy of the handler class. Type
+ * variables are resolved along the way, so handlers that implement their handler interface through (a chain of)
+ * generic superclasses are resolved as well.
+ */
 final class HandlerAbilityValidator {
 
-  private static final String EVENT_PATTERN = ".*<%s>";
-  private static final String REQUEST_PATTERN = ".*<%s,.*>";
+  private static final int REQUEST_TYPE_ARGUMENT = 0;
+  private static final Set<Class<?>> HANDLER_TYPES = Set.of(
+    CommandHandler.class,
+    QueryHandler.class,
+    EventHandler.class
+  );
 
   private HandlerAbilityValidator() {}
 
   static Predicate<RequestHandler<?, ?>> handlersMatchingRequest(Class<? extends Request> requestClass) {
-    return requestHandler -> {
-      var requestHandlerClass = requestHandler.getClass();
-      var commandHandlerName = CommandHandler.class.getName();
-      var queryHandlerName = QueryHandler.class.getName();
-      var eventHandlerName = EventHandler.class.getName();
-      return Arrays.stream(requestHandlerClass.getGenericInterfaces())
-                   .map(Type::getTypeName)
-                   .filter(namesContainingOneOf(commandHandlerName, queryHandlerName, eventHandlerName))
-                   .anyMatch(matchingRequestPattern(requestClass).or(matchingEventPattern(requestClass)));
-    };
-  }
-
-  private static Predicate<String> matchingRequestPattern(Class<? extends Request> requestClass) {
-    var matcher = String.format(REQUEST_PATTERN, requestClass.getName());
-    return requestName -> requestName.matches(matcher);
-  }
-
-  private static Predicate<String> matchingEventPattern(Class<? extends Request> requestClass) {
-    var matcher = String.format(EVENT_PATTERN, requestClass.getName());
-    return requestName -> requestName.matches(matcher);
-  }
-
-  private static Predicate<String> namesContainingOneOf(String commandHandlerName,
-                                                        String queryHandlerName,
-                                                        String eventHandlerName) {
-    return interfaceName -> interfaceName.contains(commandHandlerName)
-      || interfaceName.contains(queryHandlerName)
-      || interfaceName.contains(eventHandlerName);
+    return requestHandler -> requestTypeOf(requestHandler).filter(requestClass::equals).isPresent();
+  }
+
+  static Optional<Class<?>> requestTypeOf(RequestHandler<?, ?> requestHandler) {
+    return requestTypeOf(requestHandler.getClass());
+  }
+
+  static Optional<Class<?>> requestTypeOf(Class<?> requestHandlerClass) {
+    var requestType = StaticRoutes.REQUEST_TYPES.get(requestHandlerClass);
+    if (requestType != null) {
+      return Optional.of(requestType);
+    }
+    return Optional.ofNullable(resolveRequestType(requestHandlerClass, Map.of()));
+  }
+
+  private static Class<?> resolveRequestType(Type type, Map<TypeVariable<?>, Type> typeArguments) {
+    if (type instanceof Class<?> rawType) {
+      return resolveRequestTypeFromSupertypes(rawType, Map.of());
+    }
+    if (type instanceof ParameterizedType parameterizedType) {
+      var rawType = (Class<?>) parameterizedType.getRawType();
+      var actualTypeArguments = parameterizedType.getActualTypeArguments();
+      if (HANDLER_TYPES.contains(rawType)) {
+        return toClass(resolve(actualTypeArguments[REQUEST_TYPE_ARGUMENT], typeArguments));
+      }
+      var typeParameters = rawType.getTypeParameters();
+      Map<TypeVariable<?>, Type> resolvedTypeArguments = new HashMap<>();
+      for (int i = 0; i < typeParameters.length; i++) {
+        resolvedTypeArguments.put(typeParameters[i], resolve(actualTypeArguments[i], typeArguments));
+      }
+      return resolveRequestTypeFromSupertypes(rawType, resolvedTypeArguments);
+    }
+    return null;
+  }
+
+  private static Class<?> resolveRequestTypeFromSupertypes(Class<?> rawType,
+                                                           Map<TypeVariable<?>, Type> typeArguments) {
+    for (var genericInterface : rawType.getGenericInterfaces()) {
+      var requestType = resolveRequestType(genericInterface, typeArguments);
+      if (requestType != null) {
+        return requestType;
+      }
+    }
+    var genericSuperclass = rawType.getGenericSuperclass();
+    if (genericSuperclass == null || genericSuperclass == Object.class) {
+      return null;
+    }
+    return resolveRequestType(genericSuperclass, typeArguments);
+  }
+
+  private static Type resolve(Type type, Map<TypeVariable<?>, Type> typeArguments) {
+    if (type instanceof TypeVariable<?> typeVariable) {
+      return typeArguments.getOrDefault(typeVariable, type);
+    }
+    return type;
+  }
+
+  private static Class<?> toClass(Type type) {
+    if (type instanceof Class<?> requestType) {
+      return requestType;
+    }
+    if (type instanceof ParameterizedType parameterizedType) {
+      return (Class<?>) parameterizedType.getRawType();
+    }
+    return null;
+  }
+
+  /**
+   * Holder of all generated routing tables, which are loaded on first use.
+   */
+  private static final class StaticRoutes {
+
+    private static final Map<Class<?>, Class<?>> REQUEST_TYPES = load();
+
+    private static Map<Class<?>, Class<?>> load() {
+      Map<Class<?>, Class<?>> requestTypes = new HashMap<>();
+      ServiceLoader.load(StaticRoutingTable.class).forEach(table -> requestTypes.putAll(table.getRequestTypes()));
+      return Map.copyOf(requestTypes);
+    }
   }
 }
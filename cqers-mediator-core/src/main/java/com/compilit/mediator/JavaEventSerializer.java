@@ -0,0 +1,33 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.eventSerializationFailedMessage;
+
+import com.compilit.mediator.api.Event;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+final class JavaEventSerializer implements EventSerializer {
+
+  @Override
+  public byte[] serialize(Event event) {
+    var bytes = new ByteArrayOutputStream();
+    try (var objectOutputStream = new ObjectOutputStream(bytes)) {
+      objectOutputStream.writeObject(event);
+    } catch (IOException e) {
+      throw new MediatorException(eventSerializationFailedMessage(event.getClass().getName()), e);
+    }
+    return bytes.toByteArray();
+  }
+
+  @Override
+  public Event deserialize(byte[] bytes) {
+    try (var objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (Event) objectInputStream.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new MediatorException(eventSerializationFailedMessage(Event.class.getSimpleName()), e);
+    }
+  }
+}
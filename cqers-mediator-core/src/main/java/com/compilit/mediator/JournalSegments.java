@@ -0,0 +1,180 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.journalClosedMessage;
+import static com.compilit.mediator.ExceptionMessages.journalFailedMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * An append-only store of records, split over memory-mapped segment files of a fixed size. Every record consists of its
+ * length, a CRC32C checksum and the payload. The unused remainder of a segment is filled with zeros, so a length of 0
+ * marks the end of a segment. Reading stops at the first record with an invalid checksum, which is what a write that
+ * was torn by a crash leaves behind.
+ * <p>
+ * Appends are written to the page cache and forced to disk after every syncEvery appends, on rollover to a new segment
+ * and on close. A syncEvery of 0 leaves flushing to the operating system.
+ */
+final class JournalSegments implements AutoCloseable {
+
+  static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".journal";
+  private static final String SEGMENT_NAME_FORMAT = SEGMENT_PREFIX + "%010d" + SEGMENT_SUFFIX;
+
+  private final Path directory;
+  private final int segmentSize;
+  private final int syncEvery;
+  private MappedByteBuffer activeSegment;
+  private int activeSegmentNumber;
+  private int unsyncedAppends;
+  private boolean closed;
+
+  JournalSegments(Path directory, int segmentSize, int syncEvery) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.syncEvery = syncEvery;
+    try {
+      Files.createDirectories(directory);
+      var segments = listSegments();
+      activeSegmentNumber = segments.isEmpty() ? 0 : segmentNumberOf(segments.get(segments.size() - 1));
+      activeSegment = map(activeSegmentNumber, FileChannel.MapMode.READ_WRITE);
+      recover(activeSegment);
+    } catch (IOException e) {
+      throw new MediatorException(journalFailedMessage(directory.toString()), e);
+    }
+  }
+
+  int maxPayloadSize() {
+    return segmentSize - RECORD_HEADER_SIZE;
+  }
+
+  synchronized void append(byte[] payload) {
+    if (closed) {
+      throw new MediatorException(journalClosedMessage());
+    }
+    if (activeSegment.remaining() < RECORD_HEADER_SIZE + payload.length) {
+      rollover();
+    }
+    var checksum = new CRC32C();
+    checksum.update(payload);
+    activeSegment.putInt(payload.length).putInt((int) checksum.getValue()).put(payload);
+    if (syncEvery > 0 && ++unsyncedAppends >= syncEvery) {
+      sync();
+    }
+  }
+
+  synchronized void sync() {
+    activeSegment.force();
+    unsyncedAppends = 0;
+  }
+
+  /**
+   * Passes the payload of every valid record to the consumer, oldest first. The payload is a read-only view which is
+   * only valid during the call.
+   */
+  void forEach(Consumer<ByteBuffer> consumer) {
+    try {
+      for (var segment : listSegments()) {
+        var buffer = map(segmentNumberOf(segment), FileChannel.MapMode.READ_ONLY);
+        ByteBuffer payload;
+        while ((payload = nextRecord(buffer)) != null) {
+          consumer.accept(payload);
+        }
+      }
+    } catch (IOException e) {
+      throw new MediatorException(journalFailedMessage(directory.toString()), e);
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (!closed) {
+      sync();
+      closed = true;
+    }
+  }
+
+  private void rollover() {
+    sync();
+    activeSegmentNumber++;
+    try {
+      activeSegment = map(activeSegmentNumber, FileChannel.MapMode.READ_WRITE);
+    } catch (IOException e) {
+      throw new MediatorException(journalFailedMessage(directory.toString()), e);
+    }
+  }
+
+  /**
+   * Positions the segment after its last valid record. Whatever a torn write left behind is zeroed, so it cannot be
+   * mistaken for a record once new records have been appended in front of it.
+   */
+  private static void recover(MappedByteBuffer segment) {
+    while (nextRecord(segment) != null) {
+      // skip all valid records
+    }
+    var end = segment.position();
+    if (segment.remaining() >= Integer.BYTES && segment.getInt(end) != 0) {
+      while (segment.hasRemaining()) {
+        segment.put((byte) 0);
+      }
+      segment.position(end);
+    }
+  }
+
+  private static ByteBuffer nextRecord(ByteBuffer buffer) {
+    var start = buffer.position();
+    if (buffer.remaining() < RECORD_HEADER_SIZE) {
+      return null;
+    }
+    var length = buffer.getInt();
+    var expectedChecksum = buffer.getInt();
+    if (length <= 0 || length > buffer.remaining()) {
+      buffer.position(start);
+      return null;
+    }
+    var payload = buffer.slice(buffer.position(), length).asReadOnlyBuffer();
+    var checksum = new CRC32C();
+    checksum.update(payload.duplicate());
+    if ((int) checksum.getValue() != expectedChecksum) {
+      buffer.position(start);
+      return null;
+    }
+    buffer.position(buffer.position() + length);
+    return payload;
+  }
+
+  private MappedByteBuffer map(int segmentNumber, FileChannel.MapMode mapMode) throws IOException {
+    var segment = directory.resolve(String.format(SEGMENT_NAME_FORMAT, segmentNumber));
+    var options = mapMode == FileChannel.MapMode.READ_ONLY
+      ? new StandardOpenOption[]{StandardOpenOption.READ}
+      : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+    try (var channel = FileChannel.open(segment, options)) {
+      var size = mapMode == FileChannel.MapMode.READ_ONLY ? channel.size() : segmentSize;
+      return channel.map(mapMode, 0, size);
+    }
+  }
+
+  private List<Path> listSegments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(file -> {
+        var name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+      }).sorted().toList();
+    }
+  }
+
+  private static int segmentNumberOf(Path segment) {
+    var name = segment.getFileName().toString();
+    return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+  }
+}
@@ -0,0 +1,27 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventEmitter;
+
+/**
+ * An EventEmitter which appends every Event to the EventJournal before emitting it.
+ */
+final class JournalingEventEmitter implements EventEmitter {
+
+  private final EventEmitter eventEmitter;
+  private final EventJournal eventJournal;
+
+  JournalingEventEmitter(EventEmitter eventEmitter, EventJournal eventJournal) {
+    this.eventEmitter = eventEmitter;
+    this.eventJournal = eventJournal;
+  }
+
+  @Override
+  public void emit(Event event, Event... events) {
+    eventJournal.append(event);
+    for (var e : events) {
+      eventJournal.append(e);
+    }
+    eventEmitter.emit(event, events);
+  }
+}
@@ -0,0 +1,71 @@
+package com.compilit.mediator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram with log-linear buckets. Values below 16 get a bucket of their own. Every power of two above
+ * that is split into 16 equally sized buckets, so any recorded value is reported with a relative error of at most
+ * 1/16th. Recording a value does not allocate.
+ */
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong max = new AtomicLong();
+
+  void record(long value) {
+    var nonNegativeValue = Math.max(0, value);
+    counts.incrementAndGet(bucketOf(nonNegativeValue));
+    if (nonNegativeValue > max.get()) {
+      max.accumulateAndGet(nonNegativeValue, Math::max);
+    }
+  }
+
+  long getMax() {
+    return max.get();
+  }
+
+  /**
+   * @param percentile a percentile between 0 and 100.
+   * @return the highest value of the bucket which contains the given percentile, or 0 if nothing was recorded.
+   */
+  long getValueAtPercentile(double percentile) {
+    var snapshot = new long[BUCKETS];
+    long total = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      snapshot[bucket] = counts.get(bucket);
+      total += snapshot[bucket];
+    }
+    var target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+    long cumulative = 0;
+    for (int bucket = 0; bucket < BUCKETS && total > 0; bucket++) {
+      cumulative += snapshot[bucket];
+      if (cumulative >= target) {
+        return Math.min(highestValueOf(bucket), getMax());
+      }
+    }
+    return 0;
+  }
+
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    var magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    var subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long highestValueOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    var shift = bucket / SUB_BUCKETS - 1;
+    var lowestValue = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lowestValue + (1L << shift) - 1;
+  }
+}
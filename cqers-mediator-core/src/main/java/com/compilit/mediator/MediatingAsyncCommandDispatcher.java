@@ -0,0 +1,24 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.AsyncCommandDispatcher;
+import com.compilit.mediator.api.Command;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+
+final class MediatingAsyncCommandDispatcher implements AsyncCommandDispatcher {
+
+  private final Mediator mediator;
+  private final Executor executor;
+
+  public MediatingAsyncCommandDispatcher(Mediator mediator, Executor executor) {
+    this.mediator = mediator;
+    this.executor = executor;
+  }
+
+  @Override
+  public <T> CompletableFuture<T> dispatch(Command<T> command) {
+    return CompletableFuture.supplyAsync(() -> mediator.mediateCommand(command), executor);
+  }
+
+}
@@ -0,0 +1,29 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.AsyncEventEmitter;
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventEmitter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Emits Events through the EventEmitter on the Executor, so they pass through the same event bus and EventJournal as
+ * Events emitted synchronously. The emission runs on another thread, so it is outside the Command and the transaction of
+ * the calling thread: the Events are not deferred until these complete.
+ */
+final class MediatingAsyncEventEmitter implements AsyncEventEmitter {
+
+  private final EventEmitter eventEmitter;
+  private final Executor executor;
+
+  public MediatingAsyncEventEmitter(EventEmitter eventEmitter, Executor executor) {
+    this.eventEmitter = eventEmitter;
+    this.executor = executor;
+  }
+
+  @Override
+  public CompletableFuture<Void> emit(Event event, Event... events) {
+    return CompletableFuture.runAsync(() -> eventEmitter.emit(event, events), executor);
+  }
+
+}
@@ -0,0 +1,24 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.AsyncQueryDispatcher;
+import com.compilit.mediator.api.Query;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+
+final class MediatingAsyncQueryDispatcher implements AsyncQueryDispatcher {
+
+  private final Mediator mediator;
+  private final Executor executor;
+
+  public MediatingAsyncQueryDispatcher(Mediator mediator, Executor executor) {
+    this.mediator = mediator;
+    this.executor = executor;
+  }
+
+  @Override
+  public <T> CompletableFuture<T> dispatch(Query<T> query) {
+    return CompletableFuture.supplyAsync(() -> mediator.mediateQuery(query), executor);
+  }
+
+}
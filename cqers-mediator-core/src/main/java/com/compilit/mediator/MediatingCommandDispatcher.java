@@ -3,6 +3,8 @@ package com.compilit.mediator;
 import com.compilit.mediator.api.Command;
 import com.compilit.mediator.api.CommandDispatcher;
 import com.compilit.mediator.api.SimpleCommand;
+import java.util.Collection;
+import java.util.List;
 
 
 final class MediatingCommandDispatcher implements CommandDispatcher {
@@ -28,4 +30,9 @@ final class MediatingCommandDispatcher implements CommandDispatcher {
     }
   }
 
+  @Override
+  public <T> List<T> dispatchAll(Collection<? extends Command<T>> commands) {
+    return mediator.mediateCommands(commands);
+  }
+
 }
@@ -2,6 +2,8 @@ package com.compilit.mediator;
 
 import com.compilit.mediator.api.Query;
 import com.compilit.mediator.api.QueryDispatcher;
+import java.util.Collection;
+import java.util.List;
 
 
 final class MediatingQueryDispatcher implements QueryDispatcher {
@@ -17,4 +19,9 @@ final class MediatingQueryDispatcher implements QueryDispatcher {
     return mediator.mediateQuery(query);
   }
 
+  @Override
+  public <T> List<T> resolveAll(Collection<? extends Query<T>> queries) {
+    return mediator.mediateQueries(queries);
+  }
+
 }
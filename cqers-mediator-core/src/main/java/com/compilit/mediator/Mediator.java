@@ -3,6 +3,8 @@ package com.compilit.mediator;
 import com.compilit.mediator.api.Command;
 import com.compilit.mediator.api.Event;
 import com.compilit.mediator.api.Query;
+import java.util.Collection;
+import java.util.List;
 
 interface Mediator {
 
@@ -12,4 +14,8 @@ interface Mediator {
 
   <T extends Event> void mediateEvent(T event);
 
+  <R> List<R> mediateCommands(Collection<? extends Command<R>> commands);
+
+  <R> List<R> mediateQueries(Collection<? extends Query<R>> queries);
+
 }
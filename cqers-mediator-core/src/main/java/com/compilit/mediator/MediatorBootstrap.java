@@ -0,0 +1,93 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.invalidRegistrationsMessage;
+
+import com.compilit.mediator.api.CommandHandler;
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.QueryHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Bootstraps the mediator without a framework. Register all handlers and PipelineBehaviors, then call start to get the
+ * Dispatchers. These are installed as well, so the static methods of Dispatchers can be used right away.
+ * <pre>{@code
+ * var dispatchers = MediatorBootstrap.create()
+ *   .withCommandHandlers(new PlaceOrderHandler())
+ *   .withQueryHandlers(new GetOrderHandler())
+ *   .withEventHandlers(new OrderPlacedHandler())
+ *   .start();
+ * }</pre>
+ */
+public final class MediatorBootstrap {
+
+  private final List<CommandHandler<?, ?>> commandHandlers = new ArrayList<>();
+  private final List<QueryHandler<?, ?>> queryHandlers = new ArrayList<>();
+  private final List<EventHandler<?>> eventHandlers = new ArrayList<>();
+  private final List<PipelineBehavior> pipelineBehaviors = new ArrayList<>();
+
+  private MediatorBootstrap() {
+  }
+
+  public static MediatorBootstrap create() {
+    return new MediatorBootstrap();
+  }
+
+  public MediatorBootstrap withCommandHandlers(CommandHandler<?, ?>... commandHandlers) {
+    this.commandHandlers.addAll(List.of(commandHandlers));
+    return this;
+  }
+
+  public MediatorBootstrap withQueryHandlers(QueryHandler<?, ?>... queryHandlers) {
+    this.queryHandlers.addAll(List.of(queryHandlers));
+    return this;
+  }
+
+  public MediatorBootstrap withEventHandlers(EventHandler<?>... eventHandlers) {
+    this.eventHandlers.addAll(List.of(eventHandlers));
+    return this;
+  }
+
+  /**
+   * @param pipelineBehaviors the behaviors to compose around the handlers, outermost first.
+   * @return this MediatorBootstrap.
+   */
+  public MediatorBootstrap withPipelineBehaviors(PipelineBehavior... pipelineBehaviors) {
+    this.pipelineBehaviors.addAll(List.of(pipelineBehaviors));
+    return this;
+  }
+
+  /**
+   * Creates the mediator and installs its Dispatchers.
+   *
+   * @return the installed Dispatchers.
+   * @throws MediatorException when a Command or Query has multiple handlers.
+   */
+  public Dispatchers start() {
+    var commandHandlerProvider = new CommandHandlerProvider(commandHandlers);
+    var queryHandlerProvider = new QueryHandlerProvider(queryHandlers);
+    var eventHandlerProvider = new EventHandlerProvider(eventHandlers);
+    var registrationErrors = Stream.of(commandHandlerProvider, queryHandlerProvider, eventHandlerProvider)
+      .flatMap(handlerProvider -> handlerProvider.getRegistrationErrors().stream())
+      .toList();
+    if (!registrationErrors.isEmpty()) {
+      throw new MediatorException(invalidRegistrationsMessage(registrationErrors));
+    }
+    var mediator = new RequestMediator(
+      commandHandlerProvider,
+      queryHandlerProvider,
+      eventHandlerProvider,
+      new SequentialEventDelivery(),
+      pipelineBehaviors
+    );
+    var dispatchers = new Dispatchers(
+      new MediatingCommandDispatcher(mediator),
+      new MediatingQueryDispatcher(mediator),
+      new MediatingEventEmitter(mediator)
+    );
+    dispatchers.install();
+    return dispatchers;
+  }
+}
@@ -6,4 +6,8 @@ public final class MediatorException extends RuntimeException {
     super(message);
   }
 
+  MediatorException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
 }
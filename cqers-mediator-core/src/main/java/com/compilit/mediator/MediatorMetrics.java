@@ -0,0 +1,26 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Request;
+
+/**
+ * Receives the dispatch metrics of the Mediator. Every dispatched request is reported once when its handling starts and
+ * once when it completes. Both methods are called on the dispatching thread, so implementations must be thread-safe
+ * and should not block or lock.
+ *
+ * @see RequestMetricsRecorder
+ */
+public interface MediatorMetrics {
+
+  /**
+   * @param requestType the type of the Command, Query or Event whose handling has started.
+   */
+  void requestStarted(Class<? extends Request> requestType);
+
+  /**
+   * @param requestType   the type of the Command, Query or Event whose handling has completed.
+   * @param durationNanos the time the handling took, in nanoseconds.
+   * @param failed        whether the handling ended with an exception.
+   */
+  void requestCompleted(Class<? extends Request> requestType, long durationNanos, boolean failed);
+
+}
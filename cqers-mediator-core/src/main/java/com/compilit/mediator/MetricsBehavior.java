@@ -0,0 +1,53 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.BatchPipelineStep;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import com.compilit.mediator.api.Request;
+import java.util.List;
+
+/**
+ * Reports the handling of every request to the MediatorMetrics. Place it first in the chain to measure the other
+ * behaviors as well. A batch is reported as one dispatch per request, each taking as long as the whole batch.
+ */
+final class MetricsBehavior implements PipelineBehavior {
+
+  private final MediatorMetrics mediatorMetrics;
+
+  MetricsBehavior(MediatorMetrics mediatorMetrics) {
+    this.mediatorMetrics = mediatorMetrics;
+  }
+
+  @Override
+  public <R> R handle(Request request, PipelineStep<R> next) {
+    var requestType = request.getClass();
+    mediatorMetrics.requestStarted(requestType);
+    var start = System.nanoTime();
+    var failed = true;
+    try {
+      var result = next.proceed(request);
+      failed = false;
+      return result;
+    } finally {
+      mediatorMetrics.requestCompleted(requestType, System.nanoTime() - start, failed);
+    }
+  }
+
+  @Override
+  public <R> List<R> handleAll(List<? extends Request> requests, BatchPipelineStep<R> next) {
+    var requestType = requests.get(0).getClass();
+    requests.forEach(request -> mediatorMetrics.requestStarted(requestType));
+    var start = System.nanoTime();
+    var failed = true;
+    try {
+      var results = next.proceedAll(requests);
+      failed = false;
+      return results;
+    } finally {
+      var duration = System.nanoTime() - start;
+      for (int i = 0; i < requests.size(); i++) {
+        mediatorMetrics.requestCompleted(requestType, duration, failed);
+      }
+    }
+  }
+}
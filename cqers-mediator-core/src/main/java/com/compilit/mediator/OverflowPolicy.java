@@ -0,0 +1,28 @@
+package com.compilit.mediator;
+
+/**
+ * Determines what the AsyncEventBus does when an Event is emitted while the queue of one of its handlers is full.
+ */
+enum OverflowPolicy {
+
+  /**
+   * The emitting thread waits until there is room in the queue.
+   */
+  BLOCK,
+
+  /**
+   * The oldest queued Event is dropped to make room for the new Event.
+   */
+  DROP_OLDEST,
+
+  /**
+   * The new Event is dropped.
+   */
+  DROP_NEWEST,
+
+  /**
+   * The new Event is rejected with a MediatorException.
+   */
+  FAIL
+
+}
@@ -0,0 +1,44 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Delivers an Event to all its handlers in parallel and waits until every handler is done. Instead of stopping at the
+ * first failure, all failures are collected into a single MediatorException. The first failure is its cause, all
+ * others are added as suppressed exceptions.
+ */
+final class ParallelEventDelivery implements EventDelivery {
+
+  private final Function<EventHandler<Event>, Executor> executorSelector;
+
+  ParallelEventDelivery(Function<EventHandler<Event>, Executor> executorSelector) {
+    this.executorSelector = executorSelector;
+  }
+
+  @Override
+  public void deliver(Event event, List<EventHandler<Event>> handlers) {
+    List<CompletableFuture<Void>> deliveries = new ArrayList<>(handlers.size());
+    for (var handler : handlers) {
+      deliveries.add(CompletableFuture.runAsync(() -> handler.handle(event), executorSelector.apply(handler)));
+    }
+    List<Throwable> failures = new ArrayList<>();
+    for (var delivery : deliveries) {
+      try {
+        delivery.join();
+      } catch (CompletionException exception) {
+        failures.add(exception.getCause());
+      }
+    }
+    if (!failures.isEmpty()) {
+      throw EventDelivery.aggregate(event, handlers.size(), failures);
+    }
+  }
+
+}
@@ -0,0 +1,78 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.BatchPipelineStep;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import com.compilit.mediator.api.Request;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Composes the chains of PipelineBehaviors around the handler step of every known request type, and around the batch
+ * handler step of every known Command and Query type. This happens once on
+ * construction of the Mediator, so dispatching through a chain does not allocate anything by itself. Request types to
+ * which no behavior applies get no chain at all, so they are handled without any overhead.
+ */
+final class Pipelines {
+
+  private Pipelines() {
+  }
+
+  static Map<Class<?>, PipelineStep<Object>> compose(Set<Class<?>> requestTypes,
+                                                     List<PipelineBehavior> behaviors,
+                                                     PipelineStep<Object> handlerStep) {
+    if (behaviors.isEmpty()) {
+      return Map.of();
+    }
+    Map<Class<?>, PipelineStep<Object>> pipelines = new HashMap<>();
+    for (var requestType : requestTypes) {
+      var pipeline = compose((Class<? extends Request>) requestType, behaviors, handlerStep);
+      if (pipeline != handlerStep) {
+        pipelines.put(requestType, pipeline);
+      }
+    }
+    return Map.copyOf(pipelines);
+  }
+
+  /**
+   * @return the chain of the behaviors that apply to the request type, or the handler step itself if none do.
+   */
+  static PipelineStep<Object> compose(Class<? extends Request> requestType,
+                                              List<PipelineBehavior> behaviors,
+                                              PipelineStep<Object> handlerStep) {
+    var step = handlerStep;
+    for (int i = behaviors.size() - 1; i >= 0; i--) {
+      var behavior = behaviors.get(i);
+      if (behavior.appliesTo(requestType)) {
+        var next = step;
+        step = request -> behavior.handle(request, next);
+      }
+    }
+    return step;
+  }
+
+  static Map<Class<?>, BatchPipelineStep<Object>> composeBatches(Set<Class<?>> requestTypes,
+                                                                 List<PipelineBehavior> behaviors,
+                                                                 BatchPipelineStep<Object> handlerStep) {
+    if (behaviors.isEmpty()) {
+      return Map.of();
+    }
+    Map<Class<?>, BatchPipelineStep<Object>> pipelines = new HashMap<>();
+    for (var requestType : requestTypes) {
+      var step = handlerStep;
+      for (int i = behaviors.size() - 1; i >= 0; i--) {
+        var behavior = behaviors.get(i);
+        if (behavior.appliesTo((Class<? extends Request>) requestType)) {
+          var next = step;
+          step = requests -> behavior.handleAll(requests, next);
+        }
+      }
+      if (step != handlerStep) {
+        pipelines.put(requestType, step);
+      }
+    }
+    return Map.copyOf(pipelines);
+  }
+}
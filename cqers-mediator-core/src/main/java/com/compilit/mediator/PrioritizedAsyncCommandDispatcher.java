@@ -0,0 +1,76 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.AsyncCommandDispatcher;
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.Prioritized;
+import com.compilit.mediator.api.PrioritizedCommand;
+import com.compilit.mediator.api.Priority;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * An AsyncCommandDispatcher which lets Commands wait in priority lanes, so a burst of bulk Commands cannot starve
+ * latency-critical ones. The priority of a Command is taken from PrioritizedCommand.getPriority, then from the
+ * Prioritized annotation on its type, and is NORMAL otherwise.
+ *
+ * @see PriorityLanes
+ */
+public final class PrioritizedAsyncCommandDispatcher implements AsyncCommandDispatcher {
+
+  private static final ClassValue<Priority> ANNOTATED_PRIORITIES = new ClassValue<>() {
+    @Override
+    protected Priority computeValue(Class<?> commandType) {
+      var prioritized = commandType.getAnnotation(Prioritized.class);
+      return prioritized == null ? Priority.NORMAL : prioritized.value();
+    }
+  };
+  private final Mediator mediator;
+  private final PriorityLanes priorityLanes;
+
+  /**
+   * @param mediator    the Mediator which handles the Commands.
+   * @param executor    the Executor the Commands are handled on.
+   * @param parallelism the maximum number of Commands handled at the same time.
+   * @param weights     the share of the parallelism each Priority gets while other lanes have Commands waiting.
+   */
+  PrioritizedAsyncCommandDispatcher(Mediator mediator,
+                                    Executor executor,
+                                    int parallelism,
+                                    Map<Priority, Integer> weights) {
+    this.mediator = mediator;
+    this.priorityLanes = new PriorityLanes(executor, parallelism, weights);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> dispatch(Command<T> command) {
+    var priority = priorityOf(command);
+    return CompletableFuture.supplyAsync(
+      () -> mediator.mediateCommand(command),
+      task -> priorityLanes.execute(priority, task)
+    );
+  }
+
+  /**
+   * @return a snapshot of every priority lane.
+   */
+  public List<CommandLaneMetrics> getLaneMetrics() {
+    return priorityLanes.getMetrics();
+  }
+
+  /**
+   * @param priority the Priority of the lane.
+   * @return a snapshot of the lane of the given Priority.
+   */
+  public CommandLaneMetrics getLaneMetrics(Priority priority) {
+    return priorityLanes.getMetrics(priority);
+  }
+
+  static Priority priorityOf(Command<?> command) {
+    if (command instanceof PrioritizedCommand<?> prioritizedCommand && prioritizedCommand.getPriority() != null) {
+      return prioritizedCommand.getPriority();
+    }
+    return ANNOTATED_PRIORITIES.get(command.getClass());
+  }
+}
@@ -0,0 +1,161 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Priority;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs tasks on a shared Executor, using at most parallelism of its threads. Tasks wait in the lane of their Priority
+ * until a worker is free. Workers pick the next lane by smooth weighted round-robin over the lanes with waiting tasks,
+ * so each lane gets a share of the workers proportional to its weight and no lane starves, however busy the others
+ * are.
+ */
+final class PriorityLanes {
+
+  private static final Priority[] PRIORITIES = Priority.values();
+  private final Executor executor;
+  private final int parallelism;
+  private final Lane[] lanes;
+  private int activeWorkers;
+
+  /**
+   * @param executor    the Executor the workers run on.
+   * @param parallelism the maximum number of tasks running at the same time.
+   * @param weights     the weight of every Priority. A Priority without a weight gets a weight of 1.
+   */
+  PriorityLanes(Executor executor, int parallelism, Map<Priority, Integer> weights) {
+    this.executor = executor;
+    this.parallelism = Math.max(1, parallelism);
+    this.lanes = Arrays.stream(PRIORITIES)
+      .map(priority -> new Lane(priority, Math.max(1, weights.getOrDefault(priority, 1))))
+      .toArray(Lane[]::new);
+  }
+
+  /**
+   * @throws RejectedExecutionException if the Executor rejects the worker that would run the task. The task is then
+   *                                    taken out of its lane again, unless a running worker already picked it up, in
+   *                                    which case it is not rejected.
+   */
+  void execute(Priority priority, Runnable task) {
+    var lane = lanes[priority.ordinal()];
+    QueuedTask queuedTask;
+    synchronized (this) {
+      queuedTask = lane.add(task);
+      if (activeWorkers >= parallelism) {
+        return;
+      }
+      activeWorkers++;
+    }
+    try {
+      executor.execute(this::work);
+    } catch (RejectedExecutionException e) {
+      synchronized (this) {
+        activeWorkers--;
+        if (lane.remove(queuedTask)) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  synchronized List<CommandLaneMetrics> getMetrics() {
+    return Arrays.stream(lanes).map(Lane::toMetrics).toList();
+  }
+
+  synchronized CommandLaneMetrics getMetrics(Priority priority) {
+    return lanes[priority.ordinal()].toMetrics();
+  }
+
+  private void work() {
+    Runnable task;
+    while ((task = next()) != null) {
+      task.run();
+    }
+  }
+
+  /**
+   * Picks the task of the lane with the highest current weight. The current weight of every lane with waiting tasks is
+   * raised by its weight, and that of the picked lane lowered by the total, which interleaves the lanes smoothly
+   * instead of in bursts. Retires the calling worker when no task is waiting.
+   */
+  private synchronized Runnable next() {
+    Lane selected = null;
+    int totalWeight = 0;
+    for (var lane : lanes) {
+      if (!lane.isEmpty()) {
+        lane.currentWeight += lane.weight;
+        totalWeight += lane.weight;
+        if (selected == null || lane.currentWeight > selected.currentWeight) {
+          selected = lane;
+        }
+      }
+    }
+    if (selected == null) {
+      activeWorkers--;
+      return null;
+    }
+    selected.currentWeight -= totalWeight;
+    return selected.poll();
+  }
+
+  private static final class Lane {
+
+    private final Priority priority;
+    private final int weight;
+    private final Queue<QueuedTask> tasks = new ArrayDeque<>();
+    private int currentWeight;
+    private int maxQueueDepth;
+    private long started;
+    private long lastQueueWaitNanos;
+    private long maxQueueWaitNanos;
+
+    private Lane(Priority priority, int weight) {
+      this.priority = priority;
+      this.weight = weight;
+    }
+
+    private boolean isEmpty() {
+      return tasks.isEmpty();
+    }
+
+    private QueuedTask add(Runnable task) {
+      var queuedTask = new QueuedTask(task, System.nanoTime());
+      tasks.add(queuedTask);
+      maxQueueDepth = Math.max(maxQueueDepth, tasks.size());
+      return queuedTask;
+    }
+
+    private boolean remove(QueuedTask queuedTask) {
+      return tasks.remove(queuedTask);
+    }
+
+    private Runnable poll() {
+      var queuedTask = tasks.poll();
+      started++;
+      lastQueueWaitNanos = System.nanoTime() - queuedTask.enqueuedAt();
+      maxQueueWaitNanos = Math.max(maxQueueWaitNanos, lastQueueWaitNanos);
+      return queuedTask.task();
+    }
+
+    private CommandLaneMetrics toMetrics() {
+      return new CommandLaneMetrics(
+        priority,
+        weight,
+        tasks.size(),
+        maxQueueDepth,
+        started,
+        Duration.ofNanos(lastQueueWaitNanos),
+        Duration.ofNanos(maxQueueWaitNanos)
+      );
+    }
+  }
+
+  private record QueuedTask(Runnable task, long enqueuedAt) {
+  }
+}
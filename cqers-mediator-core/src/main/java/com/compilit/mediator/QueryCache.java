@@ -0,0 +1,219 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.unhandledInvalidatingEventMessage;
+
+import com.compilit.mediator.api.BatchPipelineStep;
+import com.compilit.mediator.api.CacheableQuery;
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.InvalidatedBy;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import com.compilit.mediator.api.Request;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A PipelineBehavior which caches the results of CacheableQueries, using the Query itself as key. Each Query type has
+ * its own least-recently-used cache with a maximum size, and results expire after a fixed time to live. When an Event
+ * that is listed in the InvalidatedBy annotation of a Query type has been handled, all cached results of that Query
+ * type are evicted, also when one of its handlers failed. Exceptions are never cached, and neither are results of Queries that were already being handled
+ * when their cache was invalidated. Of a batch of Queries, only the Queries without a cached result are passed on, as a
+ * single batch.
+ */
+public final class QueryCache implements PipelineBehavior {
+
+  private final Map<Class<?>, LruCache> caches;
+  private final Map<Class<?>, List<LruCache>> invalidations;
+  private final int maximumSize;
+  private final long timeToLiveNanos;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder invalidated = new LongAdder();
+
+  /**
+   * @param queryTypes  all Query types known to the Mediator. Only CacheableQueries are cached.
+   * @param eventTypes  all Event types known to the Mediator.
+   * @param maximumSize the maximum number of results kept per Query type.
+   * @param timeToLive  the time after which a cached result expires.
+   * @throws MediatorException if an Event type in an InvalidatedBy annotation has no handler, since such an Event can
+   *                           not be emitted and would never invalidate anything.
+   */
+  QueryCache(Set<Class<?>> queryTypes, Set<Class<?>> eventTypes, int maximumSize, Duration timeToLive) {
+    this.maximumSize = maximumSize;
+    this.timeToLiveNanos = timeToLive.toNanos();
+    Map<Class<?>, LruCache> cachesByQueryType = new HashMap<>();
+    Map<Class<?>, List<LruCache>> cachesByEventType = new HashMap<>();
+    for (var queryType : queryTypes) {
+      if (CacheableQuery.class.isAssignableFrom(queryType)) {
+        var cache = new LruCache();
+        cachesByQueryType.put(queryType, cache);
+        var invalidatedBy = queryType.getAnnotation(InvalidatedBy.class);
+        if (invalidatedBy != null) {
+          for (var eventType : invalidatedBy.value()) {
+            if (!eventTypes.contains(eventType)) {
+              throw new MediatorException(unhandledInvalidatingEventMessage(queryType.getName(), eventType.getName()));
+            }
+            cachesByEventType.computeIfAbsent(eventType, x -> new ArrayList<>()).add(cache);
+          }
+        }
+      }
+    }
+    this.caches = Map.copyOf(cachesByQueryType);
+    this.invalidations = Map.copyOf(cachesByEventType);
+  }
+
+  @Override
+  public boolean appliesTo(Class<? extends Request> requestType) {
+    return caches.containsKey(requestType) || invalidations.containsKey(requestType);
+  }
+
+  @Override
+  public <R> R handle(Request request, PipelineStep<R> next) {
+    if (request instanceof Event) {
+      try {
+        return next.proceed(request);
+      } finally {
+        invalidate(request.getClass());
+      }
+    }
+    var cache = caches.get(request.getClass());
+    var cached = cache.get(request);
+    if (cached != null) {
+      hits.increment();
+      return (R) cached.value();
+    }
+    misses.increment();
+    var generation = cache.generation();
+    var result = next.proceed(request);
+    cache.put(request, new CachedResult(result, System.nanoTime() + timeToLiveNanos), generation);
+    return result;
+  }
+
+  @Override
+  public <R> List<R> handleAll(List<? extends Request> requests, BatchPipelineStep<R> next) {
+    var cache = caches.get(requests.get(0).getClass());
+    if (cache == null) {
+      return next.proceedAll(requests);
+    }
+    var results = new Object[requests.size()];
+    List<Request> missedRequests = new ArrayList<>();
+    List<Integer> missedIndexes = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      var cached = cache.get(requests.get(i));
+      if (cached != null) {
+        results[i] = cached.value();
+      } else {
+        missedRequests.add(requests.get(i));
+        missedIndexes.add(i);
+      }
+    }
+    hits.add(requests.size() - missedRequests.size());
+    if (!missedRequests.isEmpty()) {
+      misses.add(missedRequests.size());
+      var generation = cache.generation();
+      var handled = RequestBatch.checkSize(
+        requests.get(0).getClass(),
+        next.proceedAll(missedRequests),
+        missedRequests.size()
+      );
+      var expiresAt = System.nanoTime() + timeToLiveNanos;
+      for (int i = 0; i < handled.size(); i++) {
+        results[missedIndexes.get(i)] = handled.get(i);
+        cache.put(missedRequests.get(i), new CachedResult(handled.get(i), expiresAt), generation);
+      }
+    }
+    return (List<R>) Arrays.asList(results);
+  }
+
+  /**
+   * Evicts all cached results.
+   */
+  public void invalidateAll() {
+    caches.values().forEach(this::invalidate);
+  }
+
+  /**
+   * @return a snapshot of the statistics of this cache.
+   */
+  public QueryCacheStatistics getStatistics() {
+    var size = caches.values().stream().mapToLong(LruCache::size).sum();
+    return new QueryCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), invalidated.sum(), size);
+  }
+
+  private void invalidate(Class<?> eventType) {
+    var invalidatedCaches = invalidations.get(eventType);
+    if (invalidatedCaches != null) {
+      invalidatedCaches.forEach(this::invalidate);
+    }
+  }
+
+  private void invalidate(LruCache cache) {
+    invalidated.add(cache.clear());
+  }
+
+  private record CachedResult(Object value, long expiresAt) {
+
+    private boolean isExpired(long now) {
+      return now - expiresAt >= 0;
+    }
+  }
+
+  private final class LruCache {
+
+    private long generation;
+
+    private final LinkedHashMap<Object, CachedResult> entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Object, CachedResult> eldest) {
+        if (size() > maximumSize) {
+          evictions.increment();
+          return true;
+        }
+        return false;
+      }
+    };
+
+    private synchronized CachedResult get(Object key) {
+      var cachedResult = entries.get(key);
+      if (cachedResult != null && cachedResult.isExpired(System.nanoTime())) {
+        entries.remove(key);
+        evictions.increment();
+        return null;
+      }
+      return cachedResult;
+    }
+
+    private synchronized long generation() {
+      return generation;
+    }
+
+    /**
+     * Only stores the result if the cache has not been cleared since the given generation, so a result computed
+     * before an invalidation does not outlive it.
+     */
+    private synchronized void put(Object key, CachedResult cachedResult, long expectedGeneration) {
+      if (generation == expectedGeneration) {
+        entries.put(key, cachedResult);
+      }
+    }
+
+    private synchronized int clear() {
+      generation++;
+      var size = entries.size();
+      entries.clear();
+      return size;
+    }
+
+    private synchronized int size() {
+      return entries.size();
+    }
+  }
+}
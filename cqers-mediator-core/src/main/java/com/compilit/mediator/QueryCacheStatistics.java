@@ -0,0 +1,21 @@
+package com.compilit.mediator;
+
+/**
+ * A snapshot of the statistics of the QueryCache.
+ *
+ * @param hits          the number of queries that were answered from the cache.
+ * @param misses        the number of queries that had to be handled by their QueryHandler.
+ * @param evictions     the number of results that were removed because the cache was full or the result expired.
+ * @param invalidations the number of results that were removed because of an Event.
+ * @param size          the number of results currently in the cache.
+ */
+public record QueryCacheStatistics(long hits, long misses, long evictions, long invalidations, long size) {
+
+  /**
+   * @return the ratio of hits to all cache lookups, or 0 if there were no lookups yet.
+   */
+  public double hitRate() {
+    var lookups = hits + misses;
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+}
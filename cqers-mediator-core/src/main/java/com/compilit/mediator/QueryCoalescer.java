@@ -0,0 +1,98 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.BatchPipelineStep;
+import com.compilit.mediator.api.CoalescableQuery;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import com.compilit.mediator.api.Request;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A PipelineBehavior which lets concurrent dispatches of equal CoalescableQueries share a single handler execution. The
+ * first dispatch invokes the QueryHandler, all equal Queries which are dispatched while it is in flight wait for it and
+ * receive the same result or exception. Queries are compared using equals and hashCode, so Queries without value
+ * semantics are never coalesced. Batches of Queries are passed on as a whole, without being coalesced.
+ * <p>
+ * An equal Query which is dispatched on the thread that is handling the Query in flight, such as from within its own
+ * handler, is handled on its own, since waiting for the Query in flight would mean waiting for itself.
+ */
+public final class QueryCoalescer implements PipelineBehavior {
+
+  private final ConcurrentMap<Request, Flight> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder collapsedCalls = new LongAdder();
+
+  QueryCoalescer() {
+  }
+
+  @Override
+  public boolean appliesTo(Class<? extends Request> requestType) {
+    return CoalescableQuery.class.isAssignableFrom(requestType);
+  }
+
+  @Override
+  public <R> R handle(Request request, PipelineStep<R> next) {
+    var flight = new Flight(new CompletableFuture<>(), Thread.currentThread());
+    var existingFlight = inFlight.putIfAbsent(request, flight);
+    if (existingFlight != null) {
+      if (existingFlight.owner() == Thread.currentThread()) {
+        executions.increment();
+        return next.proceed(request);
+      }
+      collapsedCalls.increment();
+      return await(existingFlight.result());
+    }
+    executions.increment();
+    try {
+      var result = next.proceed(request);
+      inFlight.remove(request, flight);
+      flight.result().complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(request, flight);
+      flight.result().completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  @Override
+  public <R> List<R> handleAll(List<? extends Request> requests, BatchPipelineStep<R> next) {
+    return next.proceedAll(requests);
+  }
+
+  /**
+   * @return the number of Queries that were actually handled by their QueryHandler.
+   */
+  public long getExecutions() {
+    return executions.sum();
+  }
+
+  /**
+   * @return the number of Queries that received the result of an equal Query that was already in flight.
+   */
+  public long getCollapsedCalls() {
+    return collapsedCalls.sum();
+  }
+
+  private static <R> R await(CompletableFuture<Object> flight) {
+    try {
+      return (R) flight.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  private record Flight(CompletableFuture<Object> result, Thread owner) {
+  }
+}
@@ -9,11 +9,8 @@ import java.util.function.UnaryOperator;
 
 final class QueryHandlerProvider extends AbstractHandlerProvider {
 
-  private final List<? extends QueryHandler<?, ?>> queryHandlers;
-
   QueryHandlerProvider(List<? extends QueryHandler<?, ?>> queryHandlers) {
-    super();
-    this.queryHandlers = queryHandlers;
+    super(queryHandlers);
   }
 
   @Override
@@ -26,22 +23,12 @@ final class QueryHandlerProvider extends AbstractHandlerProvider {
     };
   }
 
-  <R> QueryHandler<Query<R>, R> getQueryHandler(Query<R> query) {
-    var id = getIdFor(query);
-    if (!handlerCache.containsKey(id)) {
-      var handler = findQueryHandler(query);
-      handlerCache.put(id, new QueryHandlerWrapper<>(handler));
-    }
-    return (QueryHandler<Query<R>, R>) handlerCache.get(id).provide();
+  @Override
+  protected Provider<?> createProvider(List<? extends RequestHandler<?, ?>> requestHandlers) {
+    return new QueryHandlerWrapper<>((QueryHandler<?, ?>) requestHandlers.get(FIRST_ENTRY));
   }
 
-  private <T extends Query<R>, R> QueryHandler<T, R> findQueryHandler(T query) {
-    var requestClass = query.getClass();
-    var requestName = requestClass.getName();
-    List<QueryHandler<T, R>> handlers = findMatchingHandlers(
-      requestClass,
-      queryHandlers
-    );
-    return this.<QueryHandler<T, R>>validateResult(requestName).apply(handlers).get(FIRST_ENTRY);
+  <R> QueryHandler<Query<R>, R> getQueryHandler(Query<R> query) {
+    return (QueryHandler<Query<R>, R>) getProviderFor(query).provide();
   }
 }
@@ -7,7 +7,7 @@ final class QueryHandlerWrapper<C extends Query<R>, R> implements Provider<Query
 
   private final QueryHandler<?, ?> handler;
 
-  public QueryHandlerWrapper(QueryHandler<? extends Query<R>, R> handler) {
+  public QueryHandlerWrapper(QueryHandler<?, ?> handler) {
     this.handler = handler;
   }
 
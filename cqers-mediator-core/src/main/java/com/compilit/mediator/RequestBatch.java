@@ -0,0 +1,67 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.batchResultSizeMismatchMessage;
+
+import com.compilit.mediator.api.Request;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits a batch of requests into groups of the same request type, in order of their first occurrence. Each group is
+ * processed in one go, after which the results are put back in the order of the original requests.
+ */
+final class RequestBatch {
+
+  private RequestBatch() {
+  }
+
+  static <T extends Request, R> List<R> process(Collection<? extends T> requests, GroupProcessor<T, R> processor) {
+    Map<Class<?>, Group<T>> groups = new LinkedHashMap<>();
+    int index = 0;
+    for (T request : requests) {
+      groups.computeIfAbsent(request.getClass(), x -> new Group<>()).add(index++, request);
+    }
+    var results = new Object[index];
+    for (var entry : groups.entrySet()) {
+      var group = entry.getValue();
+      var groupResults = processor.process(entry.getKey(), group.requests);
+      checkSize(entry.getKey(), groupResults, group.requests.size());
+      for (int i = 0; i < groupResults.size(); i++) {
+        results[group.indexes.get(i)] = groupResults.get(i);
+      }
+    }
+    return (List<R>) Arrays.asList(results);
+  }
+
+  /**
+   * @return the results, if there is one for each request.
+   */
+  static <R> List<R> checkSize(Class<?> requestType, List<R> results, int requestCount) {
+    if (results.size() != requestCount) {
+      throw new MediatorException(batchResultSizeMismatchMessage(requestType.getName(), results.size(), requestCount));
+    }
+    return results;
+  }
+
+  @FunctionalInterface
+  interface GroupProcessor<T extends Request, R> {
+
+    List<R> process(Class<?> requestType, List<T> requests);
+
+  }
+
+  private static final class Group<T> {
+
+    private final List<Integer> indexes = new ArrayList<>();
+    private final List<T> requests = new ArrayList<>();
+
+    private void add(int index, T request) {
+      indexes.add(index);
+      requests.add(request);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Bulkhead;
+import com.compilit.mediator.api.Request;
+import com.compilit.mediator.api.RequestHandler;
+import com.compilit.mediator.api.Timeout;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The limits that apply to the handling of a single Command or Query type.
+ *
+ * @param requestType        the type of Command or Query.
+ * @param timeout            the maximum time a caller waits for the handler, or null to wait without limit.
+ * @param maxConcurrentCalls the maximum number of concurrent executions of the handler, or UNLIMITED.
+ */
+public record RequestLimits(Class<? extends Request> requestType, Duration timeout, int maxConcurrentCalls) {
+
+  public static final int UNLIMITED = 0;
+
+  public static RequestLimits timeout(Class<? extends Request> requestType, Duration timeout) {
+    return new RequestLimits(requestType, timeout, UNLIMITED);
+  }
+
+  public static RequestLimits bulkhead(Class<? extends Request> requestType, int maxConcurrentCalls) {
+    return new RequestLimits(requestType, null, maxConcurrentCalls);
+  }
+
+  boolean hasTimeout() {
+    return timeout != null && !timeout.isZero() && !timeout.isNegative();
+  }
+
+  boolean hasBulkhead() {
+    return maxConcurrentCalls > UNLIMITED;
+  }
+
+  /**
+   * Reads the Timeout and Bulkhead annotations of the given handlers.
+   *
+   * @return the limits of every request type of which the handler is annotated.
+   */
+  static Map<Class<?>, RequestLimits> fromAnnotations(Collection<? extends RequestHandler<?, ?>> requestHandlers) {
+    Map<Class<?>, RequestLimits> limits = new HashMap<>();
+    for (var requestHandler : requestHandlers) {
+      var handlerType = requestHandler.getClass();
+      var timeout = handlerType.getAnnotation(Timeout.class);
+      var bulkhead = handlerType.getAnnotation(Bulkhead.class);
+      if (timeout == null && bulkhead == null) {
+        continue;
+      }
+      HandlerAbilityValidator.requestTypeOf(handlerType).ifPresent(requestType -> limits.put(
+        requestType,
+        new RequestLimits(
+          (Class<? extends Request>) requestType,
+          timeout == null ? null : Duration.ofNanos(timeout.unit().toNanos(timeout.value())),
+          bulkhead == null ? UNLIMITED : bulkhead.value()
+        )
+      ));
+    }
+    return limits;
+  }
+}
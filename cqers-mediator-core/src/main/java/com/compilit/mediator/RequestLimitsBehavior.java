@@ -0,0 +1,218 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.bulkheadFullMessage;
+import static com.compilit.mediator.ExceptionMessages.handlerFailedMessage;
+import static com.compilit.mediator.ExceptionMessages.handlerInterruptedMessage;
+import static com.compilit.mediator.ExceptionMessages.handlerTimedOutMessage;
+
+import com.compilit.mediator.api.BatchPipelineStep;
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import com.compilit.mediator.api.Query;
+import com.compilit.mediator.api.Request;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A PipelineBehavior which enforces the RequestLimits of Commands and Queries. A request that would exceed the
+ * bulkhead of its type is rejected right away. A request with a timeout is handled on the Executor, while the caller
+ * waits for at most the timeout; a handler that does not complete in time is interrupted. Either way, the caller gets
+ * a MediatorException. A batch of requests is passed on as a whole, takes a single bulkhead permit, and has to complete
+ * within a single timeout.
+ * <p>
+ * The bulkhead permit is held until the handler actually completes, so handlers that ignore interruption keep counting
+ * towards the bulkhead after their caller timed out. Place this behavior last in the chain, so the other behaviors run
+ * on the calling thread.
+ * <p>
+ * Events which a handler with a timeout emits are deferred to the DeferredEventScope of the calling thread, and dropped
+ * when the handler times out. A transaction cannot follow the handler to the Executor, so a request which is dispatched
+ * within a transaction is handled on the calling thread, without a timeout. Its bulkhead still applies.
+ */
+final class RequestLimitsBehavior implements PipelineBehavior {
+
+  private static final Logger logger = LoggerFactory.getLogger(RequestLimitsBehavior.class);
+  private final Executor executor;
+  private final DeferredEventScope deferredEventScope;
+  private final BooleanSupplier transactionActive;
+  private final ClassValue<Limiter> limiters;
+
+  /**
+   * @param limits                    the limits per request type.
+   * @param defaultTimeout            the timeout of request types without limits, or null for none.
+   * @param defaultMaxConcurrentCalls the bulkhead of request types without limits, or RequestLimits.UNLIMITED.
+   * @param executor                  the Executor on which requests with a timeout are handled.
+   */
+  RequestLimitsBehavior(Map<Class<?>, RequestLimits> limits,
+                        Duration defaultTimeout,
+                        int defaultMaxConcurrentCalls,
+                        Executor executor) {
+    this(limits, defaultTimeout, defaultMaxConcurrentCalls, executor, null, () -> false);
+  }
+
+  /**
+   * @param limits                    the limits per request type.
+   * @param defaultTimeout            the timeout of request types without limits, or null for none.
+   * @param defaultMaxConcurrentCalls the bulkhead of request types without limits, or RequestLimits.UNLIMITED.
+   * @param executor                  the Executor on which requests with a timeout are handled.
+   * @param deferredEventScope        the scope of deferred Events, or null if Events are not deferred.
+   * @param transactionActive         tells whether the calling thread is in a transaction.
+   */
+  RequestLimitsBehavior(Map<Class<?>, RequestLimits> limits,
+                        Duration defaultTimeout,
+                        int defaultMaxConcurrentCalls,
+                        Executor executor,
+                        DeferredEventScope deferredEventScope,
+                        BooleanSupplier transactionActive) {
+    this.executor = executor;
+    this.deferredEventScope = deferredEventScope;
+    this.transactionActive = transactionActive;
+    this.limiters = new ClassValue<>() {
+      @Override
+      protected Limiter computeValue(Class<?> requestType) {
+        var requestLimits = limits.get(requestType);
+        if (requestLimits == null) {
+          requestLimits = new RequestLimits(
+            (Class<? extends Request>) requestType,
+            defaultTimeout,
+            defaultMaxConcurrentCalls
+          );
+        }
+        return new Limiter(requestLimits);
+      }
+    };
+  }
+
+  @Override
+  public boolean appliesTo(Class<? extends Request> requestType) {
+    if (!Command.class.isAssignableFrom(requestType) && !Query.class.isAssignableFrom(requestType)) {
+      return false;
+    }
+    var limiter = limiters.get(requestType);
+    return limiter.timeoutNanos > 0 || limiter.bulkhead != null;
+  }
+
+  @Override
+  public <R> R handle(Request request, PipelineStep<R> next) {
+    return limit(request.getClass(), () -> next.proceed(request));
+  }
+
+  @Override
+  public <R> List<R> handleAll(List<? extends Request> requests, BatchPipelineStep<R> next) {
+    return limit(requests.get(0).getClass(), () -> next.proceedAll(requests));
+  }
+
+  private <R> R limit(Class<?> requestType, Supplier<R> invocation) {
+    var limiter = limiters.get(requestType);
+    var requestName = requestType.getName();
+    var timed = limiter.timeoutNanos > 0;
+    if (timed && transactionActive.getAsBoolean()) {
+      timed = false;
+      if (limiter.transactionWarningLogged.compareAndSet(false, true)) {
+        logger.warn("The timeout of {} is not enforced when it is dispatched within a transaction", requestName);
+      }
+    }
+    if (limiter.bulkhead != null && !limiter.bulkhead.tryAcquire()) {
+      throw new MediatorException(bulkheadFullMessage(requestName, limiter.maxConcurrentCalls));
+    }
+    if (!timed) {
+      try {
+        return invocation.get();
+      } finally {
+        limiter.release();
+      }
+    }
+    var fork = deferredEventScope == null ? null : deferredEventScope.fork();
+    // the permit is released by the task once it runs, or else by whoever cancels it
+    var permitClaimed = new AtomicBoolean();
+    var task = new FutureTask<R>(() -> {
+      if (!permitClaimed.compareAndSet(false, true)) {
+        return null;
+      }
+      try {
+        return fork == null ? invocation.get() : fork.call(invocation::get);
+      } finally {
+        limiter.release();
+      }
+    });
+    try {
+      executor.execute(task);
+    } catch (RejectedExecutionException exception) {
+      limiter.release();
+      throw exception;
+    }
+    var result = await(task, limiter, permitClaimed, requestName);
+    if (fork != null) {
+      fork.join();
+    }
+    return result;
+  }
+
+  private static <R> R await(FutureTask<R> task, Limiter limiter, AtomicBoolean permitClaimed, String requestName) {
+    try {
+      return task.get(limiter.timeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException exception) {
+      cancel(task, limiter, permitClaimed);
+      throw new MediatorException(handlerTimedOutMessage(requestName, limiter.timeout), exception);
+    } catch (InterruptedException exception) {
+      cancel(task, limiter, permitClaimed);
+      Thread.currentThread().interrupt();
+      throw new MediatorException(handlerInterruptedMessage(requestName), exception);
+    } catch (ExecutionException exception) {
+      var cause = exception.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new MediatorException(handlerFailedMessage(requestName), cause);
+    }
+  }
+
+  /**
+   * A task that is cancelled while still waiting in the queue of the Executor never runs, so its permit is released
+   * here instead.
+   */
+  private static void cancel(FutureTask<?> task, Limiter limiter, AtomicBoolean permitClaimed) {
+    task.cancel(true);
+    if (permitClaimed.compareAndSet(false, true)) {
+      limiter.release();
+    }
+  }
+
+  private static final class Limiter {
+
+    private final Duration timeout;
+    private final long timeoutNanos;
+    private final int maxConcurrentCalls;
+    private final Semaphore bulkhead;
+    private final AtomicBoolean transactionWarningLogged = new AtomicBoolean();
+
+    private Limiter(RequestLimits requestLimits) {
+      this.timeout = requestLimits.timeout();
+      this.timeoutNanos = requestLimits.hasTimeout() ? timeout.toNanos() : 0;
+      this.maxConcurrentCalls = requestLimits.maxConcurrentCalls();
+      this.bulkhead = requestLimits.hasBulkhead() ? new Semaphore(maxConcurrentCalls) : null;
+    }
+
+    private void release() {
+      if (bulkhead != null) {
+        bulkhead.release();
+      }
+    }
+  }
+}
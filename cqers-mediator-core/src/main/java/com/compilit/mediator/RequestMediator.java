@@ -1,46 +1,175 @@
 package com.compilit.mediator;
 
+import com.compilit.mediator.api.BatchCommandHandler;
+import com.compilit.mediator.api.BatchPipelineStep;
+import com.compilit.mediator.api.BatchQueryHandler;
 import com.compilit.mediator.api.Command;
 import com.compilit.mediator.api.CommandHandler;
 import com.compilit.mediator.api.Event;
 import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
 import com.compilit.mediator.api.Query;
 import com.compilit.mediator.api.QueryHandler;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 final class RequestMediator implements Mediator {
 
   private final CommandHandlerProvider commandHandlerProvider;
   private final QueryHandlerProvider queryHandlerProvider;
   private final EventHandlerProvider eventHandlerProvider;
+  private final EventDelivery eventDelivery;
+  private final Map<Class<?>, PipelineStep<Object>> commandPipelines;
+  private final Map<Class<?>, PipelineStep<Object>> queryPipelines;
+  private final Map<Class<?>, PipelineStep<Object>> eventPipelines;
+  private final Map<Class<?>, BatchPipelineStep<Object>> commandBatchPipelines;
+  private final Map<Class<?>, BatchPipelineStep<Object>> queryBatchPipelines;
 
   public RequestMediator(
     CommandHandlerProvider commandHandlerProvider,
     QueryHandlerProvider queryHandlerProvider,
     EventHandlerProvider eventHandlerProvider) {
+    this(commandHandlerProvider, queryHandlerProvider, eventHandlerProvider, new SequentialEventDelivery());
+  }
+
+  public RequestMediator(
+    CommandHandlerProvider commandHandlerProvider,
+    QueryHandlerProvider queryHandlerProvider,
+    EventHandlerProvider eventHandlerProvider,
+    EventDelivery eventDelivery) {
+    this(commandHandlerProvider, queryHandlerProvider, eventHandlerProvider, eventDelivery, List.of());
+  }
+
+  public RequestMediator(
+    CommandHandlerProvider commandHandlerProvider,
+    QueryHandlerProvider queryHandlerProvider,
+    EventHandlerProvider eventHandlerProvider,
+    EventDelivery eventDelivery,
+    List<PipelineBehavior> pipelineBehaviors) {
     this.commandHandlerProvider = commandHandlerProvider;
     this.queryHandlerProvider = queryHandlerProvider;
     this.eventHandlerProvider = eventHandlerProvider;
+    this.eventDelivery = eventDelivery;
+    this.commandPipelines = Pipelines.compose(
+      commandHandlerProvider.getRequestTypes(),
+      pipelineBehaviors,
+      request -> handleCommand((Command<Object>) request)
+    );
+    this.queryPipelines = Pipelines.compose(
+      queryHandlerProvider.getRequestTypes(),
+      pipelineBehaviors,
+      request -> handleQuery((Query<Object>) request)
+    );
+    this.eventPipelines = Pipelines.compose(
+      eventHandlerProvider.getRequestTypes(),
+      pipelineBehaviors,
+      request -> {
+        handleEvent((Event) request);
+        return null;
+      }
+    );
+    this.commandBatchPipelines = Pipelines.composeBatches(
+      commandHandlerProvider.getRequestTypes(),
+      pipelineBehaviors,
+      requests -> handleCommands((List<Command<Object>>) requests)
+    );
+    this.queryBatchPipelines = Pipelines.composeBatches(
+      queryHandlerProvider.getRequestTypes(),
+      pipelineBehaviors,
+      requests -> handleQueries((List<Query<Object>>) requests)
+    );
   }
 
   @Override
   public <T extends Command<R>, R> R mediateCommand(T command) {
-    CommandHandler<Command<R>, R> handler = commandHandlerProvider.getCommandHandler(command);
-    return handler.handle(command);
+    var pipeline = commandPipelines.get(command.getClass());
+    if (pipeline != null) {
+      return (R) pipeline.proceed(command);
+    }
+    return handleCommand(command);
   }
 
   @Override
   public <T extends Query<R>, R> R mediateQuery(T query) {
-    QueryHandler<Query<R>, R> handler = queryHandlerProvider.getQueryHandler(query);
-    return handler.handle(query);
+    var pipeline = queryPipelines.get(query.getClass());
+    if (pipeline != null) {
+      return (R) pipeline.proceed(query);
+    }
+    return handleQuery(query);
   }
 
   @Override
   public <T extends Event> void mediateEvent(T event) {
-    List<EventHandler<Event>> handlers = eventHandlerProvider.getEventHandlers(event);
-    for (var handler : handlers) {
-      handler.handle(event);
+    var pipeline = eventPipelines.get(event.getClass());
+    if (pipeline != null) {
+      pipeline.proceed(event);
+      return;
+    }
+    handleEvent(event);
+  }
+
+  @Override
+  public <R> List<R> mediateCommands(Collection<? extends Command<R>> commands) {
+    return RequestBatch.<Command<R>, R>process(commands, (requestType, group) -> {
+      var pipeline = commandBatchPipelines.get(requestType);
+      if (pipeline != null) {
+        return (List<R>) pipeline.proceedAll(group);
+      }
+      return handleCommands(group);
+    });
+  }
+
+  @Override
+  public <R> List<R> mediateQueries(Collection<? extends Query<R>> queries) {
+    return RequestBatch.<Query<R>, R>process(queries, (requestType, group) -> {
+      var pipeline = queryBatchPipelines.get(requestType);
+      if (pipeline != null) {
+        return (List<R>) pipeline.proceedAll(group);
+      }
+      return handleQueries(group);
+    });
+  }
+
+  private <R> R handleCommand(Command<R> command) {
+    CommandHandler<Command<R>, R> handler = commandHandlerProvider.getCommandHandler(command);
+    return handler.handle(command);
+  }
+
+  private <R> R handleQuery(Query<R> query) {
+    QueryHandler<Query<R>, R> handler = queryHandlerProvider.getQueryHandler(query);
+    return handler.handle(query);
+  }
+
+  private <R> List<R> handleCommands(List<Command<R>> commands) {
+    CommandHandler<Command<R>, R> handler = commandHandlerProvider.getCommandHandler(commands.get(0));
+    if (handler instanceof BatchCommandHandler<Command<R>, R> batchHandler) {
+      return RequestBatch.checkSize(commands.get(0).getClass(), batchHandler.handleAll(commands), commands.size());
+    }
+    List<R> results = new ArrayList<>(commands.size());
+    for (var command : commands) {
+      results.add(handler.handle(command));
+    }
+    return results;
+  }
+
+  private <R> List<R> handleQueries(List<Query<R>> queries) {
+    QueryHandler<Query<R>, R> handler = queryHandlerProvider.getQueryHandler(queries.get(0));
+    if (handler instanceof BatchQueryHandler<Query<R>, R> batchHandler) {
+      return RequestBatch.checkSize(queries.get(0).getClass(), batchHandler.handleAll(queries), queries.size());
+    }
+    List<R> results = new ArrayList<>(queries.size());
+    for (var query : queries) {
+      results.add(handler.handle(query));
     }
+    return results;
+  }
+
+  private void handleEvent(Event event) {
+    List<EventHandler<Event>> handlers = eventHandlerProvider.getEventHandlers(event);
+    eventDelivery.deliver(event, handlers);
   }
 
 }
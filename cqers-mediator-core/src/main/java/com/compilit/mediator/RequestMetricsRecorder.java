@@ -0,0 +1,74 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Request;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the dispatch metrics of every request type in memory. Recording is lock-free: the metrics of a request type
+ * are created once, after which every dispatch only updates counters and a LatencyHistogram.
+ */
+public final class RequestMetricsRecorder implements MediatorMetrics {
+
+  private static final double MEDIAN = 50;
+  private static final double P99 = 99;
+  private final ConcurrentMap<Class<?>, Recorder> recorders = new ConcurrentHashMap<>();
+
+  @Override
+  public void requestStarted(Class<? extends Request> requestType) {
+    recorderOf(requestType).inFlight.increment();
+  }
+
+  @Override
+  public void requestCompleted(Class<? extends Request> requestType, long durationNanos, boolean failed) {
+    var recorder = recorderOf(requestType);
+    recorder.inFlight.decrement();
+    recorder.count.increment();
+    if (failed) {
+      recorder.errors.increment();
+    }
+    recorder.latencies.record(durationNanos);
+  }
+
+  /**
+   * @return a snapshot of the metrics of every request type that has been dispatched, ordered by type name.
+   */
+  public List<RequestTypeMetrics> getMetrics() {
+    return recorders.entrySet().stream()
+      .sorted(Comparator.comparing(entry -> entry.getKey().getName()))
+      .map(entry -> entry.getValue().toMetrics(entry.getKey()))
+      .toList();
+  }
+
+  private Recorder recorderOf(Class<?> requestType) {
+    var recorder = recorders.get(requestType);
+    if (recorder == null) {
+      recorder = recorders.computeIfAbsent(requestType, x -> new Recorder());
+    }
+    return recorder;
+  }
+
+  private static final class Recorder {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    private RequestTypeMetrics toMetrics(Class<?> requestType) {
+      return new RequestTypeMetrics(
+        requestType,
+        count.sum(),
+        errors.sum(),
+        inFlight.sum(),
+        Duration.ofNanos(latencies.getValueAtPercentile(MEDIAN)),
+        Duration.ofNanos(latencies.getValueAtPercentile(P99)),
+        Duration.ofNanos(latencies.getMax())
+      );
+    }
+  }
+}
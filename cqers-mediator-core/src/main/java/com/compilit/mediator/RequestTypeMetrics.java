@@ -0,0 +1,25 @@
+package com.compilit.mediator;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the dispatch metrics of a single request type.
+ *
+ * @param requestType the type of Command, Query or Event.
+ * @param count       the number of completed dispatches.
+ * @param errors      the number of dispatches that ended with an exception.
+ * @param inFlight    the number of dispatches that are currently being handled.
+ * @param median      the median handling time.
+ * @param p99         the 99th percentile of the handling time.
+ * @param max         the longest handling time.
+ */
+public record RequestTypeMetrics(
+  Class<?> requestType,
+  long count,
+  long errors,
+  long inFlight,
+  Duration median,
+  Duration p99,
+  Duration max
+) {
+}
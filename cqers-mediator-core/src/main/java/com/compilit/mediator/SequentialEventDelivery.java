@@ -0,0 +1,30 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventHandler;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delivers an Event to its handlers one after another on the emitting thread. A failing handler does not keep the
+ * remaining handlers from receiving the Event. All failures are collected into a single MediatorException afterwards,
+ * just like a parallel delivery does.
+ */
+final class SequentialEventDelivery implements EventDelivery {
+
+  @Override
+  public void deliver(Event event, List<EventHandler<Event>> handlers) {
+    List<Throwable> failures = new ArrayList<>();
+    for (var handler : handlers) {
+      try {
+        handler.handle(event);
+      } catch (RuntimeException exception) {
+        failures.add(exception);
+      }
+    }
+    if (!failures.isEmpty()) {
+      throw EventDelivery.aggregate(event, handlers.size(), failures);
+    }
+  }
+
+}
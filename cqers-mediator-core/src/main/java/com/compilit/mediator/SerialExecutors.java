@@ -0,0 +1,79 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.EventHandler;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands out one serial Executor per EventHandler. Tasks submitted to a serial Executor run one at a time, in order of
+ * submission, on the shared underlying Executor. A task that is submitted from a thread that is draining any serial
+ * Executor, such as an Event a handler emits to itself or to another handler, runs inline. Queueing it would deadlock
+ * two handlers that emit to each other, and would starve the underlying Executor when all its threads are waiting for
+ * queued tasks. Such a nested task is therefore not ordered with respect to the tasks that are already queued.
+ */
+final class SerialExecutors {
+
+  private static final ThreadLocal<Boolean> DRAINING = ThreadLocal.withInitial(() -> false);
+
+  private final Executor executor;
+  private final Map<EventHandler<?>, Executor> serialExecutors = new ConcurrentHashMap<>();
+
+  SerialExecutors(Executor executor) {
+    this.executor = executor;
+  }
+
+  Executor forHandler(EventHandler<?> handler) {
+    var serialExecutor = serialExecutors.get(handler);
+    if (serialExecutor == null) {
+      serialExecutor = serialExecutors.computeIfAbsent(handler, x -> new SerialExecutor(executor));
+    }
+    return serialExecutor;
+  }
+
+  private static final class SerialExecutor implements Executor {
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Executor executor;
+
+    private SerialExecutor(Executor executor) {
+      this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+      if (DRAINING.get()) {
+        task.run();
+        return;
+      }
+      tasks.add(task);
+      schedule();
+    }
+
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        executor.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      DRAINING.set(true);
+      try {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+          task.run();
+        }
+      } finally {
+        DRAINING.set(false);
+        scheduled.set(false);
+        if (!tasks.isEmpty()) {
+          schedule();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.compilit.mediator;
+
+import java.util.Map;
+
+/**
+ * A routing table which is generated at compile time by the cqers-mediator-processor. Implementations are loaded
+ * through the ServiceLoader, and handlers that are listed in them are routed without resolving their generic type
+ * hierarchy at runtime. Handlers that are not listed are still resolved through reflection.
+ */
+public interface StaticRoutingTable {
+
+  /**
+   * @return the request type of every handler class in this table.
+   */
+  Map<Class<?>, Class<?>> getRequestTypes();
+
+}
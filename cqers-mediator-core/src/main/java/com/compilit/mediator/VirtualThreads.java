@@ -0,0 +1,31 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.virtualThreadsNotSupportedMessage;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates the Executor of the VIRTUAL_THREAD execution mode.
+ */
+final class VirtualThreads {
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * Executors.newVirtualThreadPerTaskExecutor is looked up reflectively, because this library is still compiled
+   * against Java 17.
+   *
+   * @return an ExecutorService which runs every task on its own virtual thread.
+   * @throws MediatorException when the Java runtime does not support virtual threads.
+   */
+  static ExecutorService newVirtualThreadPerTaskExecutor() {
+    try {
+      var factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factoryMethod.invoke(null);
+    } catch (ReflectiveOperationException exception) {
+      throw new MediatorException(virtualThreadsNotSupportedMessage(), exception);
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import com.compilit.mediator.api.Request;
+import com.compilit.mediator.testutil.TestEvent;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncEventBusTest {
+
+  private static final int QUEUE_CAPACITY = 2;
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final CountDownLatch started = new CountDownLatch(1);
+  private final List<Thread> handlerThreads = new CopyOnWriteArrayList<>();
+  private final List<TestEvent> handled = new CopyOnWriteArrayList<>();
+  private AsyncEventBus eventBus;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    eventBus.close();
+  }
+
+  @Test
+  void emit_event_shouldBeHandledOnWorkerThread() throws Exception {
+    eventBus = createEventBus(OverflowPolicy.BLOCK);
+    release.countDown();
+    eventBus.emit(new TestEvent());
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(handlerThreads).doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  void emit_fullQueueWithDropNewestPolicy_shouldDropNewEvents() throws Exception {
+    eventBus = createEventBus(OverflowPolicy.DROP_NEWEST);
+    var events = fillQueue();
+    var dropped = new TestEvent();
+    eventBus.emit(dropped);
+    assertThat(eventBus.getMetrics()).singleElement().satisfies(metrics -> {
+      assertThat(metrics.queueDepth()).isEqualTo(QUEUE_CAPACITY);
+      assertThat(metrics.dropped()).isEqualTo(1);
+    });
+    release.countDown();
+    eventBus.close();
+    assertThat(handled).containsExactlyElementsOf(events).doesNotContain(dropped);
+  }
+
+  @Test
+  void emit_fullQueueWithDropOldestPolicy_shouldDropOldestEvent() throws Exception {
+    eventBus = createEventBus(OverflowPolicy.DROP_OLDEST);
+    var events = fillQueue();
+    var newest = new TestEvent();
+    eventBus.emit(newest);
+    release.countDown();
+    eventBus.close();
+    assertThat(handled).containsExactly(events.get(0), events.get(2), newest);
+    assertThat(eventBus.getMetrics()).singleElement().satisfies(metrics -> {
+      assertThat(metrics.dropped()).isEqualTo(1);
+      assertThat(metrics.delivered()).isEqualTo(3);
+      assertThat(metrics.maxDeliveryLag()).isPositive();
+    });
+  }
+
+  @Test
+  void emit_fullQueueWithFailPolicy_shouldThrowMediatorException() throws Exception {
+    eventBus = createEventBus(OverflowPolicy.FAIL);
+    fillQueue();
+    assertThatThrownBy(() -> eventBus.emit(new TestEvent()))
+      .isInstanceOf(MediatorException.class)
+      .hasMessage(ExceptionMessages.eventQueueFullMessage(TestEvent.class.getName(), 1, 1));
+  }
+
+  @Test
+  void emit_fullQueueOfOneHandlerWithFailPolicy_shouldNotQueueForAnyHandler() throws Exception {
+    var otherHandled = new LinkedBlockingQueue<TestEvent>();
+    EventHandler<TestEvent> otherHandler = new EventHandler<>() {
+      @Override
+      public Void handle(TestEvent event) {
+        otherHandled.add(event);
+        return null;
+      }
+    };
+    eventBus = new AsyncEventBus(
+      new EventHandlerProvider(List.of(blockingHandler(), otherHandler)),
+      QUEUE_CAPACITY,
+      OverflowPolicy.FAIL
+    );
+    var events = List.of(new TestEvent(), new TestEvent(), new TestEvent());
+    for (var event : events) {
+      eventBus.emit(event);
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+      assertThat(otherHandled.poll(5, TimeUnit.SECONDS)).isSameAs(event);
+    }
+    assertThatThrownBy(() -> eventBus.emit(new TestEvent())).isInstanceOf(MediatorException.class);
+    release.countDown();
+    eventBus.close();
+    assertThat(handled).containsExactlyElementsOf(events);
+    assertThat(otherHandled).isEmpty();
+  }
+
+  @Test
+  void emit_fullQueuesOfAllHandlersWithFailPolicy_shouldReportEveryRejectingHandler() throws Exception {
+    var bothStarted = new CountDownLatch(2);
+    eventBus = new AsyncEventBus(
+      new EventHandlerProvider(List.of(blockingHandler(bothStarted), blockingHandler(bothStarted))),
+      QUEUE_CAPACITY,
+      OverflowPolicy.FAIL
+    );
+    eventBus.emit(new TestEvent());
+    assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    eventBus.emit(new TestEvent(), new TestEvent());
+    assertThatThrownBy(() -> eventBus.emit(new TestEvent()))
+      .isInstanceOf(MediatorException.class)
+      .hasMessage(ExceptionMessages.eventQueueFullMessage(TestEvent.class.getName(), 2, 2));
+  }
+
+  @Test
+  void emit_handlerEmittingToItsOwnFullQueueWithBlockPolicy_shouldFailInsteadOfDeadlocking() throws Exception {
+    var emission = new CompletableFuture<Throwable>();
+    EventHandler<TestEvent> handler = new EventHandler<>() {
+      @Override
+      public Void handle(TestEvent event) {
+        if (!emission.isDone()) {
+          try {
+            for (int i = 0; i <= QUEUE_CAPACITY; i++) {
+              eventBus.emit(new TestEvent());
+            }
+            emission.complete(null);
+          } catch (MediatorException exception) {
+            emission.complete(exception);
+          }
+        }
+        return null;
+      }
+    };
+    eventBus = new AsyncEventBus(new EventHandlerProvider(List.of(handler)), QUEUE_CAPACITY, OverflowPolicy.BLOCK);
+    eventBus.emit(new TestEvent());
+    assertThat(emission.get(5, TimeUnit.SECONDS))
+      .isInstanceOf(MediatorException.class)
+      .hasMessage(ExceptionMessages.eventQueueFullOnWorkerMessage(
+        TestEvent.class.getName(),
+        handler.getClass().getName()
+      ));
+  }
+
+  @Test
+  void emit_handlerThrowsError_shouldKeepWorkerRunning() {
+    var delivered = new CountDownLatch(2);
+    EventHandler<TestEvent> handler = new EventHandler<>() {
+      @Override
+      public Void handle(TestEvent event) {
+        delivered.countDown();
+        if (delivered.getCount() == 1) {
+          throw new AssertionError("failed");
+        }
+        handled.add(event);
+        return null;
+      }
+    };
+    eventBus = new AsyncEventBus(new EventHandlerProvider(List.of(handler)), QUEUE_CAPACITY, OverflowPolicy.BLOCK);
+    var second = new TestEvent();
+    eventBus.emit(new TestEvent(), second);
+    eventBus.close();
+    assertThat(handled).containsExactly(second);
+    assertThat(eventBus.getMetrics()).singleElement().satisfies(metrics -> {
+      assertThat(metrics.failed()).isEqualTo(1);
+      assertThat(metrics.delivered()).isEqualTo(1);
+    });
+  }
+
+  @Test
+  void emit_withPipelineBehavior_shouldRunBehaviorOnWorkerThread() {
+    var behaviorThreads = new CopyOnWriteArrayList<Thread>();
+    var behavior = new PipelineBehavior() {
+      @Override
+      public <R> R handle(Request request, PipelineStep<R> next) {
+        behaviorThreads.add(Thread.currentThread());
+        return next.proceed(request);
+      }
+    };
+    eventBus = new AsyncEventBus(
+      new EventHandlerProvider(List.of(blockingHandler())),
+      QUEUE_CAPACITY,
+      OverflowPolicy.BLOCK,
+      List.of(behavior)
+    );
+    release.countDown();
+    eventBus.emit(new TestEvent());
+    eventBus.close();
+    assertThat(behaviorThreads).hasSize(1).isEqualTo(handlerThreads).doesNotContain(Thread.currentThread());
+  }
+
+  @Test
+  void emit_afterClose_shouldThrowMediatorException() {
+    eventBus = createEventBus(OverflowPolicy.BLOCK);
+    eventBus.close();
+    assertThatThrownBy(() -> eventBus.emit(new TestEvent()))
+      .isInstanceOf(MediatorException.class)
+      .hasMessage(ExceptionMessages.eventBusClosedMessage());
+  }
+
+  /**
+   * Emits one event which blocks the worker, followed by enough events to fill the queue.
+   */
+  private List<TestEvent> fillQueue() throws InterruptedException {
+    var events = List.of(new TestEvent(), new TestEvent(), new TestEvent());
+    eventBus.emit(events.get(0));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    eventBus.emit(events.get(1), events.get(2));
+    return events;
+  }
+
+  private AsyncEventBus createEventBus(OverflowPolicy overflowPolicy) {
+    return new AsyncEventBus(new EventHandlerProvider(List.of(blockingHandler())), QUEUE_CAPACITY, overflowPolicy);
+  }
+
+  private EventHandler<TestEvent> blockingHandler() {
+    return blockingHandler(started);
+  }
+
+  private EventHandler<TestEvent> blockingHandler(CountDownLatch started) {
+    return new EventHandler<>() {
+      @Override
+      public Void handle(TestEvent event) {
+        handlerThreads.add(Thread.currentThread());
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        handled.add(event);
+        return null;
+      }
+    };
+  }
+}
@@ -0,0 +1,178 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.BatchCommandHandler;
+import com.compilit.mediator.api.BatchPipelineStep;
+import com.compilit.mediator.api.BatchQueryHandler;
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.CommandDispatcher;
+import com.compilit.mediator.api.CommandHandler;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import com.compilit.mediator.api.Query;
+import com.compilit.mediator.api.Request;
+import com.compilit.mediator.api.SimpleCommand;
+import com.compilit.mediator.testutil.TestEventHandler;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BatchDispatchTest {
+
+  private final NumberBatchCommandHandler batchCommandHandler = new NumberBatchCommandHandler();
+  private final NumberQueryHandler batchQueryHandler = new NumberQueryHandler();
+  private final Mediator mediator = new RequestMediator(
+    new CommandHandlerProvider(List.of(batchCommandHandler, new TextCommandHandler())),
+    new QueryHandlerProvider(List.of(batchQueryHandler)),
+    new EventHandlerProvider(List.of(new TestEventHandler()))
+  );
+  private final MediatingCommandDispatcher commandDispatcher = new MediatingCommandDispatcher(mediator);
+  private final MediatingQueryDispatcher queryDispatcher = new MediatingQueryDispatcher(mediator);
+
+  @Test
+  void dispatchAll_mixedCommandTypes_shouldReturnResultsInOrderOfCommands() {
+    List<Command<String>> commands = List.of(
+      new NumberCommand(1),
+      new TextCommand("a"),
+      new NumberCommand(2),
+      new TextCommand("b")
+    );
+    assertThat(commandDispatcher.dispatchAll(commands)).containsExactly("1", "a", "2", "b");
+  }
+
+  @Test
+  void dispatchAll_batchCommandHandler_shouldReceiveAllCommandsOfItsTypeAtOnce() {
+    commandDispatcher.dispatchAll(List.of(new NumberCommand(1), new TextCommand("a"), new NumberCommand(2)));
+    assertThat(batchCommandHandler.batches).containsExactly(List.of(1, 2));
+  }
+
+  @Test
+  void dispatchAll_emptyCollection_shouldReturnEmptyList() {
+    assertThat(commandDispatcher.dispatchAll(List.<NumberCommand>of())).isEmpty();
+  }
+
+  @Test
+  void dispatchAll_missingHandler_shouldThrowMediatorException() {
+    assertThatThrownBy(() -> commandDispatcher.dispatchAll(List.of(new NumberCommand(1), new Command<String>() {})))
+      .isInstanceOf(MediatorException.class);
+  }
+
+  @Test
+  void resolveAll_batchQueryHandler_shouldReceiveAllQueriesAtOnce() {
+    var results = queryDispatcher.resolveAll(List.of(new NumberQuery(3), new NumberQuery(4)));
+    assertThat(results).containsExactly(6, 8);
+    assertThat(batchQueryHandler.batches).containsExactly(List.of(3, 4));
+  }
+
+  @Test
+  void dispatch_singleQueryToBatchHandler_shouldBeHandledAsBatchOfOne() {
+    assertThat(queryDispatcher.dispatch(new NumberQuery(5))).isEqualTo(10);
+    assertThat(batchQueryHandler.batches).containsExactly(List.of(5));
+  }
+
+  @Test
+  void resolveAll_batchHandlerReturningTooFewResults_shouldThrowMediatorException() {
+    assertThatThrownBy(() -> queryDispatcher.resolveAll(List.of(new NumberQuery(1), new NumberQuery(-1))))
+      .isInstanceOf(MediatorException.class)
+      .hasMessage(ExceptionMessages.batchResultSizeMismatchMessage(NumberQuery.class.getName(), 1, 2));
+  }
+
+  @Test
+  void dispatchAll_batchAwareBehavior_shouldPassAllCommandsOfATypeToTheBatchHandlerAtOnce() {
+    List<Integer> batchSizes = new ArrayList<>();
+    var dispatcher = new MediatingCommandDispatcher(createMediator(new PipelineBehavior() {
+      @Override
+      public <R> R handle(Request request, PipelineStep<R> next) {
+        return next.proceed(request);
+      }
+
+      @Override
+      public <R> List<R> handleAll(List<? extends Request> requests, BatchPipelineStep<R> next) {
+        batchSizes.add(requests.size());
+        return next.proceedAll(requests);
+      }
+    }));
+    dispatcher.dispatchAll(List.of(new NumberCommand(1), new TextCommand("a"), new NumberCommand(2)));
+    assertThat(batchCommandHandler.batches).containsExactly(List.of(1, 2));
+    assertThat(batchSizes).containsExactly(2, 1);
+  }
+
+  @Test
+  void dispatchAll_behaviorWithoutBatchSupport_shouldPassCommandsToTheBatchHandlerOneByOne() {
+    var dispatcher = new MediatingCommandDispatcher(createMediator(new PipelineBehavior() {
+      @Override
+      public <R> R handle(Request request, PipelineStep<R> next) {
+        return next.proceed(request);
+      }
+    }));
+    var results = dispatcher.dispatchAll(List.of(new NumberCommand(1), new NumberCommand(2)));
+    assertThat(results).containsExactly("1", "2");
+    assertThat(batchCommandHandler.batches).containsExactly(List.of(1), List.of(2));
+  }
+
+  @Test
+  void dispatchAll_defaultImplementation_shouldDispatchCommandsOneByOne() {
+    var dispatcher = new CommandDispatcher() {
+      @Override
+      public <T> T dispatch(Command<T> command) {
+        return (T) String.valueOf(((NumberCommand) command).value());
+      }
+
+      @Override
+      public void dispatch(SimpleCommand command, SimpleCommand... commands) {
+      }
+    };
+    assertThat(dispatcher.dispatchAll(List.of(new NumberCommand(1), new NumberCommand(2)))).containsExactly("1", "2");
+  }
+
+  private Mediator createMediator(PipelineBehavior behavior) {
+    return new RequestMediator(
+      new CommandHandlerProvider(List.of(batchCommandHandler, new TextCommandHandler())),
+      new QueryHandlerProvider(List.of(batchQueryHandler)),
+      new EventHandlerProvider(List.of(new TestEventHandler())),
+      new SequentialEventDelivery(),
+      List.of(behavior)
+    );
+  }
+
+  record NumberCommand(int value) implements Command<String> {
+  }
+
+  record TextCommand(String value) implements Command<String> {
+  }
+
+  record NumberQuery(int value) implements Query<Integer> {
+  }
+
+  static class NumberBatchCommandHandler implements BatchCommandHandler<NumberCommand, String> {
+
+    private final List<List<Integer>> batches = new ArrayList<>();
+
+    @Override
+    public List<String> handleAll(List<NumberCommand> commands) {
+      batches.add(commands.stream().map(NumberCommand::value).toList());
+      return commands.stream().map(command -> String.valueOf(command.value())).toList();
+    }
+  }
+
+  static class TextCommandHandler implements CommandHandler<TextCommand, String> {
+
+    @Override
+    public String handle(TextCommand command) {
+      return command.value();
+    }
+  }
+
+  static class NumberQueryHandler implements BatchQueryHandler<NumberQuery, Integer> {
+
+    private final List<List<Integer>> batches = new ArrayList<>();
+
+    @Override
+    public List<Integer> handleAll(List<NumberQuery> queries) {
+      batches.add(queries.stream().map(NumberQuery::value).toList());
+      return queries.stream().map(NumberQuery::value).filter(value -> value > 0).map(value -> value * 2).toList();
+    }
+  }
+}
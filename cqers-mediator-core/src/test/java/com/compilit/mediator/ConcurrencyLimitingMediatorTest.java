@@ -0,0 +1,164 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.compilit.mediator.api.CommandHandler;
+import com.compilit.mediator.testutil.SideEffectContext;
+import com.compilit.mediator.testutil.TestCommand;
+import com.compilit.mediator.testutil.TestEvent;
+import com.compilit.mediator.testutil.TestEventHandler;
+import com.compilit.mediator.testutil.TestObject;
+import com.compilit.mediator.testutil.TestQuery;
+import com.compilit.mediator.testutil.TestQueryHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitingMediatorTest {
+
+  private static final int MAX_CONCURRENT_HANDLERS = 2;
+
+  @BeforeEach
+  void reset() {
+    SideEffectContext.reset();
+  }
+
+  @Test
+  void mediate_requests_shouldInvokeHandlersOnCallerThread() {
+    var handlerThread = new ArrayList<Thread>();
+    CommandHandler<TestCommand, TestObject> commandHandler = new CommandHandler<>() {
+      @Override
+      public TestObject handle(TestCommand command) {
+        handlerThread.add(Thread.currentThread());
+        return new TestObject();
+      }
+    };
+    var mediator = createMediator(commandHandler, MAX_CONCURRENT_HANDLERS);
+    assertThat(mediator.mediateCommand(new TestCommand())).isNotNull();
+    mediator.mediateQuery(new TestQuery());
+    mediator.mediateEvent(new TestEvent());
+    assertThat(handlerThread).containsExactly(Thread.currentThread());
+    assertThat(SideEffectContext.isInvoked(2)).isTrue();
+  }
+
+  @Test
+  void mediate_failingHandler_shouldPropagateException() {
+    var failure = new IllegalStateException("failed");
+    CommandHandler<TestCommand, TestObject> commandHandler = new CommandHandler<>() {
+      @Override
+      public TestObject handle(TestCommand command) {
+        throw failure;
+      }
+    };
+    var mediator = createMediator(commandHandler, MAX_CONCURRENT_HANDLERS);
+    assertThatThrownBy(() -> mediator.mediateCommand(new TestCommand())).isSameAs(failure);
+    assertThatThrownBy(() -> mediator.mediateCommand(new TestCommand())).isSameAs(failure);
+  }
+
+  @Test
+  void mediate_concurrentRequests_shouldNotExceedConcurrencyLimitPerRequestType() throws Exception {
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    CommandHandler<TestCommand, TestObject> commandHandler = new CommandHandler<>() {
+      @Override
+      public TestObject handle(TestCommand command) {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          TimeUnit.MILLISECONDS.sleep(20);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        return null;
+      }
+    };
+    var callers = Executors.newFixedThreadPool(8);
+    try {
+      var mediator = createMediator(commandHandler, MAX_CONCURRENT_HANDLERS);
+      List<CompletableFuture<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        futures.add(CompletableFuture.runAsync(() -> mediator.mediateCommand(new TestCommand()), callers));
+      }
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+    } finally {
+      callers.shutdownNow();
+    }
+    assertThat(maxRunning.get()).isPositive().isLessThanOrEqualTo(MAX_CONCURRENT_HANDLERS);
+  }
+
+  @Test
+  void mediate_handlerDispatchingItsOwnRequestType_shouldNotWaitForItself() throws Exception {
+    var mediatorReference = new AtomicReference<Mediator>();
+    var depth = new AtomicInteger();
+    CommandHandler<TestCommand, TestObject> commandHandler = new CommandHandler<>() {
+      @Override
+      public TestObject handle(TestCommand command) {
+        if (depth.incrementAndGet() <= 3) {
+          mediatorReference.get().mediateCommand(new TestCommand());
+        }
+        return null;
+      }
+    };
+    mediatorReference.set(createMediator(commandHandler, 1));
+    CompletableFuture.runAsync(() -> mediatorReference.get().mediateCommand(new TestCommand()))
+      .get(5, TimeUnit.SECONDS);
+    assertThat(depth).hasValue(4);
+  }
+
+  @Test
+  void limit_unlimited_shouldReturnMediatorItself() {
+    var requestMediator = createRequestMediator(new TestCommandHandlerStub());
+    assertThat(ConcurrencyLimitingMediator.limit(requestMediator, ConcurrencyLimitingMediator.UNLIMITED))
+      .isSameAs(requestMediator);
+  }
+
+  @Test
+  void newVirtualThreadPerTaskExecutor_java21OrHigher_shouldRunTasksOnVirtualThreads() throws Exception {
+    assumeTrue(Runtime.version().feature() >= 21);
+    var isVirtual = Thread.class.getMethod("isVirtual");
+    var executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+    try {
+      var taskThread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+      assertThat(isVirtual.invoke(taskThread)).isEqualTo(true);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void newVirtualThreadPerTaskExecutor_beforeJava21_shouldThrowMediatorException() {
+    assumeTrue(Runtime.version().feature() < 21);
+    assertThatThrownBy(VirtualThreads::newVirtualThreadPerTaskExecutor)
+      .isInstanceOf(MediatorException.class)
+      .hasMessage(ExceptionMessages.virtualThreadsNotSupportedMessage());
+  }
+
+  private static Mediator createMediator(CommandHandler<TestCommand, TestObject> commandHandler,
+                                         int maxConcurrentHandlers) {
+    return ConcurrencyLimitingMediator.limit(createRequestMediator(commandHandler), maxConcurrentHandlers);
+  }
+
+  private static RequestMediator createRequestMediator(CommandHandler<TestCommand, TestObject> commandHandler) {
+    return new RequestMediator(
+      new CommandHandlerProvider(List.of(commandHandler)),
+      new QueryHandlerProvider(List.of(new TestQueryHandler())),
+      new EventHandlerProvider(List.of(new TestEventHandler()))
+    );
+  }
+
+  private static class TestCommandHandlerStub implements CommandHandler<TestCommand, TestObject> {
+
+    @Override
+    public TestObject handle(TestCommand command) {
+      return null;
+    }
+  }
+}
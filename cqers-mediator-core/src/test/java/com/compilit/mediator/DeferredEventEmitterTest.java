@@ -0,0 +1,112 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.CommandHandler;
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventEmitter;
+import com.compilit.mediator.api.EventHandler;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DeferredEventEmitterTest {
+
+  private final List<String> receivedEvents = new ArrayList<>();
+  private final DeferredEventScope deferredEventScope = new DeferredEventScope();
+  private final Mediator mediator = new RequestMediator(
+    new CommandHandlerProvider(List.of(new EmittingCommandHandler(), new OuterCommandHandler())),
+    new QueryHandlerProvider(List.of()),
+    new EventHandlerProvider(List.of(new RecordingEventHandler())),
+    new SequentialEventDelivery(),
+    List.of(deferredEventScope)
+  );
+  private final EventEmitter eventEmitter = new DeferredEventEmitter(
+    new MediatingEventEmitter(mediator),
+    deferredEventScope
+  );
+
+  @Test
+  void emit_duringCommand_shouldEmitAfterCommandCompletes() {
+    var receivedDuringCommand = mediator.mediateCommand(new EmittingCommand("first", false));
+    assertThat(receivedDuringCommand).isEmpty();
+    assertThat(receivedEvents).containsExactly("first");
+  }
+
+  @Test
+  void emit_duringFailingCommand_shouldDropEvents() {
+    assertThatThrownBy(() -> mediator.mediateCommand(new EmittingCommand("first", true)))
+      .isInstanceOf(IllegalStateException.class);
+    assertThat(receivedEvents).isEmpty();
+  }
+
+  @Test
+  void emit_outsideCommand_shouldEmitImmediately() {
+    eventEmitter.emit(new RecordedEvent("direct"));
+    assertThat(receivedEvents).containsExactly("direct");
+  }
+
+  @Test
+  void emit_duringFailingInnerCommand_shouldOnlyDropEventsOfInnerCommand() {
+    mediator.mediateCommand(new OuterCommand());
+    assertThat(receivedEvents).containsExactly("outer-before", "inner-succeeded", "outer-after");
+  }
+
+  @Test
+  void emit_duringBatchOfCommands_shouldEmitAfterWholeBatchCompletes() {
+    var receivedDuringCommands = mediator.mediateCommands(List.of(
+      new EmittingCommand("first", false),
+      new EmittingCommand("second", false)
+    ));
+    assertThat(receivedDuringCommands).containsExactly(List.of(), List.of());
+    assertThat(receivedEvents).containsExactly("first", "second");
+  }
+
+  record EmittingCommand(String eventName, boolean fail) implements Command<List<String>> {
+  }
+
+  record OuterCommand() implements Command<Void> {
+  }
+
+  record RecordedEvent(String name) implements Event {
+  }
+
+  class EmittingCommandHandler implements CommandHandler<EmittingCommand, List<String>> {
+
+    @Override
+    public List<String> handle(EmittingCommand command) {
+      eventEmitter.emit(new RecordedEvent(command.eventName()));
+      if (command.fail()) {
+        throw new IllegalStateException("failed");
+      }
+      return List.copyOf(receivedEvents);
+    }
+  }
+
+  class OuterCommandHandler implements CommandHandler<OuterCommand, Void> {
+
+    @Override
+    public Void handle(OuterCommand command) {
+      eventEmitter.emit(new RecordedEvent("outer-before"));
+      mediator.mediateCommand(new EmittingCommand("inner-succeeded", false));
+      try {
+        mediator.mediateCommand(new EmittingCommand("inner-failed", true));
+      } catch (IllegalStateException ignored) {
+        // the outer command recovers from the failure of the inner command
+      }
+      eventEmitter.emit(new RecordedEvent("outer-after"));
+      return null;
+    }
+  }
+
+  class RecordingEventHandler implements EventHandler<RecordedEvent> {
+
+    @Override
+    public Void handle(RecordedEvent event) {
+      receivedEvents.add(event.name());
+      return null;
+    }
+  }
+}
@@ -21,8 +21,8 @@ class DispatchersTest {
   private static final Dispatchers dispatchers = new Dispatchers(commandDispatcher, queryDispatcher, eventEmitter);
 
   @BeforeAll
-  static void setup() throws Exception {
-    dispatchers.afterPropertiesSet();
+  static void setup() {
+    dispatchers.install();
   }
 
   @Test
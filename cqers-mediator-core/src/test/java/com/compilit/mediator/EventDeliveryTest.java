@@ -0,0 +1,172 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.testutil.TestEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EventDeliveryTest {
+
+  private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void deliver_noOrdering_shouldInvokeHandlersInParallel() {
+    var barrier = new CyclicBarrier(2);
+    EventHandler<Event> awaitingHandler = event -> {
+      await(barrier);
+      return null;
+    };
+    var eventDelivery = EventDelivery.of(EventOrdering.NONE, executorService);
+    eventDelivery.deliver(new TestEvent(), List.of(awaitingHandler, awaitingHandler));
+    assertThat(barrier.isBroken()).isFalse();
+  }
+
+  @Test
+  void deliver_multipleFailingHandlers_shouldAggregateAllFailures() {
+    var first = new IllegalStateException("first");
+    var second = new IllegalArgumentException("second");
+    var invocations = new AtomicInteger();
+    List<EventHandler<Event>> handlers = List.of(
+      event -> {
+        throw first;
+      },
+      event -> {
+        invocations.incrementAndGet();
+        return null;
+      },
+      event -> {
+        throw second;
+      }
+    );
+    var eventDelivery = EventDelivery.of(EventOrdering.NONE, executorService);
+    assertThatThrownBy(() -> eventDelivery.deliver(new TestEvent(), handlers))
+      .isInstanceOf(MediatorException.class)
+      .hasMessage(ExceptionMessages.eventHandlersFailedMessage(TestEvent.class.getName(), 2, 3))
+      .hasCause(first)
+      .satisfies(exception -> assertThat(exception.getSuppressed()).containsExactly(second));
+    assertThat(invocations).hasValue(1);
+  }
+
+  @Test
+  void deliver_perHandlerFifo_shouldNeverInvokeTheSameHandlerConcurrently() throws Exception {
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    List<Event> handled = new ArrayList<>();
+    EventHandler<Event> handler = event -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      handled.add(event);
+      running.decrementAndGet();
+      return null;
+    };
+    EventHandler<Event> otherHandler = event -> null;
+    var eventDelivery = EventDelivery.of(EventOrdering.PER_HANDLER_FIFO, executorService);
+    var emitters = Executors.newFixedThreadPool(4);
+    try {
+      List<CompletableFuture<Void>> emissions = new ArrayList<>();
+      for (int i = 0; i < 200; i++) {
+        emissions.add(CompletableFuture.runAsync(
+          () -> eventDelivery.deliver(new TestEvent(), List.of(handler, otherHandler)),
+          emitters
+        ));
+      }
+      CompletableFuture.allOf(emissions.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+    } finally {
+      emitters.shutdownNow();
+    }
+    assertThat(maxRunning).hasValue(1);
+    assertThat(handled).hasSize(200);
+  }
+
+  @Test
+  void deliver_perHandlerFifo_handlerEmittingToItself_shouldNotDeadlock() throws Exception {
+    var eventDelivery = EventDelivery.of(EventOrdering.PER_HANDLER_FIFO, executorService);
+    var invocations = new AtomicInteger();
+    List<EventHandler<Event>> handlers = new ArrayList<>();
+    handlers.add(event -> {
+      if (invocations.incrementAndGet() == 1) {
+        eventDelivery.deliver(new TestEvent(), handlers);
+      }
+      return null;
+    });
+    CompletableFuture.runAsync(() -> eventDelivery.deliver(new TestEvent(), handlers)).get(5, TimeUnit.SECONDS);
+    assertThat(invocations).hasValue(2);
+  }
+
+  @Test
+  void deliver_perHandlerFifo_handlersEmittingToEachOther_shouldNotDeadlock() throws Exception {
+    var singleThread = Executors.newSingleThreadExecutor();
+    try {
+      var eventDelivery = EventDelivery.of(EventOrdering.PER_HANDLER_FIFO, singleThread);
+      var invocations = new AtomicInteger();
+      List<EventHandler<Event>> first = new ArrayList<>();
+      List<EventHandler<Event>> second = new ArrayList<>();
+      first.add(event -> {
+        if (invocations.incrementAndGet() < 4) {
+          eventDelivery.deliver(new TestEvent(), second);
+        }
+        return null;
+      });
+      second.add(event -> {
+        if (invocations.incrementAndGet() < 4) {
+          eventDelivery.deliver(new TestEvent(), first);
+        }
+        return null;
+      });
+      CompletableFuture.runAsync(() -> eventDelivery.deliver(new TestEvent(), first)).get(5, TimeUnit.SECONDS);
+      assertThat(invocations).hasValue(4);
+    } finally {
+      singleThread.shutdownNow();
+    }
+  }
+
+  @Test
+  void deliver_sequential_shouldCollectAllFailures() {
+    var first = new IllegalStateException();
+    var second = new IllegalArgumentException();
+    var invocations = new AtomicInteger();
+    List<EventHandler<Event>> handlers = List.of(
+      event -> {
+        throw first;
+      },
+      event -> {
+        invocations.incrementAndGet();
+        return null;
+      },
+      event -> {
+        throw second;
+      }
+    );
+    var eventDelivery = EventDelivery.of(EventOrdering.SEQUENTIAL, executorService);
+    assertThatThrownBy(() -> eventDelivery.deliver(new TestEvent(), handlers))
+      .isInstanceOf(MediatorException.class)
+      .hasMessage(ExceptionMessages.eventHandlersFailedMessage(TestEvent.class.getName(), 2, 3))
+      .hasCause(first)
+      .satisfies(exception -> assertThat(exception.getSuppressed()).containsExactly(second));
+    assertThat(invocations).hasValue(1);
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await(5, TimeUnit.SECONDS);
+    } catch (Exception exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+}
@@ -0,0 +1,149 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventHandler;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventJournalTest {
+
+  private static final int SEGMENT_SIZE = 4096;
+
+  @TempDir
+  Path directory;
+
+  private final List<String> receivedEvents = new ArrayList<>();
+  private final EventHandlerProvider eventHandlerProvider =
+    new EventHandlerProvider(List.of(new RecordingEventHandler()));
+
+  @Test
+  void replay_shouldHandleJournaledEventsInOrder() {
+    try (var eventJournal = openJournal()) {
+      var eventEmitter = new JournalingEventEmitter(new MediatingEventEmitter(mediator()), eventJournal);
+      eventEmitter.emit(new JournaledEvent("first"), new JournaledEvent("second"));
+      eventEmitter.emit(new JournaledEvent("third"));
+    }
+    receivedEvents.clear();
+
+    try (var eventJournal = openJournal()) {
+      assertThat(eventJournal.replay()).isEqualTo(3);
+    }
+    assertThat(receivedEvents).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  void append_fullSegment_shouldRollOverToNextSegment() throws IOException {
+    try (var eventJournal = openJournal()) {
+      for (int i = 0; i < 100; i++) {
+        eventJournal.append(new JournaledEvent("event-" + i));
+      }
+      assertThat(eventJournal.replay()).isEqualTo(100);
+    }
+    assertThat(segments()).hasSizeGreaterThan(1);
+    assertThat(receivedEvents).hasSize(100).startsWith("event-0").endsWith("event-99");
+  }
+
+  @Test
+  void append_afterReopen_shouldContinueAfterLastEvent() {
+    try (var eventJournal = openJournal()) {
+      eventJournal.append(new JournaledEvent("before"));
+    }
+    try (var eventJournal = openJournal()) {
+      eventJournal.append(new JournaledEvent("after"));
+      eventJournal.replay();
+    }
+    assertThat(receivedEvents).containsExactly("before", "after");
+  }
+
+  @Test
+  void append_afterTornWrite_shouldOverwriteTornRecord() throws IOException {
+    try (var eventJournal = openJournal()) {
+      eventJournal.append(new JournaledEvent("intact"));
+      eventJournal.append(new JournaledEvent("torn"));
+    }
+    var segment = segments().get(0);
+    try (var channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_SIZE);
+      var firstRecordLength = buffer.getInt(0);
+      var secondPayload = JournalSegments.RECORD_HEADER_SIZE * 2 + firstRecordLength;
+      buffer.put(secondPayload + 10, (byte) ~buffer.get(secondPayload + 10));
+      buffer.force();
+    }
+
+    try (var eventJournal = openJournal()) {
+      eventJournal.append(new JournaledEvent("recovered"));
+      eventJournal.replay();
+    }
+    assertThat(receivedEvents).containsExactly("intact", "recovered");
+  }
+
+  @Test
+  void replay_shouldNotJournalReplayedEvents() {
+    try (var eventJournal = openJournal()) {
+      eventJournal.append(new JournaledEvent("once"));
+      eventJournal.replay();
+      eventJournal.replay();
+    }
+    assertThat(receivedEvents).containsExactly("once", "once");
+  }
+
+  @Test
+  void append_eventLargerThanSegment_shouldThrowException() {
+    try (var eventJournal = openJournal()) {
+      var event = new JournaledEvent("x".repeat(SEGMENT_SIZE));
+      assertThatThrownBy(() -> eventJournal.append(event)).isInstanceOf(MediatorException.class);
+    }
+  }
+
+  @Test
+  void append_afterClose_shouldThrowException() {
+    var eventJournal = openJournal();
+    eventJournal.close();
+    assertThatThrownBy(() -> eventJournal.append(new JournaledEvent("late")))
+      .isInstanceOf(MediatorException.class);
+  }
+
+  private EventJournal openJournal() {
+    return new EventJournal(directory, SEGMENT_SIZE, 1, new JavaEventSerializer(), eventHandlerProvider);
+  }
+
+  private Mediator mediator() {
+    return new RequestMediator(
+      new CommandHandlerProvider(List.of()),
+      new QueryHandlerProvider(List.of()),
+      eventHandlerProvider,
+      new SequentialEventDelivery(),
+      List.of()
+    );
+  }
+
+  private List<Path> segments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.sorted().toList();
+    }
+  }
+
+  record JournaledEvent(String name) implements Event, Serializable {
+  }
+
+  class RecordingEventHandler implements EventHandler<JournaledEvent> {
+
+    @Override
+    public Void handle(JournaledEvent event) {
+      receivedEvents.add(event.name());
+      return null;
+    }
+  }
+}
@@ -1,17 +1,23 @@
 package com.compilit.mediator;
 
 import static com.compilit.mediator.HandlerAbilityValidator.handlersMatchingRequest;
+import static com.compilit.mediator.HandlerAbilityValidator.requestTypeOf;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.CommandHandler;
 import com.compilit.mediator.api.Request;
 import com.compilit.mediator.api.RequestHandler;
 import com.compilit.mediator.testutil.TestCommand;
 import com.compilit.mediator.testutil.TestCommandHandler;
 import com.compilit.mediator.testutil.TestEvent;
 import com.compilit.mediator.testutil.TestEventHandler;
+import com.compilit.mediator.testutil.TestObject;
 import com.compilit.mediator.testutil.TestQuery;
 import com.compilit.mediator.testutil.TestQueryHandler;
+import java.util.Map;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -22,7 +28,8 @@ class HandlerAbilityValidatorTest {
     return Stream.of(
       Arguments.arguments(new TestQuery(), new TestQueryHandler()),
       Arguments.arguments(new TestCommand(), new TestCommandHandler()),
-      Arguments.arguments(new TestEvent(), new TestEventHandler())
+      Arguments.arguments(new TestEvent(), new TestEventHandler()),
+      Arguments.arguments(new NestedCommand(), new InheritingCommandHandler())
     );
   }
 
@@ -30,7 +37,8 @@ class HandlerAbilityValidatorTest {
     return Stream.of(
       Arguments.arguments(new TestQuery(), new TestCommandHandler()),
       Arguments.arguments(new TestCommand(), new TestQueryHandler()),
-      Arguments.arguments(new TestEvent(), new TestCommandHandler())
+      Arguments.arguments(new TestEvent(), new TestCommandHandler()),
+      Arguments.arguments(new TestCommand(), new InheritingCommandHandler())
     );
   }
 
@@ -45,4 +53,49 @@ class HandlerAbilityValidatorTest {
   void handlersMatchingRequest_invalidMatch_shouldReturnFalse(Request request, RequestHandler requestHandler) {
     assertThat(handlersMatchingRequest(request.getClass()).test(requestHandler)).isFalse();
   }
-}
\ No newline at end of file
+
+  @ParameterizedTest
+  @MethodSource("validTestCases")
+  void requestTypeOf_handler_shouldReturnHandledRequestType(Request request, RequestHandler requestHandler) {
+    assertThat(requestTypeOf(requestHandler)).contains(request.getClass());
+  }
+
+  @Test
+  void requestTypeOf_handlerWithoutTypeInformation_shouldReturnEmpty() {
+    CommandHandler<TestCommand, TestObject> lambdaHandler = command -> null;
+    assertThat(requestTypeOf(lambdaHandler)).isEmpty();
+  }
+
+  @Test
+  void requestTypeOf_handlerInStaticRoutingTable_shouldReturnRoutedRequestType() {
+    assertThat(requestTypeOf(new GenericCommandHandler<TestCommand>())).contains(TestCommand.class);
+  }
+
+  static class NestedCommand implements Command<TestObject> {
+  }
+
+  /**
+   * The request type is a type variable, so it can only be known through the StaticRoutingTable.
+   */
+  static class GenericCommandHandler<T extends Command<TestObject>> extends AbstractCommandHandler<T> {
+  }
+
+  public static class TestRoutingTable implements StaticRoutingTable {
+
+    @Override
+    public Map<Class<?>, Class<?>> getRequestTypes() {
+      return Map.of(GenericCommandHandler.class, TestCommand.class);
+    }
+  }
+
+  abstract static class AbstractCommandHandler<T extends Command<TestObject>> implements CommandHandler<T, TestObject> {
+
+    @Override
+    public TestObject handle(T command) {
+      return null;
+    }
+  }
+
+  static class InheritingCommandHandler extends AbstractCommandHandler<NestedCommand> {
+  }
+}
@@ -0,0 +1,54 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import com.compilit.mediator.api.Request;
+import com.compilit.mediator.testutil.TestCommand;
+import com.compilit.mediator.testutil.TestCommandHandler;
+import com.compilit.mediator.testutil.TestEvent;
+import com.compilit.mediator.testutil.TestEventHandler;
+import com.compilit.mediator.testutil.TestQuery;
+import com.compilit.mediator.testutil.TestQueryHandler;
+import com.compilit.mediator.testutil.TestSameCommandHandler;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MediatorBootstrapTest {
+
+  @Test
+  void start_shouldInstallDispatchers() {
+    var handledRequests = new ArrayList<String>();
+    var dispatchers = MediatorBootstrap.create()
+      .withCommandHandlers(new TestCommandHandler())
+      .withQueryHandlers(new TestQueryHandler())
+      .withEventHandlers(new TestEventHandler())
+      .withPipelineBehaviors(new RecordingBehavior(handledRequests))
+      .start();
+
+    Dispatchers.apply(new TestCommand());
+    Dispatchers.resolve(new TestQuery());
+    dispatchers.getEventEmitter().emit(new TestEvent());
+
+    assertThat(handledRequests).containsExactly("TestCommand", "TestQuery", "TestEvent");
+  }
+
+  @Test
+  void start_multipleCommandHandlers_shouldThrowException() {
+    var bootstrap = MediatorBootstrap.create()
+      .withCommandHandlers(new TestCommandHandler(), new TestSameCommandHandler());
+    assertThatThrownBy(bootstrap::start).isInstanceOf(MediatorException.class);
+  }
+
+  private record RecordingBehavior(List<String> handledRequests) implements PipelineBehavior {
+
+    @Override
+    public <R> R handle(Request request, PipelineStep<R> next) {
+      handledRequests.add(request.getClass().getSimpleName());
+      return next.proceed(request);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import com.compilit.mediator.api.BatchCommandHandler;
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.CommandHandler;
+import com.compilit.mediator.testutil.TestCommand;
+import com.compilit.mediator.testutil.TestCommandHandler;
+import com.compilit.mediator.testutil.TestEvent;
+import com.compilit.mediator.testutil.TestEventHandler;
+import com.compilit.mediator.testutil.TestQuery;
+import com.compilit.mediator.testutil.TestQueryHandler;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MediatorMetricsTest {
+
+  private final RequestMetricsRecorder recorder = new RequestMetricsRecorder();
+  private final NumberBatchCommandHandler batchCommandHandler = new NumberBatchCommandHandler();
+  private final Mediator mediator = new RequestMediator(
+    new CommandHandlerProvider(List.of(new TestCommandHandler(), new FailingCommandHandler(), batchCommandHandler)),
+    new QueryHandlerProvider(List.of(new TestQueryHandler())),
+    new EventHandlerProvider(List.of(new TestEventHandler())),
+    new SequentialEventDelivery(),
+    List.of(new MetricsBehavior(recorder))
+  );
+
+  @Test
+  void mediate_shouldRecordMetricsPerRequestType() {
+    mediator.mediateCommand(new TestCommand());
+    mediator.mediateCommand(new TestCommand());
+    mediator.mediateQuery(new TestQuery());
+    mediator.mediateEvent(new TestEvent());
+    var metrics = recorder.getMetrics();
+    assertThat(metrics).extracting(RequestTypeMetrics::requestType)
+      .containsExactly(TestCommand.class, TestEvent.class, TestQuery.class);
+    assertThat(metrics).extracting(RequestTypeMetrics::count).containsExactly(2L, 1L, 1L);
+    assertThat(metrics).allSatisfy(requestTypeMetrics -> {
+      assertThat(requestTypeMetrics.errors()).isZero();
+      assertThat(requestTypeMetrics.inFlight()).isZero();
+      assertThat(requestTypeMetrics.median()).isLessThanOrEqualTo(requestTypeMetrics.max());
+    });
+  }
+
+  @Test
+  void mediate_failingHandler_shouldRecordError() {
+    assertThatThrownBy(() -> mediator.mediateCommand(new FailingCommand())).isInstanceOf(IllegalStateException.class);
+    var metrics = recorder.getMetrics().get(0);
+    assertThat(metrics.requestType()).isEqualTo(FailingCommand.class);
+    assertThat(metrics.count()).isEqualTo(1);
+    assertThat(metrics.errors()).isEqualTo(1);
+    assertThat(metrics.inFlight()).isZero();
+  }
+
+  @Test
+  void mediateCommands_batchHandler_shouldReceiveWholeBatchAndRecordEveryCommand() {
+    mediator.mediateCommands(List.of(new NumberCommand(1), new NumberCommand(2), new NumberCommand(3)));
+    assertThat(batchCommandHandler.batchSizes).containsExactly(3);
+    var metrics = recorder.getMetrics().get(0);
+    assertThat(metrics.requestType()).isEqualTo(NumberCommand.class);
+    assertThat(metrics.count()).isEqualTo(3);
+    assertThat(metrics.inFlight()).isZero();
+  }
+
+  @Test
+  void latencyHistogram_shouldReportPercentilesWithinBucketPrecision() {
+    var histogram = new LatencyHistogram();
+    for (long value = 1; value <= 100_000; value++) {
+      histogram.record(value * 1_000);
+    }
+    assertThat((double) histogram.getValueAtPercentile(50)).isCloseTo(50_000_000, within(50_000_000 / 16.0));
+    assertThat((double) histogram.getValueAtPercentile(99)).isCloseTo(99_000_000, within(99_000_000 / 16.0));
+    assertThat(histogram.getValueAtPercentile(100)).isEqualTo(100_000_000);
+    assertThat(histogram.getMax()).isEqualTo(100_000_000);
+  }
+
+  @Test
+  void latencyHistogram_bucketOf_shouldContainValue() {
+    for (long value : new long[]{0, 1, 15, 16, 17, 31, 32, 1_000, 123_456_789, Long.MAX_VALUE}) {
+      var bucket = LatencyHistogram.bucketOf(value);
+      assertThat(LatencyHistogram.highestValueOf(bucket)).isGreaterThanOrEqualTo(value);
+      if (bucket > 0) {
+        assertThat(LatencyHistogram.highestValueOf(bucket - 1)).isLessThan(value);
+      }
+    }
+  }
+
+  static class FailingCommand implements Command<Void> {
+  }
+
+  static class FailingCommandHandler implements CommandHandler<FailingCommand, Void> {
+
+    @Override
+    public Void handle(FailingCommand command) {
+      throw new IllegalStateException("failed");
+    }
+  }
+
+  record NumberCommand(int value) implements Command<Integer> {
+  }
+
+  static class NumberBatchCommandHandler implements BatchCommandHandler<NumberCommand, Integer> {
+
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @Override
+    public List<Integer> handleAll(List<NumberCommand> commands) {
+      batchSizes.add(commands.size());
+      return commands.stream().map(NumberCommand::value).toList();
+    }
+  }
+}
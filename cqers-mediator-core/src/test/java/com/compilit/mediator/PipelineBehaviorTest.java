@@ -0,0 +1,106 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.PipelineStep;
+import com.compilit.mediator.api.Query;
+import com.compilit.mediator.api.Request;
+import com.compilit.mediator.testutil.SideEffectContext;
+import com.compilit.mediator.testutil.TestCommand;
+import com.compilit.mediator.testutil.TestCommandHandler;
+import com.compilit.mediator.testutil.TestEvent;
+import com.compilit.mediator.testutil.TestEventHandler;
+import com.compilit.mediator.testutil.TestObject;
+import com.compilit.mediator.testutil.TestQuery;
+import com.compilit.mediator.testutil.TestQueryHandler;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PipelineBehaviorTest {
+
+  private final List<String> invocations = new ArrayList<>();
+
+  @BeforeEach
+  void reset() {
+    SideEffectContext.reset();
+  }
+
+  @Test
+  void mediate_multipleBehaviors_shouldInvokeBehaviorsInOrderAroundHandler() {
+    var mediator = createMediator(new RecordingBehavior("first"), new RecordingBehavior("second"));
+    mediator.mediateCommand(new TestCommand());
+    mediator.mediateEvent(new TestEvent());
+    assertThat(invocations).containsExactly(
+      "first:before", "second:before", "second:after", "first:after",
+      "first:before", "second:before", "second:after", "first:after"
+    );
+    assertThat(SideEffectContext.isInvoked(2)).isTrue();
+  }
+
+  @Test
+  void mediate_behaviorNotApplyingToRequestType_shouldBeSkipped() {
+    var queriesOnly = new RecordingBehavior("queries") {
+      @Override
+      public boolean appliesTo(Class<? extends Request> requestType) {
+        return Query.class.isAssignableFrom(requestType);
+      }
+    };
+    var mediator = createMediator(queriesOnly);
+    mediator.mediateCommand(new TestCommand());
+    assertThat(invocations).isEmpty();
+    mediator.mediateQuery(new TestQuery());
+    assertThat(invocations).containsExactly("queries:before", "queries:after");
+  }
+
+  @Test
+  void mediate_shortCircuitingBehavior_shouldNotInvokeHandler() {
+    var cachedValue = new TestObject();
+    var shortCircuit = new PipelineBehavior() {
+      @Override
+      public <R> R handle(Request request, PipelineStep<R> next) {
+        return (R) cachedValue;
+      }
+    };
+    var mediator = createMediator(shortCircuit);
+    assertThat(mediator.mediateQuery(new TestQuery())).isSameAs(cachedValue);
+    assertThat(SideEffectContext.isInvoked).isFalse();
+  }
+
+  @Test
+  void mediateQueries_withBehavior_shouldPassEveryQueryThroughTheChain() {
+    var mediator = createMediator(new RecordingBehavior("batch"));
+    mediator.mediateQueries(List.of(new TestQuery(), new TestQuery()));
+    assertThat(invocations).containsExactly("batch:before", "batch:after", "batch:before", "batch:after");
+    assertThat(SideEffectContext.isInvoked(2)).isTrue();
+  }
+
+  private RequestMediator createMediator(PipelineBehavior... behaviors) {
+    return new RequestMediator(
+      new CommandHandlerProvider(List.of(new TestCommandHandler())),
+      new QueryHandlerProvider(List.of(new TestQueryHandler())),
+      new EventHandlerProvider(List.of(new TestEventHandler())),
+      new SequentialEventDelivery(),
+      List.of(behaviors)
+    );
+  }
+
+  private class RecordingBehavior implements PipelineBehavior {
+
+    private final String name;
+
+    private RecordingBehavior(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public <R> R handle(Request request, PipelineStep<R> next) {
+      invocations.add(name + ":before");
+      var result = next.proceed(request);
+      invocations.add(name + ":after");
+      return result;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.CommandHandler;
+import com.compilit.mediator.api.Prioritized;
+import com.compilit.mediator.api.PrioritizedCommand;
+import com.compilit.mediator.api.Priority;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PrioritizedAsyncCommandDispatcherTest {
+
+  private final List<String> handledCommands = Collections.synchronizedList(new ArrayList<>());
+  private final CountDownLatch blocking = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+  private final PrioritizedAsyncCommandDispatcher dispatcher = new PrioritizedAsyncCommandDispatcher(
+    new RequestMediator(
+      new CommandHandlerProvider(List.of(
+        new RecordedCommandHandler(),
+        new BulkCommandHandler(),
+        new BlockingCommandHandler()
+      )),
+      new QueryHandlerProvider(List.of()),
+      new EventHandlerProvider(List.of()),
+      new SequentialEventDelivery(),
+      List.of()
+    ),
+    executor,
+    1,
+    Map.of(Priority.HIGH, 3, Priority.NORMAL, 2, Priority.LOW, 1)
+  );
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void priorityOf_shouldPreferInterfaceOverAnnotation() {
+    assertThat(PrioritizedAsyncCommandDispatcher.priorityOf(new RecordedCommand("a", Priority.HIGH)))
+      .isEqualTo(Priority.HIGH);
+    assertThat(PrioritizedAsyncCommandDispatcher.priorityOf(new RecordedCommand("a", null)))
+      .isEqualTo(Priority.LOW);
+    assertThat(PrioritizedAsyncCommandDispatcher.priorityOf(new BulkCommand("a"))).isEqualTo(Priority.LOW);
+    assertThat(PrioritizedAsyncCommandDispatcher.priorityOf(new BlockingCommand())).isEqualTo(Priority.NORMAL);
+  }
+
+  @Test
+  void dispatch_busyLanes_shouldShareCapacityByWeight() throws InterruptedException {
+    var blocked = dispatcher.dispatch(new BlockingCommand());
+    assertThat(blocking.await(5, TimeUnit.SECONDS)).isTrue();
+    var futures = new ArrayList<CompletableFuture<?>>();
+    for (int i = 0; i < 6; i++) {
+      futures.add(dispatcher.dispatch(new BulkCommand("low")));
+    }
+    for (int i = 0; i < 6; i++) {
+      futures.add(dispatcher.dispatch(new RecordedCommand("high", Priority.HIGH)));
+    }
+    assertThat(laneMetrics(Priority.LOW).queueDepth()).isEqualTo(6);
+    assertThat(laneMetrics(Priority.HIGH).queueDepth()).isEqualTo(6);
+
+    release.countDown();
+    blocked.join();
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    assertThat(handledCommands.subList(0, 4)).containsExactlyInAnyOrder("high", "high", "high", "low");
+    assertThat(handledCommands).hasSize(12);
+    assertThat(laneMetrics(Priority.HIGH).started()).isEqualTo(6);
+    assertThat(laneMetrics(Priority.LOW).maxQueueDepth()).isEqualTo(6);
+    assertThat(laneMetrics(Priority.LOW).queueDepth()).isZero();
+  }
+
+  @Test
+  void dispatch_failingCommand_shouldCompleteExceptionally() {
+    release.countDown();
+    var future = dispatcher.dispatch(new BulkCommand(null));
+    assertThat(future).failsWithin(5, TimeUnit.SECONDS);
+    assertThat(dispatcher.dispatch(new BulkCommand("next")).join()).isNull();
+  }
+
+  @Test
+  void dispatch_rejectedByExecutor_shouldNotLeaveCommandInLane() {
+    var rejectingDispatcher = new PrioritizedAsyncCommandDispatcher(
+      new RequestMediator(
+        new CommandHandlerProvider(List.of(new BulkCommandHandler())),
+        new QueryHandlerProvider(List.of()),
+        new EventHandlerProvider(List.of())
+      ),
+      task -> {
+        throw new RejectedExecutionException("rejected");
+      },
+      1,
+      Map.of()
+    );
+    assertThatThrownBy(() -> rejectingDispatcher.dispatch(new BulkCommand("rejected")))
+      .isInstanceOf(RejectedExecutionException.class);
+    assertThat(rejectingDispatcher.getLaneMetrics()).allSatisfy(metrics -> assertThat(metrics.queueDepth()).isZero());
+  }
+
+  private CommandLaneMetrics laneMetrics(Priority priority) {
+    return dispatcher.getLaneMetrics().stream()
+      .filter(metrics -> metrics.priority() == priority)
+      .findFirst()
+      .orElseThrow();
+  }
+
+  @Prioritized(Priority.LOW)
+  record RecordedCommand(String name, Priority priority) implements PrioritizedCommand<Void> {
+
+    @Override
+    public Priority getPriority() {
+      return priority;
+    }
+  }
+
+  @Prioritized(Priority.LOW)
+  record BulkCommand(String name) implements Command<Void> {
+  }
+
+  record BlockingCommand() implements Command<Void> {
+  }
+
+  class RecordedCommandHandler implements CommandHandler<RecordedCommand, Void> {
+
+    @Override
+    public Void handle(RecordedCommand command) {
+      handledCommands.add(command.name());
+      return null;
+    }
+  }
+
+  class BulkCommandHandler implements CommandHandler<BulkCommand, Void> {
+
+    @Override
+    public Void handle(BulkCommand command) {
+      if (command.name() == null) {
+        throw new IllegalArgumentException("name is required");
+      }
+      handledCommands.add(command.name());
+      return null;
+    }
+  }
+
+  class BlockingCommandHandler implements CommandHandler<BlockingCommand, Void> {
+
+    @Override
+    public Void handle(BlockingCommand command) {
+      blocking.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.BatchQueryHandler;
+import com.compilit.mediator.api.CacheableQuery;
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.InvalidatedBy;
+import com.compilit.mediator.api.QueryHandler;
+import com.compilit.mediator.testutil.SideEffectContext;
+import com.compilit.mediator.testutil.TestEvent;
+import com.compilit.mediator.testutil.TestEventHandler;
+import com.compilit.mediator.testutil.TestQuery;
+import com.compilit.mediator.testutil.TestQueryHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryCacheTest {
+
+  private static final String INVALIDATING_KEY = "invalidating";
+  private final CacheableNumberQueryHandler batchQueryHandler = new CacheableNumberQueryHandler();
+  private final QueryHandlerProvider queryHandlerProvider = new QueryHandlerProvider(
+    List.of(
+      new TestQueryHandler(),
+      new CacheableTestQueryHandler(),
+      new FailingInvalidationQueryHandler(),
+      batchQueryHandler
+    )
+  );
+  private final EventHandlerProvider eventHandlerProvider = new EventHandlerProvider(
+    List.of(new TestEventHandler(), new FailingEventHandler())
+  );
+  private RequestMediator mediatorUnderTest;
+
+  @BeforeEach
+  void reset() {
+    SideEffectContext.reset();
+  }
+
+  @Test
+  void mediateQuery_equalCacheableQueries_shouldInvokeHandlerOnce() {
+    var queryCache = createQueryCache(10, Duration.ofMinutes(1));
+    var mediator = createMediator(queryCache);
+    assertThat(mediator.mediateQuery(new CacheableTestQuery("a"))).isEqualTo("result-a");
+    assertThat(mediator.mediateQuery(new CacheableTestQuery("a"))).isEqualTo("result-a");
+    assertThat(mediator.mediateQuery(new CacheableTestQuery("b"))).isEqualTo("result-b");
+    assertThat(SideEffectContext.isInvoked(2)).isTrue();
+    assertThat(queryCache.getStatistics()).isEqualTo(new QueryCacheStatistics(1, 2, 0, 0, 2));
+  }
+
+  @Test
+  void mediateQuery_regularQuery_shouldNotBeCached() {
+    var queryCache = createQueryCache(10, Duration.ofMinutes(1));
+    var mediator = createMediator(queryCache);
+    mediator.mediateQuery(new TestQuery());
+    mediator.mediateQuery(new TestQuery());
+    assertThat(SideEffectContext.isInvoked(2)).isTrue();
+    assertThat(queryCache.appliesTo(TestQuery.class)).isFalse();
+  }
+
+  @Test
+  void mediateQuery_cacheFull_shouldEvictLeastRecentlyUsedResult() {
+    var queryCache = createQueryCache(2, Duration.ofMinutes(1));
+    var mediator = createMediator(queryCache);
+    mediator.mediateQuery(new CacheableTestQuery("a"));
+    mediator.mediateQuery(new CacheableTestQuery("b"));
+    mediator.mediateQuery(new CacheableTestQuery("a"));
+    mediator.mediateQuery(new CacheableTestQuery("c"));
+    mediator.mediateQuery(new CacheableTestQuery("a"));
+    assertThat(SideEffectContext.isInvoked(3)).isTrue();
+    mediator.mediateQuery(new CacheableTestQuery("b"));
+    assertThat(SideEffectContext.isInvoked(4)).isTrue();
+    assertThat(queryCache.getStatistics().evictions()).isEqualTo(2);
+  }
+
+  @Test
+  void mediateQuery_expiredResult_shouldInvokeHandlerAgain() {
+    var queryCache = createQueryCache(10, Duration.ZERO);
+    var mediator = createMediator(queryCache);
+    mediator.mediateQuery(new CacheableTestQuery("a"));
+    mediator.mediateQuery(new CacheableTestQuery("a"));
+    assertThat(SideEffectContext.isInvoked(2)).isTrue();
+    assertThat(queryCache.getStatistics().evictions()).isEqualTo(1);
+  }
+
+  @Test
+  void mediateEvent_invalidatingEvent_shouldEvictCachedResults() {
+    var queryCache = createQueryCache(10, Duration.ofMinutes(1));
+    var mediator = createMediator(queryCache);
+    mediator.mediateQuery(new CacheableTestQuery("a"));
+    mediator.mediateQuery(new CacheableTestQuery("b"));
+    mediator.mediateEvent(new TestEvent());
+    mediator.mediateQuery(new CacheableTestQuery("a"));
+    assertThat(SideEffectContext.isInvoked(4)).isTrue();
+    assertThat(queryCache.getStatistics().invalidations()).isEqualTo(2);
+    assertThat(queryCache.getStatistics().size()).isEqualTo(1);
+  }
+
+  @Test
+  void mediateEvent_invalidatingEventWithFailingHandler_shouldStillEvictCachedResults() {
+    var queryCache = createQueryCache(10, Duration.ofMinutes(1));
+    var mediator = createMediator(queryCache);
+    mediator.mediateQuery(new FailingInvalidationQuery("a"));
+    assertThatThrownBy(() -> mediator.mediateEvent(new FailingEvent())).isInstanceOf(MediatorException.class);
+    mediator.mediateQuery(new FailingInvalidationQuery("a"));
+    assertThat(SideEffectContext.isInvoked(2)).isTrue();
+    assertThat(queryCache.getStatistics().invalidations()).isEqualTo(1);
+  }
+
+  @Test
+  void mediateQuery_invalidatedWhileHandling_shouldNotCacheStaleResult() {
+    var queryCache = createQueryCache(10, Duration.ofMinutes(1));
+    var mediator = createMediator(queryCache);
+    mediator.mediateQuery(new CacheableTestQuery(INVALIDATING_KEY));
+    mediator.mediateQuery(new CacheableTestQuery(INVALIDATING_KEY));
+    // both Queries invoke the QueryHandler and the EventHandler
+    assertThat(SideEffectContext.isInvoked(4)).isTrue();
+    assertThat(queryCache.getStatistics().size()).isZero();
+  }
+
+  @Test
+  void mediateQueries_partlyCached_shouldPassOnlyMissesToBatchHandlerAtOnce() {
+    var queryCache = createQueryCache(10, Duration.ofMinutes(1));
+    var mediator = createMediator(queryCache);
+    mediator.mediateQuery(new CacheableNumberQuery(2));
+    var queries = List.of(new CacheableNumberQuery(1), new CacheableNumberQuery(2), new CacheableNumberQuery(3));
+    assertThat(mediator.mediateQueries(queries)).containsExactly(10, 20, 30);
+    assertThat(mediator.mediateQueries(queries)).containsExactly(10, 20, 30);
+    assertThat(batchQueryHandler.batches).containsExactly(List.of(2), List.of(1, 3));
+    assertThat(queryCache.getStatistics()).isEqualTo(new QueryCacheStatistics(4, 3, 0, 0, 3));
+  }
+
+  @Test
+  void constructor_invalidatingEventWithoutHandler_shouldThrowMediatorException() {
+    assertThatThrownBy(() -> new QueryCache(
+      Set.of(UnhandledInvalidationQuery.class),
+      eventHandlerProvider.getRequestTypes(),
+      10,
+      Duration.ofMinutes(1)
+    ))
+      .isInstanceOf(MediatorException.class)
+      .hasMessage(ExceptionMessages.unhandledInvalidatingEventMessage(
+        UnhandledInvalidationQuery.class.getName(),
+        UnhandledEvent.class.getName()
+      ));
+  }
+
+  private QueryCache createQueryCache(int maximumSize, Duration timeToLive) {
+    return new QueryCache(queryHandlerProvider.getRequestTypes(), eventHandlerProvider.getRequestTypes(), maximumSize,
+      timeToLive);
+  }
+
+  private RequestMediator createMediator(QueryCache queryCache) {
+    mediatorUnderTest = new RequestMediator(
+      new CommandHandlerProvider(List.of()),
+      queryHandlerProvider,
+      eventHandlerProvider,
+      new SequentialEventDelivery(),
+      List.of(queryCache)
+    );
+    return mediatorUnderTest;
+  }
+
+  @InvalidatedBy(TestEvent.class)
+  record CacheableTestQuery(String key) implements CacheableQuery<String> {
+  }
+
+  @InvalidatedBy(UnhandledEvent.class)
+  record UnhandledInvalidationQuery() implements CacheableQuery<String> {
+  }
+
+  record CacheableNumberQuery(int value) implements CacheableQuery<Integer> {
+  }
+
+  @InvalidatedBy(FailingEvent.class)
+  record FailingInvalidationQuery(String key) implements CacheableQuery<String> {
+  }
+
+  record UnhandledEvent() implements Event {
+  }
+
+  record FailingEvent() implements Event {
+  }
+
+  static class FailingEventHandler implements EventHandler<FailingEvent> {
+
+    @Override
+    public Void handle(FailingEvent event) {
+      throw new IllegalStateException("failed");
+    }
+  }
+
+  static class FailingInvalidationQueryHandler implements QueryHandler<FailingInvalidationQuery, String> {
+
+    @Override
+    public String handle(FailingInvalidationQuery query) {
+      SideEffectContext.invoke();
+      return "result-" + query.key();
+    }
+  }
+
+  static class CacheableNumberQueryHandler implements BatchQueryHandler<CacheableNumberQuery, Integer> {
+
+    private final List<List<Integer>> batches = new ArrayList<>();
+
+    @Override
+    public List<Integer> handleAll(List<CacheableNumberQuery> queries) {
+      batches.add(queries.stream().map(CacheableNumberQuery::value).toList());
+      return queries.stream().map(query -> query.value() * 10).toList();
+    }
+  }
+
+  class CacheableTestQueryHandler implements QueryHandler<CacheableTestQuery, String> {
+
+    @Override
+    public String handle(CacheableTestQuery query) {
+      SideEffectContext.invoke();
+      if (INVALIDATING_KEY.equals(query.key())) {
+        // an invalidating Event is handled while this Query is still being handled
+        mediatorUnderTest.mediateEvent(new TestEvent());
+      }
+      return "result-" + query.key();
+    }
+  }
+}
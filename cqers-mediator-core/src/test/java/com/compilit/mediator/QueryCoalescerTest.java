@@ -0,0 +1,182 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.BatchQueryHandler;
+import com.compilit.mediator.api.CoalescableQuery;
+import com.compilit.mediator.api.Query;
+import com.compilit.mediator.api.QueryHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class QueryCoalescerTest {
+
+  private static final int THREADS = 8;
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final AtomicInteger handlerInvocations = new AtomicInteger();
+  private final QueryCoalescer queryCoalescer = new QueryCoalescer();
+  private final NumberQueryHandler batchQueryHandler = new NumberQueryHandler();
+  private final Mediator mediator = new RequestMediator(
+    new CommandHandlerProvider(List.of()),
+    new QueryHandlerProvider(List.of(
+      new BlockingQueryHandler(),
+      batchQueryHandler,
+      new RecursiveQueryHandler(),
+      new PlainQueryHandler()
+    )),
+    new EventHandlerProvider(List.of()),
+    new SequentialEventDelivery(),
+    List.of(queryCoalescer)
+  );
+  private final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void mediateQuery_concurrentEqualQueries_shouldShareSingleHandlerExecution() throws Exception {
+    var futures = dispatchConcurrently(new BlockingQuery("a"));
+    awaitCollapsedCalls(THREADS - 1);
+    release.countDown();
+    for (var future : futures) {
+      assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("result-a");
+    }
+    assertThat(handlerInvocations).hasValue(1);
+    assertThat(queryCoalescer.getExecutions()).isEqualTo(1);
+    assertThat(queryCoalescer.getCollapsedCalls()).isEqualTo(THREADS - 1);
+  }
+
+  @Test
+  void mediateQuery_concurrentEqualQueries_shouldShareException() throws Exception {
+    var futures = dispatchConcurrently(new BlockingQuery("fail"));
+    awaitCollapsedCalls(THREADS - 1);
+    release.countDown();
+    for (var future : futures) {
+      assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+    }
+    assertThat(handlerInvocations).hasValue(1);
+  }
+
+  @Test
+  void mediateQuery_sequentialEqualQueries_shouldNotBeCoalesced() {
+    release.countDown();
+    mediator.mediateQuery(new BlockingQuery("a"));
+    mediator.mediateQuery(new BlockingQuery("a"));
+    assertThat(handlerInvocations).hasValue(2);
+    assertThat(queryCoalescer.getCollapsedCalls()).isZero();
+  }
+
+  @Test
+  void mediateQuery_equalQueryFromItsOwnHandler_shouldBeHandledDirectly() throws Exception {
+    var result = executorService.submit(() -> mediator.mediateQuery(new RecursiveQuery("a")));
+    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+    assertThat(queryCoalescer.getExecutions()).isEqualTo(4);
+    assertThat(queryCoalescer.getCollapsedCalls()).isZero();
+  }
+
+  @Test
+  void appliesTo_queryWithoutOptIn_shouldReturnFalse() {
+    assertThat(queryCoalescer.appliesTo(PlainQuery.class)).isFalse();
+    assertThat(queryCoalescer.appliesTo(BlockingQuery.class)).isTrue();
+  }
+
+  @Test
+  void mediateQueries_batchHandler_shouldReceiveAllQueriesAtOnce() {
+    assertThat(mediator.mediateQueries(List.of(new NumberQuery(1), new NumberQuery(1), new NumberQuery(2))))
+      .containsExactly(2, 2, 4);
+    assertThat(batchQueryHandler.batches).containsExactly(List.of(1, 1, 2));
+    assertThat(queryCoalescer.getCollapsedCalls()).isZero();
+  }
+
+  private List<Future<String>> dispatchConcurrently(BlockingQuery query) {
+    List<Future<String>> futures = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      futures.add(executorService.submit(() -> mediator.mediateQuery(query)));
+    }
+    return futures;
+  }
+
+  private void awaitCollapsedCalls(long expected) throws InterruptedException {
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (queryCoalescer.getCollapsedCalls() < expected && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+  }
+
+  record BlockingQuery(String key) implements CoalescableQuery<String> {
+  }
+
+  record NumberQuery(int value) implements CoalescableQuery<Integer> {
+  }
+
+  record RecursiveQuery(String key) implements CoalescableQuery<Integer> {
+  }
+
+  record PlainQuery() implements Query<String> {
+  }
+
+  /**
+   * Dispatches an equal Query from within its handler, three levels deep.
+   */
+  class RecursiveQueryHandler implements QueryHandler<RecursiveQuery, Integer> {
+
+    private int remaining = 3;
+
+    @Override
+    public Integer handle(RecursiveQuery query) {
+      if (remaining == 0) {
+        return 0;
+      }
+      remaining--;
+      return 1 + mediator.mediateQuery(query);
+    }
+  }
+
+  static class PlainQueryHandler implements QueryHandler<PlainQuery, String> {
+
+    @Override
+    public String handle(PlainQuery query) {
+      return "plain";
+    }
+  }
+
+  static class NumberQueryHandler implements BatchQueryHandler<NumberQuery, Integer> {
+
+    private final List<List<Integer>> batches = new ArrayList<>();
+
+    @Override
+    public List<Integer> handleAll(List<NumberQuery> queries) {
+      batches.add(queries.stream().map(NumberQuery::value).toList());
+      return queries.stream().map(query -> query.value() * 2).toList();
+    }
+  }
+
+  class BlockingQueryHandler implements QueryHandler<BlockingQuery, String> {
+
+    @Override
+    public String handle(BlockingQuery query) {
+      handlerInvocations.incrementAndGet();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (query.key().equals("fail")) {
+        throw new IllegalStateException("failed");
+      }
+      return "result-" + query.key();
+    }
+  }
+}
@@ -0,0 +1,366 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.BatchQueryHandler;
+import com.compilit.mediator.api.Bulkhead;
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.CommandHandler;
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventEmitter;
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.Query;
+import com.compilit.mediator.api.QueryHandler;
+import com.compilit.mediator.api.RequestHandler;
+import com.compilit.mediator.api.Timeout;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestLimitsBehaviorTest {
+
+  private final CountDownLatch started = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final List<RequestHandler<?, ?>> handlers = List.of(
+    new SlowQueryHandler(),
+    new BlockingQueryHandler(),
+    new PlainQueryHandler()
+  );
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void fromAnnotations_shouldReadTimeoutAndBulkhead() {
+    var limits = RequestLimits.fromAnnotations(handlers);
+    assertThat(limits).containsOnlyKeys(SlowQuery.class, BlockingQuery.class);
+    assertThat(limits.get(SlowQuery.class).timeout()).isEqualTo(Duration.ofMillis(50));
+    assertThat(limits.get(BlockingQuery.class).maxConcurrentCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void mediateQuery_slowHandler_shouldTimeOut() {
+    var mediator = mediator(RequestLimits.fromAnnotations(handlers), null);
+    var start = System.nanoTime();
+    assertThatThrownBy(() -> mediator.mediateQuery(new SlowQuery()))
+      .isInstanceOf(MediatorException.class)
+      .hasMessageContaining("did not complete within 50 ms");
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void mediateQuery_fullBulkhead_shouldRejectImmediately() throws InterruptedException {
+    var mediator = mediator(RequestLimits.fromAnnotations(handlers), null);
+    var first = CompletableFuture.supplyAsync(() -> mediator.mediateQuery(new BlockingQuery()), executor);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThatThrownBy(() -> mediator.mediateQuery(new BlockingQuery()))
+      .isInstanceOf(MediatorException.class)
+      .hasMessageContaining("already executing 1 times");
+
+    release.countDown();
+    assertThat(first.join()).isEqualTo("released");
+    assertThat(mediator.mediateQuery(new BlockingQuery())).isEqualTo("released");
+  }
+
+  @Test
+  void mediateQuery_configuredLimits_shouldOverrideDefaults() {
+    var mediator = mediator(
+      Map.of(PlainQuery.class, RequestLimits.bulkhead(PlainQuery.class, 5)),
+      Duration.ofMillis(1)
+    );
+    assertThat(mediator.mediateQuery(new PlainQuery())).isEqualTo("plain");
+    assertThatThrownBy(() -> mediator.mediateQuery(new SlowQuery())).isInstanceOf(MediatorException.class);
+  }
+
+  @Test
+  void mediateQuery_timedOutWhileQueued_shouldReleasePermit() throws InterruptedException {
+    var singleThreadExecutor = Executors.newSingleThreadExecutor();
+    try {
+      var mediator = new RequestMediator(
+        new CommandHandlerProvider(List.of()),
+        new QueryHandlerProvider(List.of(new PlainQueryHandler())),
+        new EventHandlerProvider(List.of()),
+        new SequentialEventDelivery(),
+        List.of(new RequestLimitsBehavior(
+          Map.of(PlainQuery.class, new RequestLimits(PlainQuery.class, Duration.ofMillis(50), 1)),
+          null,
+          RequestLimits.UNLIMITED,
+          singleThreadExecutor
+        ))
+      );
+      singleThreadExecutor.execute(() -> {
+        started.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThatThrownBy(() -> mediator.mediateQuery(new PlainQuery()))
+        .hasMessageContaining("did not complete within 50 ms");
+
+      release.countDown();
+      assertThat(mediator.mediateQuery(new PlainQuery())).isEqualTo("plain");
+    } finally {
+      singleThreadExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  void mediateQuery_failingTimedHandler_shouldRethrowUnwrapped() {
+    var mediator = mediator(Map.of(), Duration.ofSeconds(5));
+    assertThatThrownBy(() -> mediator.mediateQuery(new FailingQuery()))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("failed");
+  }
+
+  @Test
+  void mediateCommand_timedHandlerWithDeferredEvents_shouldDeferToCallingThread() {
+    var deferredEventScope = new DeferredEventScope();
+    var eventEmitter = new ForwardingEventEmitter();
+    var commandHandler = new EmittingCommandHandler(new DeferredEventEmitter(eventEmitter, deferredEventScope));
+    var eventHandler = new RecordingEventHandler();
+    var mediator = new RequestMediator(
+      new CommandHandlerProvider(List.of(commandHandler)),
+      new QueryHandlerProvider(List.of()),
+      new EventHandlerProvider(List.of(eventHandler)),
+      new SequentialEventDelivery(),
+      List.of(
+        deferredEventScope,
+        new RequestLimitsBehavior(
+          Map.of(),
+          Duration.ofMillis(200),
+          RequestLimits.UNLIMITED,
+          executor,
+          deferredEventScope,
+          () -> false
+        )
+      )
+    );
+    eventEmitter.mediator = mediator;
+
+    assertThat(mediator.mediateCommand(new EmittingCommand("completed", 0))).isZero();
+    assertThat(eventHandler.receivedEvents).containsExactly("completed");
+
+    assertThatThrownBy(() -> mediator.mediateCommand(new EmittingCommand("timed-out", 10_000)))
+      .isInstanceOf(MediatorException.class);
+    assertThat(eventHandler.receivedEvents).containsExactly("completed");
+  }
+
+  @Test
+  void mediateQuery_timeoutWithinTransaction_shouldBeHandledOnCallingThreadWithinBulkhead() throws Exception {
+    var mediator = new RequestMediator(
+      new CommandHandlerProvider(List.of()),
+      new QueryHandlerProvider(List.of(new ThreadNameQueryHandler(), new BlockingQueryHandler())),
+      new EventHandlerProvider(List.of()),
+      new SequentialEventDelivery(),
+      List.of(new RequestLimitsBehavior(
+        Map.of(BlockingQuery.class, new RequestLimits(BlockingQuery.class, Duration.ofMillis(50), 1)),
+        Duration.ofMillis(50),
+        RequestLimits.UNLIMITED,
+        executor,
+        null,
+        () -> true
+      ))
+    );
+    assertThat(mediator.mediateQuery(new ThreadNameQuery())).isEqualTo(Thread.currentThread().getName());
+
+    var first = CompletableFuture.supplyAsync(() -> mediator.mediateQuery(new BlockingQuery()), executor);
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    Thread.sleep(100);
+    assertThat(first).isNotDone();
+    assertThatThrownBy(() -> mediator.mediateQuery(new BlockingQuery()))
+      .isInstanceOf(MediatorException.class)
+      .hasMessageContaining("already executing 1 times");
+    release.countDown();
+    assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("released");
+  }
+
+  @Test
+  void mediateQueries_batchHandlerWithLimits_shouldReceiveAllQueriesAtOnce() {
+    var batchHandler = new TimedBatchQueryHandler();
+    var mediator = new RequestMediator(
+      new CommandHandlerProvider(List.of()),
+      new QueryHandlerProvider(List.of(batchHandler)),
+      new EventHandlerProvider(List.of()),
+      new SequentialEventDelivery(),
+      List.of(new RequestLimitsBehavior(
+        RequestLimits.fromAnnotations(List.of(batchHandler)),
+        null,
+        RequestLimits.UNLIMITED,
+        executor
+      ))
+    );
+    assertThat(mediator.mediateQueries(List.of(new NumberQuery(1), new NumberQuery(2)))).containsExactly(2, 4);
+    assertThat(batchHandler.batches).containsExactly(List.of(1, 2));
+  }
+
+  @Test
+  void appliesTo_withoutLimits_shouldReturnFalse() {
+    var behavior = new RequestLimitsBehavior(Map.of(), null, RequestLimits.UNLIMITED, executor);
+    assertThat(behavior.appliesTo(PlainQuery.class)).isFalse();
+  }
+
+  private Mediator mediator(Map<Class<?>, RequestLimits> limits, Duration defaultTimeout) {
+    return new RequestMediator(
+      new CommandHandlerProvider(List.of()),
+      new QueryHandlerProvider(List.of(
+        new SlowQueryHandler(),
+        new BlockingQueryHandler(),
+        new PlainQueryHandler(),
+        new FailingQueryHandler()
+      )),
+      new EventHandlerProvider(List.of()),
+      new SequentialEventDelivery(),
+      List.of(new RequestLimitsBehavior(limits, defaultTimeout, RequestLimits.UNLIMITED, executor))
+    );
+  }
+
+  record SlowQuery() implements Query<String> {
+  }
+
+  record BlockingQuery() implements Query<String> {
+  }
+
+  record PlainQuery() implements Query<String> {
+  }
+
+  record FailingQuery() implements Query<String> {
+  }
+
+  record ThreadNameQuery() implements Query<String> {
+  }
+
+  record NumberQuery(int value) implements Query<Integer> {
+  }
+
+  record EmittingCommand(String eventName, long sleepMillis) implements Command<Long> {
+  }
+
+  record EmittedEvent(String name) implements Event {
+  }
+
+  @Timeout(50)
+  static class SlowQueryHandler implements QueryHandler<SlowQuery, String> {
+
+    @Override
+    public String handle(SlowQuery query) {
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "slow";
+    }
+  }
+
+  @Bulkhead(1)
+  class BlockingQueryHandler implements QueryHandler<BlockingQuery, String> {
+
+    @Override
+    public String handle(BlockingQuery query) {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return "released";
+    }
+  }
+
+  static class PlainQueryHandler implements QueryHandler<PlainQuery, String> {
+
+    @Override
+    public String handle(PlainQuery query) {
+      return "plain";
+    }
+  }
+
+  @Timeout(5000)
+  @Bulkhead(1)
+  static class TimedBatchQueryHandler implements BatchQueryHandler<NumberQuery, Integer> {
+
+    private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public List<Integer> handleAll(List<NumberQuery> queries) {
+      batches.add(queries.stream().map(NumberQuery::value).toList());
+      return queries.stream().map(query -> query.value() * 2).toList();
+    }
+  }
+
+  static class ThreadNameQueryHandler implements QueryHandler<ThreadNameQuery, String> {
+
+    @Override
+    public String handle(ThreadNameQuery query) {
+      return Thread.currentThread().getName();
+    }
+  }
+
+  static class FailingQueryHandler implements QueryHandler<FailingQuery, String> {
+
+    @Override
+    public String handle(FailingQuery query) {
+      throw new IllegalStateException("failed");
+    }
+  }
+
+  static class EmittingCommandHandler implements CommandHandler<EmittingCommand, Long> {
+
+    private final EventEmitter eventEmitter;
+
+    EmittingCommandHandler(EventEmitter eventEmitter) {
+      this.eventEmitter = eventEmitter;
+    }
+
+    @Override
+    public Long handle(EmittingCommand command) {
+      eventEmitter.emit(new EmittedEvent(command.eventName()));
+      try {
+        Thread.sleep(command.sleepMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return 0L;
+    }
+  }
+
+  static class ForwardingEventEmitter implements EventEmitter {
+
+    private Mediator mediator;
+
+    @Override
+    public void emit(Event event, Event... events) {
+      mediator.mediateEvent(event);
+    }
+  }
+
+  static class RecordingEventHandler implements EventHandler<EmittedEvent> {
+
+    private final List<String> receivedEvents = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public Void handle(EmittedEvent event) {
+      receivedEvents.add(event.name());
+      return null;
+    }
+  }
+}
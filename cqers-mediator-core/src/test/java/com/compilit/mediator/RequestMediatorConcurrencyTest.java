@@ -0,0 +1,93 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.mediator.api.RequestHandler;
+import com.compilit.mediator.testutil.SideEffectContext;
+import com.compilit.mediator.testutil.TestCommand;
+import com.compilit.mediator.testutil.TestCommandHandler;
+import com.compilit.mediator.testutil.TestEvent;
+import com.compilit.mediator.testutil.TestEventHandler;
+import com.compilit.mediator.testutil.TestQuery;
+import com.compilit.mediator.testutil.TestQueryHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestMediatorConcurrencyTest {
+
+  private static final int THREADS = 16;
+  private static final int ITERATIONS = 2_000;
+
+  private final TestCommandHandler commandHandler = new TestCommandHandler();
+  private final TestQueryHandler queryHandler = new TestQueryHandler();
+  private final TestEventHandler eventHandler = new TestEventHandler();
+  private final CommandHandlerProvider commandHandlerProvider = new CommandHandlerProvider(List.of(commandHandler));
+  private final QueryHandlerProvider queryHandlerProvider = new QueryHandlerProvider(List.of(queryHandler));
+  private final EventHandlerProvider eventHandlerProvider = new EventHandlerProvider(List.of(eventHandler));
+  private final Mediator mediator = new RequestMediator(
+    commandHandlerProvider,
+    queryHandlerProvider,
+    eventHandlerProvider
+  );
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void setup() {
+    SideEffectContext.reset();
+    executorService = Executors.newFixedThreadPool(THREADS);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void getHandler_concurrentResolution_shouldAlwaysResolveTheRegisteredHandler() throws Exception {
+    Set<RequestHandler<?, ?>> resolvedHandlers = ConcurrentHashMap.newKeySet();
+    runConcurrently(() -> {
+      resolvedHandlers.add(commandHandlerProvider.getCommandHandler(new TestCommand()));
+      resolvedHandlers.add(queryHandlerProvider.getQueryHandler(new TestQuery()));
+      resolvedHandlers.addAll(eventHandlerProvider.getEventHandlers(new TestEvent()));
+    });
+    assertThat(resolvedHandlers).containsExactlyInAnyOrder(commandHandler, queryHandler, eventHandler);
+  }
+
+  @Test
+  void mediate_concurrentDispatches_shouldInvokeHandlersExactlyOncePerRequest() throws Exception {
+    runConcurrently(() -> {
+      mediator.mediateCommand(new TestCommand());
+      mediator.mediateQuery(new TestQuery());
+      mediator.mediateEvent(new TestEvent());
+    });
+    assertThat(SideEffectContext.isInvoked(THREADS * ITERATIONS * 3)).isTrue();
+  }
+
+  private void runConcurrently(Runnable runnable) throws Exception {
+    var startSignal = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < THREADS; i++) {
+      futures.add(executorService.submit(() -> {
+        startSignal.await();
+        for (int j = 0; j < ITERATIONS; j++) {
+          runnable.run();
+        }
+        return null;
+      }));
+    }
+    startSignal.countDown();
+    for (var future : futures) {
+      future.get(30, TimeUnit.SECONDS);
+    }
+  }
+}
@@ -0,0 +1,196 @@
+package com.compilit.mediator.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Finds all CommandHandler, QueryHandler and EventHandler implementations in the compiled sources and generates a
+ * StaticRoutingTable per package, which maps every handler to the request type it handles. The generated tables are
+ * registered as a service, so the mediator can route these handlers without resolving their generic type hierarchy at
+ * runtime.
+ * <p>
+ * Abstract handlers, private handlers and handlers of which the request type is a type variable are skipped. They are
+ * still resolved at runtime.
+ */
+@SupportedAnnotationTypes("*")
+public final class RoutingTableProcessor extends AbstractProcessor {
+
+  static final String ROUTING_TABLE_NAME = "MediatorRoutingTable";
+  private static final String STATIC_ROUTING_TABLE = "com.compilit.mediator.StaticRoutingTable";
+  private static final Set<String> HANDLER_TYPES = Set.of(
+    "com.compilit.mediator.api.CommandHandler",
+    "com.compilit.mediator.api.QueryHandler",
+    "com.compilit.mediator.api.EventHandler"
+  );
+  private static final String ROUTE_TEMPLATE = "      Map.entry(%s.class, %s.class)";
+  private static final int REQUEST_TYPE_ARGUMENT = 0;
+
+  private final List<String> routingTables = new ArrayList<>();
+  private final Map<String, Integer> routingTablesPerPackage = new TreeMap<>();
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+    if (roundEnvironment.processingOver()) {
+      writeServiceFile();
+      return false;
+    }
+    Map<String, Map<String, String>> routesByPackage = new TreeMap<>();
+    for (var rootElement : roundEnvironment.getRootElements()) {
+      collectRoutes(rootElement, routesByPackage);
+    }
+    routesByPackage.forEach((packageName, routes) -> routingTables.add(writeRoutingTable(packageName, routes)));
+    return false;
+  }
+
+  private void collectRoutes(Element element, Map<String, Map<String, String>> routesByPackage) {
+    if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.PRIVATE)) {
+      return;
+    }
+    var typeElement = (TypeElement) element;
+    if (isInstantiable(typeElement)) {
+      var requestType = requestTypeOf(typeElement);
+      var packageName = packageOf(typeElement);
+      if (requestType != null && isAccessibleFrom(requestType, packageName)) {
+        routesByPackage.computeIfAbsent(packageName, x -> new TreeMap<>())
+          .put(typeElement.getQualifiedName().toString(), requestType.getQualifiedName().toString());
+      }
+    }
+    for (var enclosedElement : typeElement.getEnclosedElements()) {
+      collectRoutes(enclosedElement, routesByPackage);
+    }
+  }
+
+  /**
+   * Walks the supertypes of the handler breadth-first. The compiler substitutes type arguments along the way, so the
+   * request type is also found when the handler interface is implemented through a generic superclass.
+   */
+  private TypeElement requestTypeOf(TypeElement handler) {
+    var types = processingEnv.getTypeUtils();
+    var pending = new ArrayDeque<TypeMirror>(types.directSupertypes(handler.asType()));
+    while (!pending.isEmpty()) {
+      var supertype = pending.poll();
+      if (supertype.getKind() != TypeKind.DECLARED) {
+        continue;
+      }
+      var declaredType = (DeclaredType) supertype;
+      var supertypeElement = (TypeElement) declaredType.asElement();
+      if (HANDLER_TYPES.contains(supertypeElement.getQualifiedName().toString())) {
+        var typeArguments = declaredType.getTypeArguments();
+        if (typeArguments.isEmpty() || typeArguments.get(REQUEST_TYPE_ARGUMENT).getKind() != TypeKind.DECLARED) {
+          return null;
+        }
+        return (TypeElement) ((DeclaredType) typeArguments.get(REQUEST_TYPE_ARGUMENT)).asElement();
+      }
+      pending.addAll(types.directSupertypes(supertype));
+    }
+    return null;
+  }
+
+  private void writeServiceFile() {
+    if (routingTables.isEmpty()) {
+      return;
+    }
+    var filer = processingEnv.getFiler();
+    try (Writer writer = filer.createResource(
+      StandardLocation.CLASS_OUTPUT,
+      "",
+      "META-INF/services/" + STATIC_ROUTING_TABLE
+    ).openWriter()) {
+      writer.write(String.join("\n", routingTables) + "\n");
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to register routing tables: " + e);
+    }
+  }
+
+  /**
+   * Writes the routing table of the handlers found in a package during the current round. Should a later round find
+   * more handlers in the same package, for example in sources generated by another processor, they get a numbered
+   * routing table of their own.
+   */
+  private String writeRoutingTable(String packageName, Map<String, String> routes) {
+    var tableNumber = routingTablesPerPackage.merge(packageName, 1, Integer::sum);
+    var simpleName = tableNumber == 1 ? ROUTING_TABLE_NAME : ROUTING_TABLE_NAME + tableNumber;
+    var className = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    var entries = new ArrayList<String>();
+    routes.forEach((handler, request) -> entries.add(String.format(ROUTE_TEMPLATE, handler, request)));
+    var source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source.append("import java.util.Map;\n")
+      .append("import javax.annotation.processing.Generated;\n\n")
+      .append("@Generated(\"").append(RoutingTableProcessor.class.getName()).append("\")\n")
+      .append("public final class ").append(simpleName)
+      .append(" implements ").append(STATIC_ROUTING_TABLE).append(" {\n\n")
+      .append("  @Override\n")
+      .append("  public Map<Class<?>, Class<?>> getRequestTypes() {\n")
+      .append("    return Map.ofEntries(\n")
+      .append(String.join(",\n", entries)).append("\n")
+      .append("    );\n")
+      .append("  }\n")
+      .append("}\n");
+    try (Writer writer = processingEnv.getFiler().createSourceFile(className).openWriter()) {
+      writer.write(source.toString());
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + className + ": " + e);
+    }
+    return className;
+  }
+
+  private static boolean isInstantiable(TypeElement typeElement) {
+    var modifiers = typeElement.getModifiers();
+    return !modifiers.contains(Modifier.ABSTRACT)
+      && (typeElement.getNestingKind() == NestingKind.TOP_LEVEL || modifiers.contains(Modifier.STATIC));
+  }
+
+  /**
+   * A class literal of the type must compile in the generated routing table of the given package.
+   */
+  private static boolean isAccessibleFrom(TypeElement typeElement, String packageName) {
+    Element element = typeElement;
+    while (element instanceof TypeElement) {
+      var modifiers = element.getModifiers();
+      if (modifiers.contains(Modifier.PRIVATE)) {
+        return false;
+      }
+      if (!modifiers.contains(Modifier.PUBLIC) && !packageOf(element).equals(packageName)) {
+        return false;
+      }
+      element = element.getEnclosingElement();
+    }
+    return true;
+  }
+
+  private static String packageOf(Element element) {
+    while (!(element instanceof PackageElement)) {
+      element = element.getEnclosingElement();
+    }
+    return ((PackageElement) element).getQualifiedName().toString();
+  }
+}
@@ -0,0 +1,113 @@
+package com.compilit.mediator.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.mediator.StaticRoutingTable;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RoutingTableProcessorTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void process_handlers_shouldGenerateRoutingTable() throws Exception {
+    writeSource("com/example/orders/PlaceOrder.java", """
+      package com.example.orders;
+      public record PlaceOrder(String id) implements com.compilit.mediator.api.Command<String> {}
+      """);
+    writeSource("com/example/orders/PlaceOrderHandler.java", """
+      package com.example.orders;
+      class PlaceOrderHandler implements com.compilit.mediator.api.CommandHandler<PlaceOrder, String> {
+        public String handle(PlaceOrder command) { return command.id(); }
+      }
+      """);
+    writeSource("com/example/orders/OrderPlacedHandlers.java", """
+      package com.example.orders;
+      import com.compilit.mediator.api.Event;
+      import com.compilit.mediator.api.EventHandler;
+      public class OrderPlacedHandlers {
+        public record OrderPlaced() implements Event {}
+        abstract static class BaseHandler<E extends Event> implements EventHandler<E> {
+          public Void handle(E event) { return null; }
+        }
+        static class AuditHandler extends BaseHandler<OrderPlaced> {}
+        static class GenericHandler<E extends Event> extends BaseHandler<E> {}
+      }
+      """);
+    writeSource("com/example/customers/GetCustomer.java", """
+      package com.example.customers;
+      public record GetCustomer() implements com.compilit.mediator.api.Query<String> {}
+      """);
+    writeSource("com/example/customers/GetCustomerHandler.java", """
+      package com.example.customers;
+      public class GetCustomerHandler implements com.compilit.mediator.api.QueryHandler<GetCustomer, String> {
+        public String handle(GetCustomer query) { return ""; }
+      }
+      """);
+
+    assertThat(compile()).isTrue();
+
+    assertThat(loadRequestTypes()).isEqualTo(Map.of(
+      "com.example.orders.PlaceOrderHandler", "com.example.orders.PlaceOrder",
+      "com.example.orders.OrderPlacedHandlers$AuditHandler", "com.example.orders.OrderPlacedHandlers$OrderPlaced",
+      "com.example.customers.GetCustomerHandler", "com.example.customers.GetCustomer"
+    ));
+  }
+
+  @Test
+  void process_noHandlers_shouldNotGenerateRoutingTable() throws Exception {
+    writeSource("com/example/Plain.java", """
+      package com.example;
+      public class Plain {}
+      """);
+
+    assertThat(compile()).isTrue();
+
+    assertThat(directory.resolve("classes/META-INF/services")).doesNotExist();
+  }
+
+  private boolean compile() throws IOException {
+    var compiler = ToolProvider.getSystemJavaCompiler();
+    var classes = Files.createDirectories(directory.resolve("classes"));
+    try (var fileManager = compiler.getStandardFileManager(null, null, null);
+         var sources = Files.walk(directory.resolve("sources"))) {
+      var compilationUnits = fileManager.getJavaFileObjectsFromPaths(
+        sources.filter(path -> path.toString().endsWith(".java")).toList()
+      );
+      var options = List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString());
+      var task = compiler.getTask(null, fileManager, null, options, null, compilationUnits);
+      task.setProcessors(List.of(new RoutingTableProcessor()));
+      return task.call();
+    }
+  }
+
+  private Map<String, String> loadRequestTypes() throws IOException {
+    var classes = directory.resolve("classes").toUri().toURL();
+    try (var classLoader = new URLClassLoader(new URL[]{classes}, getClass().getClassLoader())) {
+      Map<Class<?>, Class<?>> requestTypes = new HashMap<>();
+      ServiceLoader.load(StaticRoutingTable.class, classLoader)
+        .forEach(routingTable -> requestTypes.putAll(routingTable.getRequestTypes()));
+      return requestTypes.entrySet().stream()
+        .collect(Collectors.toMap(entry -> entry.getKey().getName(), entry -> entry.getValue().getName()));
+    }
+  }
+
+  private void writeSource(String path, String source) throws IOException {
+    var file = directory.resolve("sources").resolve(path);
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, source);
+  }
+}
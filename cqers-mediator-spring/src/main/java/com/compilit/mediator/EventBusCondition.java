@@ -0,0 +1,15 @@
+package com.compilit.mediator;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+final class EventBusCondition implements Condition {
+
+  private static final String PROPERTY = "compilit.mediator.event-bus.enabled";
+
+  @Override
+  public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+    return context.getEnvironment().getProperty(PROPERTY, Boolean.class, false);
+  }
+}
@@ -0,0 +1,78 @@
+package com.compilit.mediator;
+
+import static com.compilit.mediator.ExceptionMessages.invalidRegistrationsMessage;
+import static com.compilit.mediator.ExceptionMessages.unhandledRequestsMessage;
+
+import com.compilit.mediator.api.Request;
+import com.compilit.mediator.api.RequestHandler;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+
+/**
+ * Validates the handler registrations when the application context is refreshed, instead of on the first dispatch of
+ * an affected request. Optionally scans the given packages for Commands, Queries and Events without a handler.
+ */
+final class HandlerRegistryValidator implements InitializingBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(HandlerRegistryValidator.class);
+  private final List<AbstractHandlerProvider> handlerProviders;
+  private final boolean failFast;
+  private final List<String> scanPackages;
+
+  HandlerRegistryValidator(CommandHandlerProvider commandHandlerProvider,
+                           QueryHandlerProvider queryHandlerProvider,
+                           EventHandlerProvider eventHandlerProvider,
+                           boolean failFast,
+                           List<String> scanPackages) {
+    this.handlerProviders = List.of(commandHandlerProvider, queryHandlerProvider, eventHandlerProvider);
+    this.failFast = failFast;
+    this.scanPackages = List.copyOf(scanPackages);
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    var registrationErrors = handlerProviders.stream()
+      .flatMap(handlerProvider -> handlerProvider.getRegistrationErrors().stream())
+      .toList();
+    if (!registrationErrors.isEmpty()) {
+      report(invalidRegistrationsMessage(registrationErrors));
+    }
+    if (!scanPackages.isEmpty()) {
+      var unhandledRequests = findUnhandledRequests();
+      if (!unhandledRequests.isEmpty()) {
+        report(unhandledRequestsMessage(unhandledRequests));
+      }
+    }
+  }
+
+  private List<String> findUnhandledRequests() {
+    Set<String> handledRequests = handlerProviders.stream()
+      .flatMap(handlerProvider -> handlerProvider.getRequestTypes().stream())
+      .map(Class::getName)
+      .collect(Collectors.toSet());
+    var scanner = new ClassPathScanningCandidateComponentProvider(false);
+    scanner.addIncludeFilter(new AssignableTypeFilter(Request.class));
+    scanner.addExcludeFilter(new AssignableTypeFilter(RequestHandler.class));
+    return scanPackages.stream()
+      .flatMap(scanPackage -> scanner.findCandidateComponents(scanPackage).stream())
+      .map(BeanDefinition::getBeanClassName)
+      .filter(requestName -> !handledRequests.contains(requestName))
+      .distinct()
+      .sorted()
+      .toList();
+  }
+
+  private void report(String message) {
+    if (failFast) {
+      throw new MediatorException(message);
+    }
+    logger.warn(message);
+  }
+}
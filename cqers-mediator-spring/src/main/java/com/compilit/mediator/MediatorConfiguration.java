@@ -1,22 +1,55 @@
 package com.compilit.mediator;
 
+import com.compilit.mediator.api.AsyncCommandDispatcher;
+import com.compilit.mediator.api.AsyncEventEmitter;
+import com.compilit.mediator.api.AsyncQueryDispatcher;
 import com.compilit.mediator.api.CommandDispatcher;
 import com.compilit.mediator.api.CommandHandler;
 import com.compilit.mediator.api.EventEmitter;
 import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.PipelineBehavior;
+import com.compilit.mediator.api.Priority;
 import com.compilit.mediator.api.QueryDispatcher;
 import com.compilit.mediator.api.QueryHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.ClassUtils;
 
 @Configuration
 public class MediatorConfiguration {
 
+  /**
+   * The name of the Executor bean the asynchronous dispatchers run their handlers on. When no such bean is registered,
+   * a virtual thread per handler is used in the VIRTUAL_THREAD execution mode, and the common ForkJoinPool otherwise.
+   * Register your own Executor under this name when handlers perform blocking I/O.
+   */
+  public static final String MEDIATOR_EXECUTOR = "mediatorExecutor";
+  private static final String VIRTUAL_THREAD_EXECUTOR = "mediatorVirtualThreadExecutor";
+  private static final String TRANSACTION_SYNCHRONIZATION_MANAGER =
+    "org.springframework.transaction.support.TransactionSynchronizationManager";
   private static final Logger logger = LoggerFactory.getLogger(MediatorConfiguration.class);
 
   @Bean
@@ -40,13 +73,150 @@ public class MediatorConfiguration {
     return new EventHandlerProvider(eventHandlers);
   }
 
+  /**
+   * Validates the handler registrations on startup. By default, the context fails to start when a Command or Query has
+   * multiple handlers. Set compilit.mediator.validation.fail-fast to false to only log a warning instead. When
+   * compilit.mediator.validation.scan-packages contains a comma-separated list of packages, these are also scanned for
+   * Commands, Queries and Events without a handler.
+   */
+  @Bean
+  InitializingBean createHandlerRegistryValidator(
+    CommandHandlerProvider commandHandlerProvider,
+    QueryHandlerProvider queryHandlerProvider,
+    EventHandlerProvider eventHandlerProvider,
+    @Value("${compilit.mediator.validation.fail-fast:true}") boolean failFast,
+    @Value("${compilit.mediator.validation.scan-packages:}") String[] scanPackages
+  ) {
+    return new HandlerRegistryValidator(
+      commandHandlerProvider,
+      queryHandlerProvider,
+      eventHandlerProvider,
+      failFast,
+      List.of(scanPackages)
+    );
+  }
+
+  /**
+   * compilit.mediator.max-concurrent-handlers limits the number of concurrent handler invocations per request type. A
+   * value of 0 (the default) means unlimited.
+   * <p>
+   * The compilit.mediator.event-ordering property determines how Events are delivered to their handlers: SEQUENTIAL
+   * (the default), NONE or PER_HANDLER_FIFO. The latter two deliver to all handlers in parallel on the mediator
+   * executor.
+   * <p>
+   * All registered PipelineBehavior beans are composed into a chain around the handlers, in the order determined by
+   * their Order annotation or Ordered interface.
+   */
   @Bean
   Mediator createMediator(
     CommandHandlerProvider commandHandlerProvider,
     QueryHandlerProvider queryHandlerProvider,
-    EventHandlerProvider eventHandlerProvider
+    EventHandlerProvider eventHandlerProvider,
+    @Value("${compilit.mediator.execution-mode:CALLER_THREAD}") ExecutionMode executionMode,
+    @Value("${compilit.mediator.max-concurrent-handlers:0}") int maxConcurrentHandlers,
+    @Value("${compilit.mediator.event-ordering:SEQUENTIAL}") EventOrdering eventOrdering,
+    @Qualifier(MEDIATOR_EXECUTOR) ObjectProvider<Executor> executor,
+    @Qualifier(VIRTUAL_THREAD_EXECUTOR) ObjectProvider<Executor> virtualThreadExecutor,
+    ObjectProvider<PipelineBehavior> pipelineBehaviors
+  ) {
+    var behaviors = pipelineBehaviors.orderedStream().toList();
+    logger.info(createMessage(behaviors, "PipelineBehaviors"));
+    var mediator = new RequestMediator(
+      commandHandlerProvider,
+      queryHandlerProvider,
+      eventHandlerProvider,
+      EventDelivery.of(eventOrdering, resolveExecutor(executor, virtualThreadExecutor)),
+      behaviors
+    );
+    logger.info("Mediator execution mode: {}, event ordering: {}", executionMode, eventOrdering);
+    return ConcurrencyLimitingMediator.limit(mediator, maxConcurrentHandlers);
+  }
+
+  /**
+   * When compilit.mediator.execution-mode is VIRTUAL_THREAD, the asynchronous dispatchers run every handler on a
+   * virtual thread of its own, unless an Executor named mediatorExecutor is registered. Synchronously dispatched requests
+   * stay on the calling thread.
+   */
+  @Bean(name = VIRTUAL_THREAD_EXECUTOR, destroyMethod = "shutdown")
+  @Conditional(VirtualThreadsCondition.class)
+  ExecutorService createVirtualThreadExecutor() {
+    return VirtualThreads.newVirtualThreadPerTaskExecutor();
+  }
+
+  /**
+   * Caches the results of CacheableQueries. compilit.mediator.query-cache.maximum-size sets the number of results kept
+   * per Query type (1000 by default) and compilit.mediator.query-cache.time-to-live-seconds the time after which a
+   * result expires (600 by default). The context fails to start when an Event in an InvalidatedBy annotation has no
+   * handler.
+   */
+  @Bean
+  QueryCache createQueryCache(
+    QueryHandlerProvider queryHandlerProvider,
+    EventHandlerProvider eventHandlerProvider,
+    @Value("${compilit.mediator.query-cache.maximum-size:1000}") int maximumSize,
+    @Value("${compilit.mediator.query-cache.time-to-live-seconds:600}") long timeToLiveSeconds
+  ) {
+    return new QueryCache(
+      queryHandlerProvider.getRequestTypes(),
+      eventHandlerProvider.getRequestTypes(),
+      maximumSize,
+      Duration.ofSeconds(timeToLiveSeconds)
+    );
+  }
+
+  /**
+   * Lets concurrent dispatches of equal CoalescableQueries share a single handler execution. Enabled by setting
+   * compilit.mediator.query-coalescing.enabled to true.
+   */
+  @Bean
+  @Conditional(QueryCoalescingCondition.class)
+  QueryCoalescer createQueryCoalescer() {
+    return new QueryCoalescer();
+  }
+
+  /**
+   * Reports the handling of every request to the MediatorMetrics. Enabled by setting compilit.mediator.metrics.enabled
+   * to true. The metrics are published to Micrometer when it is on the classpath, otherwise they are kept in the
+   * RequestMetricsRecorder bean.
+   */
+  @Bean
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @Conditional(MetricsConditions.Enabled.class)
+  PipelineBehavior createMetricsBehavior(MediatorMetrics mediatorMetrics) {
+    return new MetricsBehavior(mediatorMetrics);
+  }
+
+  /**
+   * Enforces timeouts and bulkheads on Commands and Queries. The limits of a request type are taken from its RequestLimits
+   * bean, or else from the Timeout and Bulkhead annotations on its handler. All other Commands and Queries get
+   * compilit.mediator.limits.default-timeout-millis and compilit.mediator.limits.default-max-concurrent-calls, which are
+   * 0 (unlimited) by default. Requests with a timeout are handled on a thread pool of their own, so they neither compete
+   * with the asynchronous dispatchers for threads nor block the common ForkJoinPool. Its daemon threads are created on
+   * demand and end after a minute of idleness. The pool is not registered as a bean, since an Executor bean would
+   * replace the task executor of Spring Boot. Since a transaction cannot follow requests to the pool, requests dispatched
+   * within a transaction are handled on the calling thread, without a timeout.
+   */
+  @Bean
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  PipelineBehavior createRequestLimitsBehavior(
+    List<CommandHandler<?, ?>> commandHandlers,
+    List<QueryHandler<?, ?>> queryHandlers,
+    ObjectProvider<RequestLimits> configuredLimits,
+    @Value("${compilit.mediator.limits.default-timeout-millis:0}") long defaultTimeoutMillis,
+    @Value("${compilit.mediator.limits.default-max-concurrent-calls:0}") int defaultMaxConcurrentCalls,
+    ObjectProvider<DeferredEventScope> deferredEventScope
   ) {
-    return new RequestMediator(commandHandlerProvider, queryHandlerProvider, eventHandlerProvider);
+    Map<Class<?>, RequestLimits> limits = new HashMap<>(RequestLimits.fromAnnotations(commandHandlers));
+    limits.putAll(RequestLimits.fromAnnotations(queryHandlers));
+    configuredLimits.orderedStream().forEach(requestLimits -> limits.put(requestLimits.requestType(), requestLimits));
+    return new RequestLimitsBehavior(
+      limits,
+      Duration.ofMillis(defaultTimeoutMillis),
+      defaultMaxConcurrentCalls,
+      createTimeoutExecutor(),
+      deferredEventScope.getIfAvailable(),
+      isTransactionSupportPresent() ? TransactionalEventEmitter::isTransactionActive : () -> false
+    );
   }
 
   @Bean
@@ -59,16 +229,188 @@ public class MediatorConfiguration {
     return new MediatingQueryDispatcher(mediator);
   }
 
+  /**
+   * When compilit.mediator.event-bus.enabled is true, Events are emitted through an AsyncEventBus. Every EventHandler
+   * then gets its own queue, of which the size is set with compilit.mediator.event-bus.queue-capacity (1024 by default).
+   * compilit.mediator.event-bus.overflow-policy determines what happens when a queue is full: BLOCK (the default),
+   * DROP_OLDEST, DROP_NEWEST or FAIL. The PipelineBehaviors run around every handler on its worker thread. The bus is
+   * closed with the context, which waits until all queued Events have been handled.
+   */
+  @Bean(destroyMethod = "close")
+  @Conditional(EventBusCondition.class)
+  AsyncEventBus createAsyncEventBus(
+    EventHandlerProvider eventHandlerProvider,
+    @Value("${compilit.mediator.event-bus.queue-capacity:1024}") int queueCapacity,
+    @Value("${compilit.mediator.event-bus.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+    ObjectProvider<PipelineBehavior> pipelineBehaviors
+  ) {
+    logger.info("Events are emitted through an event bus, overflow policy: {}", overflowPolicy);
+    return new AsyncEventBus(
+      eventHandlerProvider,
+      queueCapacity,
+      overflowPolicy,
+      pipelineBehaviors.orderedStream().toList()
+    );
+  }
+
+  /**
+   * Emits Events through the AsyncEventBus when there is one, or else through the Mediator.
+   * <p>
+   * When compilit.mediator.deferred-events.enabled is true, Events emitted during the dispatch of a Command are only
+   * emitted once the Command completes, and dropped when it fails. If spring-tx is on the classpath, Events emitted
+   * within a transaction are only emitted after the transaction commits.
+   * <p>
+   * When compilit.mediator.journal.enabled is true, every emitted Event is appended to the EventJournal first.
+   */
+  @Bean(destroyMethod = "")
+  @Primary
+  EventEmitter createEventEmitter(
+    Mediator mediator,
+    ObjectProvider<AsyncEventBus> asyncEventBus,
+    ObjectProvider<EventJournal> eventJournal,
+    ObjectProvider<DeferredEventScope> deferredEventScope
+  ) {
+    EventEmitter eventEmitter = asyncEventBus.getIfAvailable();
+    if (eventEmitter == null) {
+      eventEmitter = new MediatingEventEmitter(mediator);
+    }
+    var journal = eventJournal.getIfAvailable();
+    if (journal != null) {
+      eventEmitter = new JournalingEventEmitter(eventEmitter, journal);
+    }
+    var scope = deferredEventScope.getIfAvailable();
+    if (scope == null) {
+      return eventEmitter;
+    }
+    eventEmitter = new DeferredEventEmitter(eventEmitter, scope);
+    if (isTransactionSupportPresent()) {
+      logger.info("Events are emitted after their Command completes and their transaction commits");
+      return new TransactionalEventEmitter(eventEmitter);
+    }
+    logger.info("Events are emitted after their Command completes");
+    return eventEmitter;
+  }
+
+  /**
+   * Ordered right before the RequestLimitsBehavior, so the scope is opened on the dispatching thread.
+   */
   @Bean
-  EventEmitter createEventEmitter(Mediator mediator) {
-    return new MediatingEventEmitter(mediator);
+  @Order(Ordered.LOWEST_PRECEDENCE - 1)
+  @Conditional(DeferredEventsCondition.class)
+  DeferredEventScope createDeferredEventScope() {
+    return new DeferredEventScope();
+  }
+
+  /**
+   * Journals all emitted Events in compilit.mediator.journal.directory (event-journal by default). The journal is split
+   * in segments of compilit.mediator.journal.segment-size-bytes (64 MiB by default) and forced to disk after every
+   * compilit.mediator.journal.sync-every Events (100 by default, 0 leaves it to the operating system). Events are
+   * serialized with the EventSerializer bean, or with Java serialization when there is none.
+   */
+  @Bean
+  @Conditional(EventJournalCondition.class)
+  EventJournal createEventJournal(
+    EventHandlerProvider eventHandlerProvider,
+    @Value("${compilit.mediator.journal.directory:event-journal}") Path directory,
+    @Value("${compilit.mediator.journal.segment-size-bytes:67108864}") int segmentSize,
+    @Value("${compilit.mediator.journal.sync-every:100}") int syncEvery,
+    ObjectProvider<EventSerializer> eventSerializer
+  ) {
+    logger.info("Events are journaled in {}", directory.toAbsolutePath());
+    return new EventJournal(
+      directory,
+      segmentSize,
+      syncEvery,
+      eventSerializer.getIfAvailable(JavaEventSerializer::new),
+      eventHandlerProvider
+    );
+  }
+
+  @Bean
+  @Conditional(PriorityLanesConditions.Disabled.class)
+  AsyncCommandDispatcher createAsyncCommandDispatcher(
+    Mediator mediator,
+    @Qualifier(MEDIATOR_EXECUTOR) ObjectProvider<Executor> executor,
+    @Qualifier(VIRTUAL_THREAD_EXECUTOR) ObjectProvider<Executor> virtualThreadExecutor
+  ) {
+    return new MediatingAsyncCommandDispatcher(mediator, resolveExecutor(executor, virtualThreadExecutor));
+  }
+
+  /**
+   * When compilit.mediator.priority-lanes.enabled is true, asynchronously dispatched Commands wait in a lane per
+   * Priority. compilit.mediator.priority-lanes.parallelism limits the number of Commands handled at the same time (the
+   * number of processors by default). While several lanes have Commands waiting, they share this capacity according to
+   * compilit.mediator.priority-lanes.weights.high, .normal and .low (8, 4 and 1 by default). The dispatcher can be
+   * injected as a PrioritizedAsyncCommandDispatcher to read the metrics of its lanes.
+   */
+  @Bean
+  @Conditional(PriorityLanesConditions.Enabled.class)
+  PrioritizedAsyncCommandDispatcher createPrioritizedAsyncCommandDispatcher(
+    Mediator mediator,
+    @Qualifier(MEDIATOR_EXECUTOR) ObjectProvider<Executor> executor,
+    @Qualifier(VIRTUAL_THREAD_EXECUTOR) ObjectProvider<Executor> virtualThreadExecutor,
+    @Value("${compilit.mediator.priority-lanes.parallelism:0}") int parallelism,
+    @Value("${compilit.mediator.priority-lanes.weights.high:8}") int highWeight,
+    @Value("${compilit.mediator.priority-lanes.weights.normal:4}") int normalWeight,
+    @Value("${compilit.mediator.priority-lanes.weights.low:1}") int lowWeight
+  ) {
+    var lanesParallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    logger.info(
+      "Commands are dispatched in priority lanes, parallelism: {}, weights: {}/{}/{}",
+      lanesParallelism,
+      highWeight,
+      normalWeight,
+      lowWeight
+    );
+    return new PrioritizedAsyncCommandDispatcher(
+      mediator,
+      resolveExecutor(executor, virtualThreadExecutor),
+      lanesParallelism,
+      Map.of(Priority.HIGH, highWeight, Priority.NORMAL, normalWeight, Priority.LOW, lowWeight)
+    );
+  }
+
+  @Bean
+  AsyncQueryDispatcher createAsyncQueryDispatcher(
+    Mediator mediator,
+    @Qualifier(MEDIATOR_EXECUTOR) ObjectProvider<Executor> executor,
+    @Qualifier(VIRTUAL_THREAD_EXECUTOR) ObjectProvider<Executor> virtualThreadExecutor
+  ) {
+    return new MediatingAsyncQueryDispatcher(mediator, resolveExecutor(executor, virtualThreadExecutor));
+  }
+
+  @Bean
+  AsyncEventEmitter createAsyncEventEmitter(
+    EventEmitter eventEmitter,
+    @Qualifier(MEDIATOR_EXECUTOR) ObjectProvider<Executor> executor,
+    @Qualifier(VIRTUAL_THREAD_EXECUTOR) ObjectProvider<Executor> virtualThreadExecutor
+  ) {
+    return new MediatingAsyncEventEmitter(eventEmitter, resolveExecutor(executor, virtualThreadExecutor));
   }
 
   @Bean
   InitializingBean createInstanceProvider(CommandDispatcher commandDispatcher,
                                           QueryDispatcher queryDispatcher,
                                           EventEmitter eventEmitter) {
-    return new Dispatchers(commandDispatcher, queryDispatcher, eventEmitter);
+    return new Dispatchers(commandDispatcher, queryDispatcher, eventEmitter)::install;
+  }
+
+  private static boolean isTransactionSupportPresent() {
+    return ClassUtils.isPresent(TRANSACTION_SYNCHRONIZATION_MANAGER, MediatorConfiguration.class.getClassLoader());
+  }
+
+  private static Executor createTimeoutExecutor() {
+    var threadCount = new AtomicInteger();
+    return Executors.newCachedThreadPool(task -> {
+      var thread = new Thread(task, "mediator-timeout-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static Executor resolveExecutor(ObjectProvider<Executor> executor,
+                                          ObjectProvider<Executor> virtualThreadExecutor) {
+    return executor.getIfAvailable(() -> virtualThreadExecutor.getIfAvailable(ForkJoinPool::commonPool));
   }
 
   private static String createMessage(List<?> requestHandlers, String name) {
@@ -82,4 +424,43 @@ public class MediatorConfiguration {
   private static List<String> toString(List<?> objects) {
     return objects.stream().map(o -> o.getClass().getName()).toList();
   }
-}
\ No newline at end of file
+
+  @Configuration(proxyBeanMethods = false)
+  @Conditional(MetricsConditions.InMemory.class)
+  static class InMemoryMetricsConfiguration {
+
+    @Bean
+    RequestMetricsRecorder createRequestMetricsRecorder() {
+      return new RequestMetricsRecorder();
+    }
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @Conditional(MetricsConditions.Micrometer.class)
+  static class MicrometerMetricsConfiguration {
+
+    @Bean
+    MediatorMetrics createMicrometerMediatorMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+      return new MicrometerMediatorMetrics(resolveMeterRegistry(meterRegistry));
+    }
+
+    /**
+     * Publishes the queues of the AsyncEventBus and the priority lanes, when they are enabled.
+     */
+    @Bean
+    InitializingBean createQueueMetricsBinder(ObjectProvider<MeterRegistry> meterRegistry,
+                                              ObjectProvider<AsyncEventBus> asyncEventBus,
+                                              ObjectProvider<PrioritizedAsyncCommandDispatcher> prioritizedDispatcher,
+                                              List<EventHandler<?>> eventHandlers) {
+      return () -> {
+        var queueMetrics = new MicrometerQueueMetrics(resolveMeterRegistry(meterRegistry));
+        asyncEventBus.ifAvailable(eventBus -> queueMetrics.bindEventBus(eventBus, eventHandlers));
+        prioritizedDispatcher.ifAvailable(queueMetrics::bindPriorityLanes);
+      };
+    }
+
+    private static MeterRegistry resolveMeterRegistry(ObjectProvider<MeterRegistry> meterRegistry) {
+      return meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.compilit.mediator;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Conditions that select the MediatorMetrics implementation. Metrics are enabled with the
+ * compilit.mediator.metrics.enabled property, and are published to Micrometer when it is on the classpath.
+ */
+final class MetricsConditions {
+
+  private static final String ENABLED_PROPERTY = "compilit.mediator.metrics.enabled";
+  private static final String METER_REGISTRY = "io.micrometer.core.instrument.MeterRegistry";
+
+  private MetricsConditions() {
+  }
+
+  private static boolean isEnabled(ConditionContext context) {
+    return context.getEnvironment().getProperty(ENABLED_PROPERTY, Boolean.class, false);
+  }
+
+  private static boolean isMicrometerPresent(ConditionContext context) {
+    return ClassUtils.isPresent(METER_REGISTRY, context.getClassLoader());
+  }
+
+  static final class Enabled implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return isEnabled(context);
+    }
+  }
+
+  static final class InMemory implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return isEnabled(context) && !isMicrometerPresent(context);
+    }
+  }
+
+  static final class Micrometer implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return isEnabled(context) && isMicrometerPresent(context);
+    }
+  }
+}
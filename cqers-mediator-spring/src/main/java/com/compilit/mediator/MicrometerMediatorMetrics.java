@@ -0,0 +1,64 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Request;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the dispatch metrics of the Mediator to Micrometer. Every request type gets a timer named
+ * compilit.mediator.requests, tagged with the request type and the outcome (success or failure), and a gauge named
+ * compilit.mediator.requests.in-flight. The meters of a request type are registered on its first dispatch.
+ */
+final class MicrometerMediatorMetrics implements MediatorMetrics {
+
+  static final String REQUESTS = "compilit.mediator.requests";
+  static final String REQUESTS_IN_FLIGHT = "compilit.mediator.requests.in-flight";
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentMap<Class<?>, Meters> meters = new ConcurrentHashMap<>();
+
+  MicrometerMediatorMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void requestStarted(Class<? extends Request> requestType) {
+    metersOf(requestType).inFlight().incrementAndGet();
+  }
+
+  @Override
+  public void requestCompleted(Class<? extends Request> requestType, long durationNanos, boolean failed) {
+    var requestMeters = metersOf(requestType);
+    requestMeters.inFlight().decrementAndGet();
+    var timer = failed ? requestMeters.failure() : requestMeters.success();
+    timer.record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  private Meters metersOf(Class<?> requestType) {
+    var requestMeters = meters.get(requestType);
+    if (requestMeters == null) {
+      requestMeters = meters.computeIfAbsent(requestType, this::register);
+    }
+    return requestMeters;
+  }
+
+  private Meters register(Class<?> requestType) {
+    var tags = Tags.of("request", requestType.getName());
+    return new Meters(
+      timer(tags.and("outcome", "success")),
+      timer(tags.and("outcome", "failure")),
+      meterRegistry.gauge(REQUESTS_IN_FLIGHT, tags, new AtomicLong())
+    );
+  }
+
+  private Timer timer(Tags tags) {
+    return Timer.builder(REQUESTS).tags(tags).publishPercentileHistogram().register(meterRegistry);
+  }
+
+  private record Meters(Timer success, Timer failure, AtomicLong inFlight) {
+  }
+}
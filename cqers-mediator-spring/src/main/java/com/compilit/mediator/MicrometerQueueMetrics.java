@@ -0,0 +1,71 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.Priority;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the queues of the AsyncEventBus and the PrioritizedAsyncCommandDispatcher to Micrometer. Every EventHandler
+ * gets the gauges compilit.mediator.event-bus.queue-depth and compilit.mediator.event-bus.delivery-lag, and the counters
+ * compilit.mediator.event-bus.dropped and compilit.mediator.event-bus.failed, all tagged with the class name of the
+ * handler. Every priority lane gets the gauges compilit.mediator.priority-lanes.queue-depth and
+ * compilit.mediator.priority-lanes.queue-wait, tagged with the priority.
+ */
+final class MicrometerQueueMetrics {
+
+  static final String EVENT_BUS_QUEUE_DEPTH = "compilit.mediator.event-bus.queue-depth";
+  static final String EVENT_BUS_DELIVERY_LAG = "compilit.mediator.event-bus.delivery-lag";
+  static final String EVENT_BUS_DROPPED = "compilit.mediator.event-bus.dropped";
+  static final String EVENT_BUS_FAILED = "compilit.mediator.event-bus.failed";
+  static final String PRIORITY_LANES_QUEUE_DEPTH = "compilit.mediator.priority-lanes.queue-depth";
+  static final String PRIORITY_LANES_QUEUE_WAIT = "compilit.mediator.priority-lanes.queue-wait";
+  private final MeterRegistry meterRegistry;
+
+  MicrometerQueueMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  void bindEventBus(AsyncEventBus eventBus, List<EventHandler<?>> eventHandlers) {
+    for (var handler : eventHandlers) {
+      var tags = Tags.of("handler", handler.getClass().getName());
+      Gauge.builder(EVENT_BUS_QUEUE_DEPTH, () -> eventBus.getMetrics(handler).queueDepth())
+        .tags(tags)
+        .register(meterRegistry);
+      TimeGauge.builder(
+          EVENT_BUS_DELIVERY_LAG,
+          () -> eventBus.getMetrics(handler).lastDeliveryLag().toNanos(),
+          TimeUnit.NANOSECONDS
+        )
+        .tags(tags)
+        .register(meterRegistry);
+      FunctionCounter.builder(EVENT_BUS_DROPPED, eventBus, bus -> bus.getMetrics(handler).dropped())
+        .tags(tags)
+        .register(meterRegistry);
+      FunctionCounter.builder(EVENT_BUS_FAILED, eventBus, bus -> bus.getMetrics(handler).failed())
+        .tags(tags)
+        .register(meterRegistry);
+    }
+  }
+
+  void bindPriorityLanes(PrioritizedAsyncCommandDispatcher dispatcher) {
+    for (var priority : Priority.values()) {
+      var tags = Tags.of("priority", priority.name());
+      Gauge.builder(PRIORITY_LANES_QUEUE_DEPTH, () -> dispatcher.getLaneMetrics(priority).queueDepth())
+        .tags(tags)
+        .register(meterRegistry);
+      TimeGauge.builder(
+          PRIORITY_LANES_QUEUE_WAIT,
+          () -> dispatcher.getLaneMetrics(priority).lastQueueWait().toNanos(),
+          TimeUnit.NANOSECONDS
+        )
+        .tags(tags)
+        .register(meterRegistry);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.compilit.mediator;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Conditions that select the AsyncCommandDispatcher. Priority lanes are enabled with the
+ * compilit.mediator.priority-lanes.enabled property.
+ */
+final class PriorityLanesConditions {
+
+  private static final String ENABLED_PROPERTY = "compilit.mediator.priority-lanes.enabled";
+
+  private PriorityLanesConditions() {
+  }
+
+  private static boolean isEnabled(ConditionContext context) {
+    return context.getEnvironment().getProperty(ENABLED_PROPERTY, Boolean.class, false);
+  }
+
+  static final class Enabled implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return isEnabled(context);
+    }
+  }
+
+  static final class Disabled implements Condition {
+
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return !isEnabled(context);
+    }
+  }
+}
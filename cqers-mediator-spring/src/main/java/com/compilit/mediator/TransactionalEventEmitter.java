@@ -0,0 +1,80 @@
+package com.compilit.mediator;
+
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventEmitter;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * An EventEmitter which defers Events that are emitted within a Spring transaction until that transaction has been
+ * committed. When the transaction is rolled back, the Events are dropped. Outside a transaction, Events are passed on
+ * right away.
+ */
+final class TransactionalEventEmitter implements EventEmitter {
+
+  private final EventEmitter eventEmitter;
+
+  TransactionalEventEmitter(EventEmitter eventEmitter) {
+    this.eventEmitter = eventEmitter;
+  }
+
+  /**
+   * @return true if the current thread is in a Spring transaction.
+   */
+  static boolean isTransactionActive() {
+    return TransactionSynchronizationManager.isActualTransactionActive();
+  }
+
+  @Override
+  public void emit(Event event, Event... events) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      eventEmitter.emit(event, events);
+      return;
+    }
+    var deferredEvents = (DeferredEvents) TransactionSynchronizationManager.getResource(this);
+    if (deferredEvents == null) {
+      deferredEvents = new DeferredEvents();
+      TransactionSynchronizationManager.bindResource(this, deferredEvents);
+      TransactionSynchronizationManager.registerSynchronization(deferredEvents);
+    }
+    deferredEvents.emissions.add(() -> eventEmitter.emit(event, events));
+  }
+
+  /**
+   * The Events of a single transaction. Handlers of these Events may emit Events of their own while the buffer is
+   * flushed. These are still bound to the committed transaction, so they are flushed along with the rest.
+   * <p>
+   * While the transaction is suspended, for example by a nested transaction with REQUIRES_NEW, the buffer is unbound,
+   * so the nested transaction gets a buffer of its own.
+   */
+  private final class DeferredEvents implements TransactionSynchronization {
+
+    private final Queue<Runnable> emissions = new ArrayDeque<>();
+
+    @Override
+    public void suspend() {
+      TransactionSynchronizationManager.unbindResource(TransactionalEventEmitter.this);
+    }
+
+    @Override
+    public void resume() {
+      TransactionSynchronizationManager.bindResource(TransactionalEventEmitter.this, this);
+    }
+
+    @Override
+    public void afterCommit() {
+      Runnable emission;
+      while ((emission = emissions.poll()) != null) {
+        emission.run();
+      }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      emissions.clear();
+      TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalEventEmitter.this);
+    }
+  }
+}
@@ -0,0 +1,16 @@
+package com.compilit.mediator;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+final class VirtualThreadsCondition implements Condition {
+
+  private static final String PROPERTY = "compilit.mediator.execution-mode";
+
+  @Override
+  public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+    return context.getEnvironment().getProperty(PROPERTY, ExecutionMode.class, ExecutionMode.CALLER_THREAD)
+      == ExecutionMode.VIRTUAL_THREAD;
+  }
+}
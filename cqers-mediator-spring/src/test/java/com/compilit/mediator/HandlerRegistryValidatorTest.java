@@ -0,0 +1,86 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.mediator.api.CommandHandler;
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.QueryHandler;
+import com.compilit.mediator.testutil.TestCommand;
+import com.compilit.mediator.testutil.TestCommandHandler;
+import com.compilit.mediator.testutil.TestEventHandler;
+import com.compilit.mediator.testutil.TestObject;
+import com.compilit.mediator.testutil.TestQueryHandler;
+import com.compilit.mediator.testutil.TestSameCommandHandler;
+import com.compilit.mediator.testutil.TestSimpleCommand;
+import com.compilit.mediator.testutil.TestSimpleCommandHandler;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HandlerRegistryValidatorTest {
+
+  private static final String TEST_PACKAGE = "com.compilit.mediator.testutil";
+
+  @Test
+  void afterPropertiesSet_validRegistrations_shouldNotThrowException() {
+    var validator = createValidator(
+      List.of(new TestCommandHandler(), new TestSimpleCommandHandler()),
+      true,
+      List.of(TEST_PACKAGE)
+    );
+    assertThatNoException().isThrownBy(validator::afterPropertiesSet);
+  }
+
+  @Test
+  void afterPropertiesSet_multipleCommandHandlers_shouldThrowException() {
+    var validator = createValidator(
+      List.of(new TestCommandHandler(), new TestSameCommandHandler()),
+      true,
+      List.of()
+    );
+    assertThatThrownBy(validator::afterPropertiesSet)
+      .isInstanceOf(MediatorException.class)
+      .hasMessageContaining(TestCommand.class.getName());
+  }
+
+  @Test
+  void afterPropertiesSet_unhandledRequestInScannedPackage_shouldThrowException() {
+    var validator = createValidator(List.of(new TestCommandHandler()), true, List.of(TEST_PACKAGE));
+    assertThatThrownBy(validator::afterPropertiesSet)
+      .isInstanceOf(MediatorException.class)
+      .hasMessageContaining(TestSimpleCommand.class.getName());
+  }
+
+  @Test
+  void afterPropertiesSet_lambdaHandler_shouldThrowException() {
+    CommandHandler<TestCommand, TestObject> lambdaHandler = command -> null;
+    var validator = createValidator(List.of(lambdaHandler), true, List.of());
+    assertThatThrownBy(validator::afterPropertiesSet)
+      .isInstanceOf(MediatorException.class)
+      .hasMessageContaining(lambdaHandler.getClass().getName());
+  }
+
+  @Test
+  void afterPropertiesSet_failFastDisabled_shouldNotThrowException() {
+    var validator = createValidator(
+      List.of(new TestCommandHandler(), new TestSameCommandHandler()),
+      false,
+      List.of(TEST_PACKAGE)
+    );
+    assertThatNoException().isThrownBy(validator::afterPropertiesSet);
+  }
+
+  private HandlerRegistryValidator createValidator(List<CommandHandler<?, ?>> commandHandlers,
+                                                   boolean failFast,
+                                                   List<String> scanPackages) {
+    List<QueryHandler<?, ?>> queryHandlers = List.of(new TestQueryHandler());
+    List<EventHandler<?>> eventHandlers = List.of(new TestEventHandler());
+    return new HandlerRegistryValidator(
+      new CommandHandlerProvider(commandHandlers),
+      new QueryHandlerProvider(queryHandlers),
+      new EventHandlerProvider(eventHandlers),
+      failFast,
+      scanPackages
+    );
+  }
+}
@@ -0,0 +1,345 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.mediator.api.AsyncCommandDispatcher;
+import com.compilit.mediator.api.AsyncQueryDispatcher;
+import com.compilit.mediator.api.CacheableQuery;
+import com.compilit.mediator.api.CoalescableQuery;
+import com.compilit.mediator.api.Command;
+import com.compilit.mediator.api.CommandDispatcher;
+import com.compilit.mediator.api.CommandHandler;
+import com.compilit.mediator.api.Event;
+import com.compilit.mediator.api.EventEmitter;
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.Query;
+import com.compilit.mediator.api.QueryDispatcher;
+import com.compilit.mediator.api.QueryHandler;
+import com.compilit.mediator.testutil.TestCommand;
+import com.compilit.mediator.testutil.TestCommandHandler;
+import com.compilit.mediator.testutil.TestObject;
+import com.compilit.mediator.testutil.TestSameCommandHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+class MediatorConfigurationTest {
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+    .withUserConfiguration(TestMediatorConfiguration.class);
+
+  @BeforeEach
+  void reset() {
+    RecordingEventHandler.threads.clear();
+    CountingQueryHandler.invocations.set(0);
+  }
+
+  @Test
+  void enableMediator_defaultProperties_shouldRegisterOnlyDefaultBeans() {
+    contextRunner.run(context -> {
+      assertThat(context).hasNotFailed();
+      assertThat(context).getBean(Mediator.class).isInstanceOf(RequestMediator.class);
+      assertThat(context).getBean(EventEmitter.class).isInstanceOf(MediatingEventEmitter.class);
+      assertThat(context).getBean(AsyncCommandDispatcher.class).isInstanceOf(MediatingAsyncCommandDispatcher.class);
+      assertThat(context).hasSingleBean(QueryCache.class);
+      assertThat(context)
+        .doesNotHaveBean(AsyncEventBus.class)
+        .doesNotHaveBean(EventJournal.class)
+        .doesNotHaveBean(DeferredEventScope.class)
+        .doesNotHaveBean(QueryCoalescer.class)
+        .doesNotHaveBean(MediatorMetrics.class)
+        .doesNotHaveBean("mediatorVirtualThreadExecutor");
+      assertThat(context.getBean(QueryDispatcher.class).dispatch(new ThreadNameQuery()))
+        .isEqualTo(Thread.currentThread().toString());
+    });
+  }
+
+  @Test
+  void enableMediator_multipleCommandHandlers_shouldFailToStart() {
+    contextRunner
+      .withBean(TestSameCommandHandler.class)
+      .run(context -> assertThat(context).hasFailed()
+        .getFailure()
+        .hasRootCauseInstanceOf(MediatorException.class));
+  }
+
+  @Test
+  void enableMediator_validationNotFailFast_shouldStartWithMultipleCommandHandlers() {
+    contextRunner
+      .withBean(TestSameCommandHandler.class)
+      .withPropertyValues("compilit.mediator.validation.fail-fast=false")
+      .run(context -> assertThat(context).hasNotFailed());
+  }
+
+  @Test
+  @EnabledForJreRange(min = JRE.OTHER)
+  void enableMediator_virtualThreadExecutionMode_shouldDispatchAsynchronouslyOnVirtualThreads() {
+    contextRunner
+      .withPropertyValues("compilit.mediator.execution-mode=VIRTUAL_THREAD")
+      .run(context -> {
+        assertThat(context).hasBean("mediatorVirtualThreadExecutor");
+        var threadName = context.getBean(AsyncQueryDispatcher.class).dispatch(new ThreadNameQuery()).join();
+        assertThat(threadName).startsWith("VirtualThread");
+      });
+  }
+
+  @Test
+  @EnabledForJreRange(max = JRE.JAVA_20)
+  void enableMediator_virtualThreadExecutionModeWithoutVirtualThreads_shouldFailToStart() {
+    contextRunner
+      .withPropertyValues("compilit.mediator.execution-mode=VIRTUAL_THREAD")
+      .run(context -> assertThat(context).hasFailed()
+        .getFailure()
+        .hasRootCauseInstanceOf(NoSuchMethodException.class)
+        .hasStackTraceContaining(ExceptionMessages.virtualThreadsNotSupportedMessage()));
+  }
+
+  @Test
+  void enableMediator_maxConcurrentHandlers_shouldLimitMediator() {
+    contextRunner
+      .withPropertyValues("compilit.mediator.max-concurrent-handlers=1")
+      .run(context -> {
+        assertThat(context).getBean(Mediator.class).isInstanceOf(ConcurrencyLimitingMediator.class);
+        assertThat(context.getBean(CommandDispatcher.class).dispatch(new TestCommand())).isNull();
+      });
+  }
+
+  @Test
+  void enableMediator_perHandlerFifoEventOrdering_shouldDeliverOnMediatorExecutor() {
+    contextRunner
+      .withPropertyValues("compilit.mediator.event-ordering=PER_HANDLER_FIFO")
+      .run(context -> {
+        context.getBean(EventEmitter.class).emit(new RecordedEvent());
+        assertThat(RecordingEventHandler.threads).hasSize(1).doesNotContain(Thread.currentThread());
+      });
+  }
+
+  @Test
+  void enableMediator_eventBusEnabled_shouldEmitThroughEventBus() {
+    contextRunner
+      .withPropertyValues("compilit.mediator.event-bus.enabled=true", "compilit.mediator.event-bus.queue-capacity=8")
+      .run(context -> {
+        assertThat(context).getBean(EventEmitter.class).isSameAs(context.getBean(AsyncEventBus.class));
+        context.getBean(EventEmitter.class).emit(new RecordedEvent(), new RecordedEvent());
+        context.close();
+        assertThat(RecordingEventHandler.threads).hasSize(2).doesNotContain(Thread.currentThread());
+      });
+  }
+
+  @Test
+  void enableMediator_journalEnabled_shouldJournalEmittedEvents(@TempDir Path directory) {
+    contextRunner
+      .withPropertyValues(
+        "compilit.mediator.journal.enabled=true",
+        "compilit.mediator.journal.directory=" + directory,
+        "compilit.mediator.journal.segment-size-bytes=65536"
+      )
+      .run(context -> {
+        assertThat(context).getBean(EventEmitter.class).isInstanceOf(JournalingEventEmitter.class);
+        context.getBean(EventEmitter.class).emit(new RecordedEvent());
+
+        assertThat(context.getBean(EventJournal.class).replay()).isOne();
+        assertThat(RecordingEventHandler.threads).hasSize(2);
+      });
+    assertThat(directory).isNotEmptyDirectory();
+  }
+
+  @Test
+  void enableMediator_deferredEventsEnabled_shouldEmitEventsAfterCommandCompletes() {
+    contextRunner
+      .withPropertyValues("compilit.mediator.deferred-events.enabled=true")
+      .withBean(EmittingCommandHandler.class)
+      .run(context -> {
+        assertThat(context).hasSingleBean(DeferredEventScope.class);
+        assertThat(context).getBean(EventEmitter.class).isInstanceOf(TransactionalEventEmitter.class);
+
+        var handledDuringCommand = context.getBean(CommandDispatcher.class).dispatch(new EmittingCommand());
+
+        assertThat(handledDuringCommand).isZero();
+        assertThat(RecordingEventHandler.threads).hasSize(1);
+      });
+  }
+
+  @Test
+  void enableMediator_priorityLanesEnabled_shouldDispatchCommandsInLanes() {
+    contextRunner
+      .withPropertyValues(
+        "compilit.mediator.priority-lanes.enabled=true",
+        "compilit.mediator.priority-lanes.parallelism=2"
+      )
+      .run(context -> {
+        assertThat(context).hasSingleBean(AsyncCommandDispatcher.class);
+        var dispatcher = context.getBean(PrioritizedAsyncCommandDispatcher.class);
+        assertThat(context.getBean(AsyncCommandDispatcher.class)).isSameAs(dispatcher);
+
+        dispatcher.dispatch(new TestCommand()).join();
+
+        assertThat(dispatcher.getLaneMetrics()).isNotEmpty();
+      });
+  }
+
+  @Test
+  void enableMediator_defaultTimeout_shouldHandleRequestsOnTimeoutThreads() {
+    contextRunner
+      .withPropertyValues("compilit.mediator.limits.default-timeout-millis=5000")
+      .run(context -> {
+        var threadName = context.getBean(QueryDispatcher.class).dispatch(new ThreadNameQuery());
+        assertThat(threadName).contains("mediator-timeout-");
+      });
+  }
+
+  @Test
+  void enableMediator_queryCache_shouldHandleEqualCacheableQueriesOnce() {
+    contextRunner
+      .withPropertyValues("compilit.mediator.query-cache.maximum-size=10")
+      .run(context -> {
+        var queryDispatcher = context.getBean(QueryDispatcher.class);
+        assertThat(queryDispatcher.dispatch(new CountingQuery(1))).isOne();
+        assertThat(queryDispatcher.dispatch(new CountingQuery(1))).isOne();
+        assertThat(CountingQueryHandler.invocations).hasValue(1);
+      });
+  }
+
+  @Test
+  void enableMediator_queryCoalescingEnabled_shouldRegisterQueryCoalescer() {
+    contextRunner
+      .withPropertyValues("compilit.mediator.query-coalescing.enabled=true")
+      .run(context -> {
+        assertThat(context).hasSingleBean(QueryCoalescer.class);
+        assertThat(context.getBean(QueryDispatcher.class).dispatch(new CountingQuery(2))).isOne();
+      });
+  }
+
+  @Test
+  void enableMediator_metricsEnabledWithMicrometer_shouldPublishToMeterRegistry() {
+    contextRunner
+      .withPropertyValues(
+        "compilit.mediator.metrics.enabled=true",
+        "compilit.mediator.event-bus.enabled=true",
+        "compilit.mediator.priority-lanes.enabled=true"
+      )
+      .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+      .run(context -> {
+        assertThat(context).getBean(MediatorMetrics.class).isInstanceOf(MicrometerMediatorMetrics.class);
+        assertThat(context).doesNotHaveBean(RequestMetricsRecorder.class);
+
+        context.getBean(CommandDispatcher.class).dispatch(new TestCommand());
+
+        var meterRegistry = context.getBean(MeterRegistry.class);
+        assertThat(meterRegistry.get(MicrometerMediatorMetrics.REQUESTS).timer().count()).isOne();
+        assertThat(meterRegistry.get(MicrometerQueueMetrics.EVENT_BUS_QUEUE_DEPTH).gauges()).isNotEmpty();
+        assertThat(meterRegistry.get(MicrometerQueueMetrics.PRIORITY_LANES_QUEUE_DEPTH).gauges()).isNotEmpty();
+      });
+  }
+
+  @Test
+  void enableMediator_metricsEnabledWithoutMicrometer_shouldRecordInMemory() {
+    contextRunner
+      .withPropertyValues("compilit.mediator.metrics.enabled=true")
+      .withClassLoader(new FilteredClassLoader(MeterRegistry.class))
+      .run(context -> {
+        assertThat(context).getBean(MediatorMetrics.class).isInstanceOf(RequestMetricsRecorder.class);
+
+        context.getBean(CommandDispatcher.class).dispatch(new TestCommand());
+
+        assertThat(context.getBean(RequestMetricsRecorder.class).getMetrics())
+          .singleElement()
+          .satisfies(metrics -> assertThat(metrics.count()).isOne());
+      });
+  }
+
+  @EnableMediator
+  @Configuration(proxyBeanMethods = false)
+  static class TestMediatorConfiguration {
+
+    @Bean
+    CommandHandler<TestCommand, TestObject> createTestCommandHandler() {
+      return new TestCommandHandler();
+    }
+
+    @Bean
+    QueryHandler<ThreadNameQuery, String> createThreadNameQueryHandler() {
+      return new ThreadNameQueryHandler();
+    }
+
+    @Bean
+    QueryHandler<CountingQuery, Integer> createCountingQueryHandler() {
+      return new CountingQueryHandler();
+    }
+
+    @Bean
+    EventHandler<RecordedEvent> createRecordingEventHandler() {
+      return new RecordingEventHandler();
+    }
+  }
+
+  record ThreadNameQuery() implements Query<String> {
+  }
+
+  record CountingQuery(int value) implements CacheableQuery<Integer>, CoalescableQuery<Integer> {
+  }
+
+  record RecordedEvent() implements Event, Serializable {
+  }
+
+  record EmittingCommand() implements Command<Integer> {
+  }
+
+  static class ThreadNameQueryHandler implements QueryHandler<ThreadNameQuery, String> {
+
+    @Override
+    public String handle(ThreadNameQuery query) {
+      return Thread.currentThread().toString();
+    }
+  }
+
+  static class CountingQueryHandler implements QueryHandler<CountingQuery, Integer> {
+
+    static final AtomicInteger invocations = new AtomicInteger();
+
+    @Override
+    public Integer handle(CountingQuery query) {
+      return invocations.incrementAndGet();
+    }
+  }
+
+  static class RecordingEventHandler implements EventHandler<RecordedEvent> {
+
+    static final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Void handle(RecordedEvent event) {
+      threads.add(Thread.currentThread());
+      return null;
+    }
+  }
+
+  static class EmittingCommandHandler implements CommandHandler<EmittingCommand, Integer> {
+
+    private final ObjectProvider<EventEmitter> eventEmitter;
+
+    EmittingCommandHandler(ObjectProvider<EventEmitter> eventEmitter) {
+      this.eventEmitter = eventEmitter;
+    }
+
+    @Override
+    public Integer handle(EmittingCommand command) {
+      eventEmitter.getObject().emit(new RecordedEvent());
+      return RecordingEventHandler.threads.size();
+    }
+  }
+}
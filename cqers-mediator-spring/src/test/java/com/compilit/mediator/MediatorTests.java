@@ -1,5 +1,8 @@
 package com.compilit.mediator;
 
+import com.compilit.mediator.api.AsyncCommandDispatcher;
+import com.compilit.mediator.api.AsyncEventEmitter;
+import com.compilit.mediator.api.AsyncQueryDispatcher;
 import com.compilit.mediator.api.CommandDispatcher;
 import com.compilit.mediator.api.CommandHandler;
 import com.compilit.mediator.api.EventEmitter;
@@ -18,6 +21,8 @@ import com.compilit.mediator.testutil.TestSameEventHandler;
 import com.compilit.mediator.testutil.TestSameQueryHandler;
 import com.compilit.mediator.testutil.TestSimpleCommand;
 import com.compilit.mediator.testutil.TestSimpleCommandHandler;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.junit.jupiter.api.BeforeEach;
@@ -170,4 +175,45 @@ class MediatorTests {
     AssertionsForClassTypes.assertThat(SideEffectContext.isInvoked(4)).isTrue();
   }
 
+  @Test
+  void dispatchAsync_command_shouldDispatchCommand() {
+    context.refresh();
+    context.registerBean(CommandHandler.class, TestCommandHandler::new);
+    TestApplicationContext.registerCqersModule(context);
+    var dispatcher = context.getBean(AsyncCommandDispatcher.class);
+    dispatcher.dispatch(new TestCommand()).join();
+    AssertionsForClassTypes.assertThat(SideEffectContext.isInvoked(1)).isTrue();
+  }
+
+  @Test
+  void dispatchAsync_query_shouldInteractWithContext() {
+    context.refresh();
+    context.registerBean(QueryHandler.class, TestQueryHandler::new);
+    TestApplicationContext.registerCqersModule(context);
+    var dispatcher = context.getBean(AsyncQueryDispatcher.class);
+    dispatcher.dispatch(new TestQuery()).join();
+    AssertionsForClassTypes.assertThat(SideEffectContext.isInvoked(1)).isTrue();
+  }
+
+  @Test
+  void dispatchAsync_missingHandler_shouldCompleteExceptionally() {
+    context.refresh();
+    TestApplicationContext.registerCqersModule(context);
+    var dispatcher = context.getBean(AsyncQueryDispatcher.class);
+    Assertions.assertThat(dispatcher.dispatch(new TestQuery()))
+              .failsWithin(Duration.ofSeconds(5))
+              .withThrowableOfType(ExecutionException.class)
+              .withCauseInstanceOf(MediatorException.class);
+  }
+
+  @Test
+  void emitAsync_multipleEvents_shouldInteractWithContextMultipleTimes() {
+    context.refresh();
+    context.registerBean(EventHandler.class, TestEventHandler::new);
+    TestApplicationContext.registerCqersModule(context);
+    var emitter = context.getBean(AsyncEventEmitter.class);
+    emitter.emit(new TestEvent(), new TestEvent(), new TestEvent()).join();
+    AssertionsForClassTypes.assertThat(SideEffectContext.isInvoked(3)).isTrue();
+  }
+
 }
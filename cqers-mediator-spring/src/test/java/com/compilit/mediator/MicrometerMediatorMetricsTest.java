@@ -0,0 +1,39 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.mediator.testutil.TestCommand;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MicrometerMediatorMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MicrometerMediatorMetrics mediatorMetrics = new MicrometerMediatorMetrics(meterRegistry);
+
+  @Test
+  void requestCompleted_shouldRecordTimerPerOutcome() {
+    mediatorMetrics.requestStarted(TestCommand.class);
+    mediatorMetrics.requestCompleted(TestCommand.class, TimeUnit.MILLISECONDS.toNanos(5), false);
+    mediatorMetrics.requestStarted(TestCommand.class);
+    mediatorMetrics.requestCompleted(TestCommand.class, TimeUnit.MILLISECONDS.toNanos(7), true);
+    var success = meterRegistry.get(MicrometerMediatorMetrics.REQUESTS)
+      .tag("request", TestCommand.class.getName())
+      .tag("outcome", "success")
+      .timer();
+    var failure = meterRegistry.get(MicrometerMediatorMetrics.REQUESTS).tag("outcome", "failure").timer();
+    assertThat(success.count()).isEqualTo(1);
+    assertThat(success.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5);
+    assertThat(failure.count()).isEqualTo(1);
+  }
+
+  @Test
+  void requestStarted_shouldTrackRequestsInFlight() {
+    mediatorMetrics.requestStarted(TestCommand.class);
+    mediatorMetrics.requestStarted(TestCommand.class);
+    mediatorMetrics.requestCompleted(TestCommand.class, 1, false);
+    var inFlight = meterRegistry.get(MicrometerMediatorMetrics.REQUESTS_IN_FLIGHT).gauge();
+    assertThat(inFlight.value()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,68 @@
+package com.compilit.mediator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.mediator.api.EventHandler;
+import com.compilit.mediator.api.Priority;
+import com.compilit.mediator.testutil.TestCommand;
+import com.compilit.mediator.testutil.TestCommandHandler;
+import com.compilit.mediator.testutil.TestEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.Test;
+
+class MicrometerQueueMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MicrometerQueueMetrics queueMetrics = new MicrometerQueueMetrics(meterRegistry);
+
+  @Test
+  void bindEventBus_shouldPublishQueueOfEveryHandler() {
+    EventHandler<TestEvent> failingHandler = new EventHandler<>() {
+      @Override
+      public Void handle(TestEvent event) {
+        throw new IllegalStateException("failed");
+      }
+    };
+    var eventBus = new AsyncEventBus(new EventHandlerProvider(List.of(failingHandler)), 8, OverflowPolicy.BLOCK);
+    queueMetrics.bindEventBus(eventBus, List.of(failingHandler));
+    var handlerName = failingHandler.getClass().getName();
+    assertThat(meterRegistry.get(MicrometerQueueMetrics.EVENT_BUS_QUEUE_DEPTH).tag("handler", handlerName).gauge()
+      .value()).isZero();
+
+    eventBus.emit(new TestEvent(), new TestEvent());
+    eventBus.close();
+
+    assertThat(meterRegistry.get(MicrometerQueueMetrics.EVENT_BUS_FAILED).functionCounter().count()).isEqualTo(2);
+    assertThat(meterRegistry.get(MicrometerQueueMetrics.EVENT_BUS_DROPPED).functionCounter().count()).isZero();
+    assertThat(meterRegistry.get(MicrometerQueueMetrics.EVENT_BUS_DELIVERY_LAG).timeGauge().value()).isPositive();
+  }
+
+  @Test
+  void bindPriorityLanes_shouldPublishEveryLane() {
+    List<Runnable> workers = new ArrayList<>();
+    Executor executor = workers::add;
+    var mediator = new RequestMediator(
+      new CommandHandlerProvider(List.of(new TestCommandHandler())),
+      new QueryHandlerProvider(List.of()),
+      new EventHandlerProvider(List.of())
+    );
+    var dispatcher = new PrioritizedAsyncCommandDispatcher(mediator, executor, 1, Map.of());
+    queueMetrics.bindPriorityLanes(dispatcher);
+
+    dispatcher.dispatch(new TestCommand());
+    dispatcher.dispatch(new TestCommand());
+
+    var normalQueueDepth = meterRegistry.get(MicrometerQueueMetrics.PRIORITY_LANES_QUEUE_DEPTH)
+      .tag("priority", Priority.NORMAL.name())
+      .gauge();
+    assertThat(normalQueueDepth.value()).isEqualTo(2);
+    assertThat(meterRegistry.get(MicrometerQueueMetrics.PRIORITY_LANES_QUEUE_WAIT).timeGauges())
+      .hasSize(Priority.values().length);
+    workers.forEach(Runnable::run);
+    assertThat(normalQueueDepth.value()).isZero();
+  }
+}
@@ -1,5 +1,8 @@
 package com.compilit.mediator;
 
+import com.compilit.mediator.api.AsyncCommandDispatcher;
+import com.compilit.mediator.api.AsyncEventEmitter;
+import com.compilit.mediator.api.AsyncQueryDispatcher;
 import com.compilit.mediator.api.CommandDispatcher;
 import com.compilit.mediator.api.CommandHandler;
 import com.compilit.mediator.api.EventEmitter;
@@ -8,6 +11,7 @@ import com.compilit.mediator.api.QueryDispatcher;
 import com.compilit.mediator.api.QueryHandler;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import org.springframework.context.support.GenericApplicationContext;
 
 public class TestApplicationContext {
@@ -32,9 +36,22 @@ public class TestApplicationContext {
       QueryDispatcher.class,
       () -> new MediatingQueryDispatcher(mediator)
     );
+    var eventEmitter = new MediatingEventEmitter(mediator);
     genericApplicationContext.registerBean(
       EventEmitter.class,
-      () -> new MediatingEventEmitter(mediator)
+      () -> eventEmitter
+    );
+    genericApplicationContext.registerBean(
+      AsyncCommandDispatcher.class,
+      () -> new MediatingAsyncCommandDispatcher(mediator, ForkJoinPool.commonPool())
+    );
+    genericApplicationContext.registerBean(
+      AsyncQueryDispatcher.class,
+      () -> new MediatingAsyncQueryDispatcher(mediator, ForkJoinPool.commonPool())
+    );
+    genericApplicationContext.registerBean(
+      AsyncEventEmitter.class,
+      () -> new MediatingAsyncEventEmitter(eventEmitter, ForkJoinPool.commonPool())
     );
   }
 
@@ -0,0 +1,130 @@
+package com.compilit.mediator;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.compilit.mediator.api.EventEmitter;
+import com.compilit.mediator.testutil.TestEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class TransactionalEventEmitterTest {
+
+  private final EventEmitter eventEmitter = Mockito.mock(EventEmitter.class);
+  private final TransactionalEventEmitter transactionalEventEmitter = new TransactionalEventEmitter(eventEmitter);
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void emit_outsideTransaction_shouldEmitImmediately() {
+    var event = new TestEvent();
+    transactionalEventEmitter.emit(event);
+    verify(eventEmitter).emit(event);
+  }
+
+  @Test
+  void emit_withinCommittedTransaction_shouldEmitAfterCommit() {
+    var event = new TestEvent();
+    TransactionSynchronizationManager.initSynchronization();
+    transactionalEventEmitter.emit(event);
+    verify(eventEmitter, never()).emit(any());
+    completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+    verify(eventEmitter).emit(event);
+  }
+
+  @Test
+  void emit_withinRolledBackTransaction_shouldDropEvents() {
+    TransactionSynchronizationManager.initSynchronization();
+    transactionalEventEmitter.emit(new TestEvent());
+    completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+    verify(eventEmitter, never()).emit(any());
+  }
+
+  @Test
+  void emit_withinRequiresNewTransaction_shouldFollowNestedTransaction() {
+    var transactionManager = new TestTransactionManager();
+    var outer = new TransactionTemplate(transactionManager);
+    var inner = new TransactionTemplate(transactionManager);
+    inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    var outerEvent = new TestEvent();
+    var innerEvent = new TestEvent();
+
+    outer.executeWithoutResult(outerStatus -> {
+      transactionalEventEmitter.emit(outerEvent);
+      inner.executeWithoutResult(innerStatus -> transactionalEventEmitter.emit(innerEvent));
+      verify(eventEmitter).emit(innerEvent);
+      outerStatus.setRollbackOnly();
+    });
+
+    var inOrder = inOrder(eventEmitter);
+    inOrder.verify(eventEmitter).emit(innerEvent);
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  private static void completeTransaction(int status) {
+    var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    if (status == TransactionSynchronization.STATUS_COMMITTED) {
+      TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+    }
+    TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+  }
+
+  /**
+   * A transaction manager without any resources, which supports suspension.
+   */
+  private static final class TestTransactionManager extends AbstractPlatformTransactionManager {
+
+    private boolean active;
+
+    @Override
+    protected Object doGetTransaction() {
+      return active;
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+      return (Boolean) transaction;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+      active = true;
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+      active = false;
+      return Boolean.TRUE;
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+      active = true;
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+      active = false;
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+      active = false;
+    }
+  }
+}
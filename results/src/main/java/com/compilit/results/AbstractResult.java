@@ -1,29 +1,55 @@
 package com.compilit.results;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
+/**
+ * The base of all Results. Results are immutable, so the content-less Results with the default message are shared
+ * singletons. The contents are kept in a nullable field, which the overridden default methods read directly instead of
+ * wrapping them in an Optional first.
+ */
 abstract class AbstractResult<T> implements Result<T> {
 
   private final ResultStatus resultStatus;
   private final T contents;
   private final String message;
+  private final Object[] formatArguments;
+  private String formattedMessage;
 
   AbstractResult(ResultStatus resultStatus) {
     this.resultStatus = resultStatus;
     this.contents = null;
     this.message = Messages.NOTHING_TO_REPORT;
+    this.formatArguments = null;
   }
 
   AbstractResult(ResultStatus resultStatus, String message) {
     this.resultStatus = resultStatus;
     this.contents = null;
     this.message = message;
+    this.formatArguments = null;
+  }
+
+  /**
+   * The message is only formatted when it is read, so an unsuccessful Result of which the message is never read does
+   * not pay for the formatting.
+   */
+  AbstractResult(ResultStatus resultStatus, String message, Object[] formatArguments) {
+    this.resultStatus = resultStatus;
+    this.contents = null;
+    this.message = message == null ? Messages.NO_MESSAGE_AVAILABLE : message;
+    this.formatArguments = message == null || formatArguments == null || formatArguments.length == 0
+                           ? null
+                           : formatArguments;
   }
 
   AbstractResult(ResultStatus resultStatus, T contents) {
     this.resultStatus = resultStatus;
     this.contents = contents;
     this.message = Messages.NOTHING_TO_REPORT;
+    this.formatArguments = null;
   }
 
   @Override
@@ -36,9 +62,52 @@ abstract class AbstractResult<T> implements Result<T> {
     return Optional.ofNullable(contents);
   }
 
+  @Override
+  public T getNullableContents() {
+    return contents;
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return resultStatus == ResultStatus.SUCCESS;
+  }
+
+  @Override
+  public boolean hasContents() {
+    return contents != null;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return contents == null;
+  }
+
+  @Override
+  public <E extends RuntimeException> T getContentsOrElseThrow(Supplier<E> exceptionSupplier) {
+    if (contents == null) {
+      throw exceptionSupplier.get();
+    }
+    return contents;
+  }
+
+  @Override
+  public void onSuccess(Consumer<? super T> consumer) {
+    if (resultStatus == ResultStatus.SUCCESS && contents != null) {
+      consumer.accept(contents);
+    }
+  }
+
   @Override
   public String getMessage() {
-    return message;
+    if (formatArguments == null) {
+      return message;
+    }
+    var formatted = formattedMessage;
+    if (formatted == null) {
+      formatted = MessageFormatter.formatMessage(message, formatArguments);
+      formattedMessage = formatted;
+    }
+    return formatted;
   }
 
   @Override
@@ -46,13 +115,13 @@ abstract class AbstractResult<T> implements Result<T> {
     if (obj instanceof Result<?> result) {
       return resultStatus.equals(result.getResultStatus())
         && getMessage().equals(result.getMessage())
-        && getContents().equals(result.getContents());
+        && Objects.equals(contents, result.getNullableContents());
     }
     return false;
   }
 
   @Override
   public int hashCode() {
-    return getContents().map(Object::hashCode).orElse(0);
+    return Objects.hashCode(contents);
   }
 }
@@ -5,21 +5,29 @@ import java.util.List;
 
 abstract class AbstractResultCombiner<T> {
 
-  protected final List<T> resultList = new ArrayList<>();
-  protected final List<String> messages = new ArrayList<>();
+  protected final List<T> resultList;
+  protected final List<String> messages;
   protected boolean isSuccessful = true;
 
-  AbstractResultCombiner() {}
+  AbstractResultCombiner() {
+    this.resultList = new ArrayList<>();
+    this.messages = new ArrayList<>();
+  }
 
+  /**
+   * Takes over the given lists instead of copying them, so continuing a combination does not copy what has been
+   * combined so far.
+   */
   AbstractResultCombiner(List<T> resultList, List<String> messages, boolean isSuccessful) {
-    this.resultList.addAll(resultList);
-    this.messages.addAll(messages);
+    this.resultList = resultList;
+    this.messages = messages;
     this.isSuccessful = isSuccessful;
   }
 
   protected void resolve(Result<T> result) {
-    if (result.hasContents()) {
-      resultList.add(result.getContents().get());
+    var contents = result.getNullableContents();
+    if (contents != null) {
+      resultList.add(contents);
     }
     if (result.isUnsuccessful()) {
       isSuccessful = false;
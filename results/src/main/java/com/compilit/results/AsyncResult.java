@@ -0,0 +1,284 @@
+package com.compilit.results;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A Result that is not available yet. Every operation is composed onto the underlying CompletableFuture, so nothing
+ * blocks until join is called. A future that completes exceptionally is turned into an unsuccessful Result the same
+ * way Result.resultOf does: a NotFoundException becomes a not found Result, an UnauthorizedException an unauthorized
+ * Result and so on. Like Result.resultOf, only Exceptions are turned into a Result. When an Error is thrown, the
+ * underlying future completes exceptionally with it.
+ *
+ * @param <T> The type of the contents.
+ */
+public final class AsyncResult<T> {
+
+  private final CompletableFuture<Result<T>> future;
+
+  private AsyncResult(CompletableFuture<Result<T>> future) {
+    this.future = future;
+  }
+
+  /**
+   * @param result the Result which is already available.
+   * @param <T>    the type of the contents.
+   * @return an AsyncResult which is already completed.
+   */
+  public static <T> AsyncResult<T> completed(Result<T> result) {
+    return new AsyncResult<>(CompletableFuture.completedFuture(result));
+  }
+
+  /**
+   * Runs the supplier on the common ForkJoinPool.
+   *
+   * @param supplier the content-supplying function.
+   * @param <T>      the type of the contents.
+   * @return an AsyncResult of the supplied contents, or of the exception thrown by the supplier.
+   * @see Result#resultOf(Supplier)
+   */
+  public static <T> AsyncResult<T> resultOfAsync(Supplier<T> supplier) {
+    return resultOfAsync(supplier, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param supplier the content-supplying function.
+   * @param executor the Executor to run the supplier on.
+   * @param <T>      the type of the contents.
+   * @return an AsyncResult of the supplied contents, or of the exception thrown by the supplier.
+   * @see Result#resultOf(Supplier)
+   */
+  public static <T> AsyncResult<T> resultOfAsync(Supplier<T> supplier, Executor executor) {
+    return new AsyncResult<>(CompletableFuture.supplyAsync(supplier, executor).handle(AsyncResult::toResult));
+  }
+
+  /**
+   * @param stage the stage which completes with the contents, or exceptionally.
+   * @param <T>   the type of the contents.
+   * @return an AsyncResult of the contents, or of the exception the stage completed with.
+   */
+  public static <T> AsyncResult<T> fromFuture(CompletionStage<T> stage) {
+    return new AsyncResult<>(stage.handle(AsyncResult::toResult).toCompletableFuture());
+  }
+
+  /**
+   * @param stage the stage which completes with a Result, or exceptionally.
+   * @param <T>   the type of the contents.
+   * @return an AsyncResult of the Result, or of the exception the stage completed with.
+   */
+  public static <T> AsyncResult<T> fromResultFuture(CompletionStage<Result<T>> stage) {
+    return new AsyncResult<>(stage.handle((result, throwable) -> throwable == null
+                                                                 ? result
+                                                                 : AsyncResult.<T>toResult(null, throwable))
+                                  .toCompletableFuture());
+  }
+
+  /**
+   * In case of a successful result, apply the mapping function to the content to return a different content type.
+   *
+   * @param mappingFunction the operation you wish to apply to the contents.
+   * @param <R>             the type of the contents of the returned AsyncResult.
+   * @return the final AsyncResult.
+   * @see Result#onSuccessMap(Function)
+   */
+  public <R> AsyncResult<R> onSuccessMap(Function<T, R> mappingFunction) {
+    return then(result -> result.onSuccessMap(mappingFunction));
+  }
+
+  /**
+   * In case of a successful result, apply the asynchronous mapping function to the content. The returned AsyncResult
+   * completes once the AsyncResult of the mapping function completes.
+   *
+   * @param mappingFunction the asynchronous operation you wish to apply to the contents.
+   * @param <R>             the type of the contents of the returned AsyncResult.
+   * @return the final AsyncResult.
+   */
+  public <R> AsyncResult<R> onSuccessFlatMap(Function<T, AsyncResult<R>> mappingFunction) {
+    return new AsyncResult<>(future.thenCompose(result -> {
+      if (result.isUnsuccessful()) {
+        return CompletableFuture.completedFuture(Result.<R>transform(result));
+      }
+      try {
+        return mappingFunction.apply(result.getContentsOrElseThrow(
+          () -> new NoSuchElementException(Messages.NO_VALUE_PRESENT)
+        )).future;
+      } catch (Exception exception) {
+        return CompletableFuture.completedFuture(AsyncResult.<R>toResult(null, exception));
+      }
+    }));
+  }
+
+  /**
+   * In case of a successful result, pass the contents to the consumer. An exception thrown by the consumer turns the
+   * Result into an unsuccessful one.
+   *
+   * @param consumer the operation you wish to perform on the contents.
+   * @return an AsyncResult of the same Result, once the consumer has run.
+   * @see Result#onSuccess(Consumer)
+   */
+  public AsyncResult<T> onSuccess(Consumer<? super T> consumer) {
+    return then(result -> {
+      result.onSuccess(consumer);
+      return result;
+    });
+  }
+
+  /**
+   * @param onUnsuccessfulResult the Result to continue with when the Result is unsuccessful.
+   * @return an AsyncResult of the Result if it is successful, otherwise of the given Result.
+   * @see Result#orElse(Result)
+   */
+  public AsyncResult<T> orElse(Result<T> onUnsuccessfulResult) {
+    return then(result -> result.orElse(onUnsuccessfulResult));
+  }
+
+  /**
+   * @param supplier the supplier of the Result to continue with when the Result is unsuccessful.
+   * @return an AsyncResult of the Result if it is successful, otherwise of the supplied Result.
+   * @see Result#orElse(Supplier)
+   */
+  public AsyncResult<T> orElse(Supplier<Result<T>> supplier) {
+    return then(result -> result.orElse(supplier));
+  }
+
+  /**
+   * @return an AsyncResult of the Result if it is successful, otherwise of a not found Result.
+   * @see Result#orElseNotFound()
+   */
+  public AsyncResult<T> orElseNotFound() {
+    return then(Result::orElseNotFound);
+  }
+
+  /**
+   * @return an AsyncResult of the Result if it is successful, otherwise of an unprocessable Result.
+   * @see Result#orElseUnprocessable()
+   */
+  public AsyncResult<T> orElseUnprocessable() {
+    return then(Result::orElseUnprocessable);
+  }
+
+  /**
+   * @return an AsyncResult of the Result if it is successful, otherwise of an unauthorized Result.
+   * @see Result#orElseUnauthorized()
+   */
+  public AsyncResult<T> orElseUnauthorized() {
+    return then(Result::orElseUnauthorized);
+  }
+
+  /**
+   * @return an AsyncResult of the Result if it is successful, otherwise of an error occurred Result.
+   * @see Result#orElseErrorOccurred()
+   */
+  public AsyncResult<T> orElseErrorOccurred() {
+    return then(Result::orElseErrorOccurred);
+  }
+
+  /**
+   * Completes once all passed AsyncResults have completed, without blocking in the meantime.
+   *
+   * @param result  the first AsyncResult.
+   * @param results the other AsyncResults.
+   * @param <T>     the type of the contents.
+   * @return an AsyncResult of the merged Result.
+   * @see Result#merge(Result, Result[])
+   */
+  @SafeVarargs
+  public static <T> AsyncResult<List<T>> merge(AsyncResult<T> result, AsyncResult<T>... results) {
+    return combine(result, results, (first, others) -> Result.merge(first, others));
+  }
+
+  /**
+   * Completes once all passed AsyncResults have completed, without blocking in the meantime.
+   *
+   * @param result  the first AsyncResult.
+   * @param results the other AsyncResults.
+   * @param <T>     the type of the contents.
+   * @return an AsyncResult of the summed Result.
+   * @see Result#sum(Result, Result[])
+   */
+  @SafeVarargs
+  public static <T> AsyncResult<T> sum(AsyncResult<T> result, AsyncResult<T>... results) {
+    return combine(result, results, (first, others) -> Result.sum(first, others));
+  }
+
+  /**
+   * @return the underlying future, which only completes exceptionally when an Error was thrown.
+   */
+  public CompletableFuture<Result<T>> toCompletableFuture() {
+    return future;
+  }
+
+  /**
+   * Waits for the Result. Prefer composing further operations over blocking for the Result.
+   *
+   * @return the completed Result.
+   */
+  public Result<T> join() {
+    return future.join();
+  }
+
+  private static <T, R> AsyncResult<R> combine(AsyncResult<T> result,
+                                               AsyncResult<T>[] results,
+                                               Combination<T, R> combination) {
+    var futures = new CompletableFuture<?>[results.length + 1];
+    futures[0] = result.future;
+    for (int index = 0; index < results.length; index++) {
+      futures[index + 1] = results[index].future;
+    }
+    return new AsyncResult<>(CompletableFuture.allOf(futures).thenApply(x -> {
+      Result<T>[] others = Arrays.stream(results).map(AsyncResult::join).toArray(Result[]::new);
+      return combination.apply(result.join(), others);
+    }));
+  }
+
+  /**
+   * Composes the operation onto the future. An Exception thrown by the operation becomes an unsuccessful Result, an
+   * Error completes the future exceptionally.
+   */
+  private <R> AsyncResult<R> then(Function<Result<T>, Result<R>> operation) {
+    return new AsyncResult<>(future.handle((result, throwable) -> throwable == null
+                                                                  ? apply(operation, result)
+                                                                  : AsyncResult.<R>toResult(null, throwable)));
+  }
+
+  private static <T, R> Result<R> apply(Function<T, Result<R>> operation, T input) {
+    try {
+      return operation.apply(input);
+    } catch (Exception exception) {
+      return toResult(null, exception);
+    }
+  }
+
+  private static <T> Result<T> toResult(T contents, Throwable throwable) {
+    if (throwable == null) {
+      return Result.resultOf(() -> contents);
+    }
+    var cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    if (cause instanceof RuntimeException runtimeException) {
+      return Result.resultOf((Supplier<T>) () -> {
+        throw runtimeException;
+      });
+    }
+    return Result.errorOccurred(cause.getMessage());
+  }
+
+  @FunctionalInterface
+  private interface Combination<T, R> {
+
+    Result<R> apply(Result<T> result, Result<T>[] results);
+  }
+}
@@ -15,30 +15,15 @@ final class ContinuedResultToListCombiner<T> extends AbstractResultCombiner<T> i
   }
 
   public Result<List<T>> merge() {
-    var finalMessage = prepareMessage();
     return isSuccessful
            ? Result.success(resultList)
-           : Result.unprocessable(finalMessage);
+           : Result.unprocessable(ResultAccumulator.unsuccessfulMessage(messages));
   }
 
   public Result<T> sum() {
-    var finalMessage = prepareMessage();
     return isSuccessful
            ? Result.success()
-           : Result.unprocessable(finalMessage);
-  }
-
-  private String prepareMessage() {
-    var stringBuilder = new StringBuilder(Messages.UNSUCCESSFUL_RESULT);
-    for (int index = 0; index < messages.size(); index++) {
-      var message = messages.get(index);
-      stringBuilder.append("message-").append(index + 1).append(": ").append(message);
-      if (index == messages.size() - 1) {
-        return stringBuilder.toString();
-      }
-      stringBuilder.append(", ");
-    }
-    return stringBuilder.toString();
+           : Result.unprocessable(ResultAccumulator.unsuccessfulMessage(messages));
   }
 
 }
@@ -1,8 +1,14 @@
 package com.compilit.results;
 
-public class ErrorOccurredException extends RuntimeException {
+import java.util.function.Supplier;
+
+public class ErrorOccurredException extends ResultException {
 
   ErrorOccurredException(String message) {
     super(message);
   }
+
+  ErrorOccurredException(Supplier<String> messageSupplier, boolean lightweight) {
+    super(messageSupplier, lightweight);
+  }
 }
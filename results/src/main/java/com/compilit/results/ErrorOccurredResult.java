@@ -6,4 +6,8 @@ class ErrorOccurredResult<T> extends AbstractResult<T> {
     super(ResultStatus.ERROR_OCCURRED, message);
   }
 
+  ErrorOccurredResult(String message, Object[] formatArguments) {
+    super(ResultStatus.ERROR_OCCURRED, message, formatArguments);
+  }
+
 }
@@ -0,0 +1,48 @@
+package com.compilit.results;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the opt-in lightweight exception mode. In this mode, unsuccessful Results throw exceptions without a stack trace
+ * and with a lazily formatted message. The shared content-less Results throw preallocated instances, so these do not
+ * allocate at all. The mode is enabled through Result.useLightweightExceptions, or on startup with the system property
+ * compilit.results.lightweight-exceptions.
+ */
+final class LightweightExceptions {
+
+  static final String PROPERTY = "compilit.results.lightweight-exceptions";
+  // shared between threads, so these carry their constant message right away
+  private static final NotFoundException NOT_FOUND = new NotFoundException(Messages.NOTHING_TO_REPORT, true);
+  private static final UnprocessableException UNPROCESSABLE =
+    new UnprocessableException(Messages.NOTHING_TO_REPORT, true);
+  private static final UnauthorizedException UNAUTHORIZED =
+    new UnauthorizedException(Messages.NOTHING_TO_REPORT, true);
+  private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+  private LightweightExceptions() {
+  }
+
+  static boolean isEnabled() {
+    return enabled;
+  }
+
+  static void setEnabled(boolean enabled) {
+    LightweightExceptions.enabled = enabled;
+  }
+
+  static Supplier<RuntimeException> supplierFor(Result<?> result) {
+    return switch (result.getResultStatus()) {
+      case UNPROCESSABLE -> result == UnprocessableResult.empty()
+                            ? () -> UNPROCESSABLE
+                            : () -> new UnprocessableException(result::getMessage, true);
+      case UNAUTHORIZED -> result == UnauthorizedResult.empty()
+                           ? () -> UNAUTHORIZED
+                           : () -> new UnauthorizedException(result::getMessage, true);
+      case NOT_FOUND -> result == NotFoundResult.empty()
+                        ? () -> NOT_FOUND
+                        : () -> new NotFoundException(result::getMessage, true);
+      case ERROR_OCCURRED -> () -> new ErrorOccurredException(result::getMessage, true);
+      default -> RuntimeException::new;
+    };
+  }
+}
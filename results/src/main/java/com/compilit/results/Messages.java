@@ -5,6 +5,7 @@ final class Messages {
   static final String NOTHING_TO_REPORT = "Nothing to report";
   static final String NO_MESSAGE_AVAILABLE = "No message available";
   static final String MESSAGE_FORMAT_ERROR = "Unable to format result message, reason: ";
+  static final String NO_VALUE_PRESENT = "No value present";
   static final String UNSUCCESSFUL_RESULT = "At least one Result was not successful, ";
 
   private Messages() {}
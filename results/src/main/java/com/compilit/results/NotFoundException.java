@@ -1,8 +1,18 @@
 package com.compilit.results;
 
-public class NotFoundException extends RuntimeException {
+import java.util.function.Supplier;
+
+public class NotFoundException extends ResultException {
 
   NotFoundException(String message) {
     super(message);
   }
+
+  NotFoundException(String message, boolean lightweight) {
+    super(message, lightweight);
+  }
+
+  NotFoundException(Supplier<String> messageSupplier, boolean lightweight) {
+    super(messageSupplier, lightweight);
+  }
 }
@@ -2,6 +2,8 @@ package com.compilit.results;
 
 class NotFoundResult<T> extends AbstractResult<T> {
 
+  private static final NotFoundResult<?> EMPTY = new NotFoundResult<>();
+
   NotFoundResult() {
     super(ResultStatus.NOT_FOUND);
   }
@@ -10,5 +12,13 @@ class NotFoundResult<T> extends AbstractResult<T> {
     super(ResultStatus.NOT_FOUND, message);
   }
 
-}
+  NotFoundResult(String message, Object[] formatArguments) {
+    super(ResultStatus.NOT_FOUND, message, formatArguments);
+  }
 
+  @SuppressWarnings("unchecked")
+  static <T> NotFoundResult<T> empty() {
+    return (NotFoundResult<T>) EMPTY;
+  }
+
+}
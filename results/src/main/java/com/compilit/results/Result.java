@@ -6,11 +6,16 @@ import com.compilit.guards.ValueGuards;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 /**
  * This interface is your entrypoint for all result operations.
@@ -28,7 +33,7 @@ public interface Result<T> {
    * @return true if the ResultStatus equals SUCCESS or EMPTY_RESOURCE.
    */
   default boolean isSuccessful() {
-    return getResultStatus().equals(ResultStatus.SUCCESS);
+    return getResultStatus() == ResultStatus.SUCCESS;
   }
 
   /**
@@ -83,7 +88,11 @@ public interface Result<T> {
    * @return the contents of the result.
    */
   default T getContentsOrElseThrow() {
-    return getContents().orElseThrow(resolveExceptionSupplier());
+    var contents = getNullableContents();
+    if (contents == null) {
+      throw resolveExceptionSupplier().get();
+    }
+    return contents;
   }
 
   /**
@@ -94,7 +103,11 @@ public interface Result<T> {
    * @return the contents of the result or throw the given RuntimeException.
    */
   default <E extends RuntimeException> T getContentsOrElseThrow(Supplier<E> exceptionSupplier) {
-    return getContents().orElseThrow(exceptionSupplier);
+    var contents = getNullableContents();
+    if (contents == null) {
+      throw exceptionSupplier.get();
+    }
+    return contents;
   }
 
   /**
@@ -112,14 +125,14 @@ public interface Result<T> {
    * @return true if the Result has contents.
    */
   default boolean hasContents() {
-    return getContents().isPresent();
+    return getNullableContents() != null;
   }
 
   /**
    * @return true if the Result has no contents.
    */
   default boolean isEmpty() {
-    return getContents().isEmpty();
+    return getNullableContents() == null;
   }
 
   /**
@@ -157,7 +170,7 @@ public interface Result<T> {
    */
   default <R> Result<R> onSuccessMap(Function<T, R> mappingFunction) {
     if (isSuccessful()) {
-      return Result.resultOf(() -> mappingFunction.apply(getContents().get()));
+      return Result.resultOf(() -> mappingFunction.apply(getContentsOrElseThrow(Result::noValuePresent)));
     }
     return Result.transform(this);
   }
@@ -175,11 +188,22 @@ public interface Result<T> {
    */
   default <R> Result<R> onSuccessMapOrElse(Function<T, R> mappingFunction, Supplier<R> supplier) {
     if (isSuccessful()) {
-      return Result.resultOf(() -> mappingFunction.apply(getContents().get()));
+      return Result.resultOf(() -> mappingFunction.apply(getContentsOrElseThrow(Result::noValuePresent)));
     }
     return Result.resultOf(supplier);
   }
 
+  /**
+   * Starts a lazy chain of operations on the contents of this Result, which only runs once the chain is terminated. Long
+   * chains are cheaper than chaining onSuccessMap, since no Result is created in between.
+   *
+   * @return a ResultPipeline fed by this Result.
+   * @see ResultPipeline
+   */
+  default ResultPipeline<T> pipeline() {
+    return ResultPipeline.of(this);
+  }
+
   /**
    * A convenience method to transform the contents of your result into the desired return type.
    *
@@ -257,8 +281,9 @@ public interface Result<T> {
    * @param consumer the action to be performed on the contents, if the result was successful and has contents
    */
   default void onSuccess(Consumer<? super T> consumer) {
-    if (isSuccessfulWithContents()) {
-      consumer.accept(getContents().get());
+    var contents = getNullableContents();
+    if (isSuccessful() && contents != null) {
+      consumer.accept(contents);
     }
   }
 
@@ -270,8 +295,9 @@ public interface Result<T> {
    * @param runnable the runnable to be performed, if no value is present
    */
   default void onSuccessOrElse(Consumer<? super T> consumer, Runnable runnable) {
-    if (isSuccessfulWithContents()) {
-      consumer.accept(getContents().get());
+    var contents = getNullableContents();
+    if (isSuccessful() && contents != null) {
+      consumer.accept(contents);
     } else {
       runnable.run();
     }
@@ -301,7 +327,7 @@ public interface Result<T> {
    * @return a success Result.
    */
   static <T> Result<T> success() {
-    return new SuccessResult<>();
+    return SuccessResult.empty();
   }
 
   /**
@@ -312,6 +338,9 @@ public interface Result<T> {
    * @return a success Result with contents. Or an empty resource Result if the content is null.
    */
   static <T> Result<T> success(T contents) {
+    if (contents == null) {
+      return SuccessResult.empty();
+    }
     return new SuccessResult<>(contents);
   }
 
@@ -322,7 +351,7 @@ public interface Result<T> {
    * @return a not found Result without a message.
    */
   static <T> Result<T> notFound() {
-    return new NotFoundResult<>();
+    return NotFoundResult.empty();
   }
 
   /**
@@ -334,8 +363,7 @@ public interface Result<T> {
    * @return a not found Result with a message.
    */
   static <T> Result<T> notFound(String message, String... formatArguments) {
-    var actualMessage = MessageFormatter.formatMessage(message, (Object[]) formatArguments);
-    return new NotFoundResult<>(actualMessage);
+    return new NotFoundResult<>(message, formatArguments);
   }
 
   /**
@@ -345,7 +373,7 @@ public interface Result<T> {
    * @return an unprocessable Result without a message.
    */
   static <T> Result<T> unprocessable() {
-    return new UnprocessableResult<>();
+    return UnprocessableResult.empty();
   }
 
   /**
@@ -357,8 +385,7 @@ public interface Result<T> {
    * @return an unprocessable Result with a message.
    */
   static <T> Result<T> unprocessable(String message, String... formatArguments) {
-    var actualMessage = MessageFormatter.formatMessage(message, (Object[]) formatArguments);
-    return new UnprocessableResult<>(actualMessage);
+    return new UnprocessableResult<>(message, formatArguments);
   }
 
   /**
@@ -368,7 +395,7 @@ public interface Result<T> {
    * @return an empty unauthorized Result without a message.
    */
   static <T> Result<T> unauthorized() {
-    return new UnauthorizedResult<>();
+    return UnauthorizedResult.empty();
   }
 
   /**
@@ -380,8 +407,7 @@ public interface Result<T> {
    * @return an empty unauthorized Result with a message.
    */
   static <T> Result<T> unauthorized(String message, String... formatArguments) {
-    var actualMessage = MessageFormatter.formatMessage(message, (Object[]) formatArguments);
-    return new UnauthorizedResult<>(actualMessage);
+    return new UnauthorizedResult<>(message, formatArguments);
   }
 
   /**
@@ -393,8 +419,7 @@ public interface Result<T> {
    * @return an error occurred Result with a message.
    */
   static <T> Result<T> errorOccurred(String message, String... formatArguments) {
-    var actualMessage = MessageFormatter.formatMessage(message, (Object[]) formatArguments);
-    return new ErrorOccurredResult<>(actualMessage);
+    return new ErrorOccurredResult<>(message, formatArguments);
   }
 
   /**
@@ -441,6 +466,29 @@ public interface Result<T> {
     }
   }
 
+  /**
+   * The asynchronous counterpart of resultOf. Runs the supplier on the common ForkJoinPool.
+   *
+   * @param supplier the content-supplying function.
+   * @param <T>      the type of the contents.
+   * @return an AsyncResult which completes with a SuccessResult, or with the Result corresponding to the exception.
+   */
+  static <T> AsyncResult<T> resultOfAsync(Supplier<T> supplier) {
+    return AsyncResult.resultOfAsync(supplier);
+  }
+
+  /**
+   * The asynchronous counterpart of resultOf.
+   *
+   * @param supplier the content-supplying function.
+   * @param executor the Executor to run the supplier on.
+   * @param <T>      the type of the contents.
+   * @return an AsyncResult which completes with a SuccessResult, or with the Result corresponding to the exception.
+   */
+  static <T> AsyncResult<T> resultOfAsync(Supplier<T> supplier, Executor executor) {
+    return AsyncResult.resultOfAsync(supplier, executor);
+  }
+
   /**
    * A generic result that encapsulates a predicate. Returns a Success result with the value if the predicate resolves
    * to true. And an Unprocessable result if it resolves to false. If the Predicate throws an Exception, it returns an
@@ -473,7 +521,7 @@ public interface Result<T> {
    */
   static <T> Result<T> transform(Result<?> result) {
     if (result.hasContents()) {
-      T contents = orNull((Supplier<? extends T>) () -> (T) result.getContents().get());
+      T contents = orNull((Supplier<? extends T>) () -> (T) result.getNullableContents());
       if (contents != null) {
         return transform(result, contents);
       }
@@ -525,8 +573,7 @@ public interface Result<T> {
    */
   @SafeVarargs
   static <T> Result<List<T>> merge(Result<T> result, Result<T>... results) {
-    ContinuedResultCombiner<T> resultCombiner = getContinuedResultCombiner(result, results);
-    return resultCombiner.merge();
+    return accumulate(result, results).toMergedResult();
   }
 
   /**
@@ -541,11 +588,92 @@ public interface Result<T> {
    */
   @SafeVarargs
   static <T> Result<T> sum(Result<T> result, Result<T>... results) {
-    ContinuedResultCombiner<T> resultCombiner = getContinuedResultCombiner(result, results);
-    return resultCombiner.sum();
+    return accumulate(result, results).toSummedResult();
+  }
+
+  /**
+   * A Collector which merges a stream of Results, like merge does. It can be used on parallel streams, in which case
+   * the contents keep their encounter order.
+   *
+   * @param <T> the content type of the results.
+   * @return a Collector of a Result containing a List of T.
+   */
+  static <T> Collector<Result<T>, ?, Result<List<T>>> toMergedResult() {
+    return toMergedResult(0);
+  }
+
+  /**
+   * A Collector which merges a stream of Results, like merge does. It can be used on parallel streams, in which case
+   * the contents keep their encounter order. Only the first accumulator is sized up front, so the parts of a parallel
+   * stream do not each allocate a list of the expected size.
+   *
+   * @param expectedSize the expected number of Results, to size the list of contents up front.
+   * @param <T>          the content type of the results.
+   * @return a Collector of a Result containing a List of T.
+   */
+  static <T> Collector<Result<T>, ?, Result<List<T>>> toMergedResult(int expectedSize) {
+    var sized = new AtomicBoolean();
+    return Collector.of(
+      () -> sized.getAndSet(true) ? new ResultAccumulator<T>() : new ResultAccumulator<T>(expectedSize),
+      ResultAccumulator::add,
+      ResultAccumulator::combine,
+      ResultAccumulator::toMergedResult
+    );
+  }
+
+  /**
+   * A Collector which sums a stream of Results, like sum does. It can be used on parallel streams.
+   *
+   * @param <T> the content type of the results.
+   * @return a Collector of the result sum of all results.
+   */
+  static <T> Collector<Result<T>, ?, Result<T>> toSummedResult() {
+    return Collector.of(
+      () -> new ResultAccumulator<T>(0),
+      ResultAccumulator::add,
+      ResultAccumulator::combine,
+      ResultAccumulator::toSummedResult
+    );
+  }
+
+  /**
+   * Merges Results like merge does, but stops consuming the stream at the first unsuccessful Result. The returned
+   * Result then only carries the message of that Result. The stream is consumed sequentially, even when it is
+   * parallel.
+   *
+   * @param results the Results you wish to merge.
+   * @param <T>     the content type of the results.
+   * @return Result containing a List of T.
+   */
+  static <T> Result<List<T>> mergeFailFast(Stream<Result<T>> results) {
+    var accumulator = new ResultAccumulator<T>();
+    var iterator = results.iterator();
+    while (accumulator.isSuccessful() && iterator.hasNext()) {
+      accumulator.add(iterator.next());
+    }
+    return accumulator.toMergedResult();
+  }
+
+  /**
+   * Switches the exceptions thrown by orElseThrow and getContentsOrElseThrow to lightweight ones, which do not capture a
+   * stack trace and only format their message when it is read. Use this when these methods are used for control flow
+   * and the stack traces are not needed. Can also be enabled with the system property
+   * compilit.results.lightweight-exceptions.
+   *
+   * @param enabled true to throw lightweight exceptions, false to throw regular exceptions (the default).
+   */
+  static void useLightweightExceptions(boolean enabled) {
+    LightweightExceptions.setEnabled(enabled);
+  }
+
+  private static NoSuchElementException noValuePresent() {
+    return new NoSuchElementException(Messages.NO_VALUE_PRESENT);
   }
 
   private Supplier<RuntimeException> resolveExceptionSupplier() {
+    if (LightweightExceptions.isEnabled()) {
+      return LightweightExceptions.supplierFor(this);
+    }
     return switch (getResultStatus()) {
       case UNPROCESSABLE -> () -> new UnprocessableException(getMessage());
       case UNAUTHORIZED -> () -> new UnauthorizedException(getMessage());
@@ -555,8 +683,13 @@ public interface Result<T> {
     };
   }
 
-  private static <T> ContinuedResultCombiner<T> getContinuedResultCombiner(Result<T> result, Result<T>[] results) {
-    return getContinuedResultCombiner(result, Arrays.asList(results));
+  private static <T> ResultAccumulator<T> accumulate(Result<T> result, Result<T>[] results) {
+    var accumulator = new ResultAccumulator<T>(results.length + 1);
+    accumulator.add(result);
+    for (var r : results) {
+      accumulator.add(r);
+    }
+    return accumulator;
   }
 
   private static <T> ContinuedResultCombiner<T> getContinuedResultCombiner(Result<T> result, List<Result<T>> results) {
@@ -0,0 +1,84 @@
+package com.compilit.results;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Accumulates Results into a single merged or summed Result. Accumulators of separate parts of a stream can be
+ * combined, in encounter order, so the Collectors of Result work on parallel streams as well.
+ */
+final class ResultAccumulator<T> {
+
+  private static final int DEFAULT_CAPACITY = 10;
+  private final List<T> contents;
+  private List<String> messages;
+  private boolean successful = true;
+
+  ResultAccumulator() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  ResultAccumulator(int expectedSize) {
+    this.contents = new ArrayList<>(Math.max(expectedSize, 0));
+  }
+
+  void add(Result<T> result) {
+    var resultContents = result.getNullableContents();
+    if (resultContents != null) {
+      contents.add(resultContents);
+    }
+    if (result.isUnsuccessful()) {
+      successful = false;
+      var message = result.getMessage();
+      if (message != null) {
+        if (messages == null) {
+          messages = new ArrayList<>();
+        }
+        messages.add(message);
+      }
+    }
+  }
+
+  ResultAccumulator<T> combine(ResultAccumulator<T> other) {
+    contents.addAll(other.contents);
+    if (other.messages != null) {
+      if (messages == null) {
+        messages = new ArrayList<>(other.messages.size());
+      }
+      messages.addAll(other.messages);
+    }
+    successful &= other.successful;
+    return this;
+  }
+
+  boolean isSuccessful() {
+    return successful;
+  }
+
+  Result<List<T>> toMergedResult() {
+    return successful
+           ? Result.success(contents)
+           : Result.unprocessable(unsuccessfulMessage(messages == null ? List.of() : messages));
+  }
+
+  Result<T> toSummedResult() {
+    return successful
+           ? Result.success()
+           : Result.unprocessable(unsuccessfulMessage(messages == null ? List.of() : messages));
+  }
+
+  static String unsuccessfulMessage(List<String> messages) {
+    var length = Messages.UNSUCCESSFUL_RESULT.length();
+    for (var message : messages) {
+      length += message.length() + 16;
+    }
+    var stringBuilder = new StringBuilder(length).append(Messages.UNSUCCESSFUL_RESULT);
+    for (int index = 0; index < messages.size(); index++) {
+      if (index > 0) {
+        stringBuilder.append(", ");
+      }
+      stringBuilder.append("message-").append(index + 1).append(": ").append(messages.get(index));
+    }
+    return stringBuilder.toString();
+  }
+}
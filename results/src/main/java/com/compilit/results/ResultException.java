@@ -0,0 +1,40 @@
+package com.compilit.results;
+
+import java.util.function.Supplier;
+
+/**
+ * The base of the exceptions thrown for unsuccessful Results. The message may be supplied lazily, so it is only
+ * formatted when somebody reads it. Lightweight instances do not capture a stack trace, which makes them cheap enough
+ * for control flow.
+ */
+abstract class ResultException extends RuntimeException {
+
+  // volatile, as the message of an exception may be read from any thread that catches it
+  private volatile Supplier<String> messageSupplier;
+  private volatile String message;
+
+  ResultException(String message) {
+    super(message);
+    this.message = message;
+  }
+
+  ResultException(String message, boolean lightweight) {
+    super(message, null, !lightweight, !lightweight);
+    this.message = message;
+  }
+
+  ResultException(Supplier<String> messageSupplier, boolean lightweight) {
+    super(null, null, !lightweight, !lightweight);
+    this.messageSupplier = messageSupplier;
+  }
+
+  @Override
+  public String getMessage() {
+    var supplier = messageSupplier;
+    if (supplier != null) {
+      message = supplier.get();
+      messageSupplier = null;
+    }
+    return message;
+  }
+}
@@ -0,0 +1,244 @@
+package com.compilit.results;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A lazy chain of operations on the contents of a Result. The operations are only recorded, and run in a single pass
+ * when a terminal operation such as toResult is called. No intermediate Results are created, and all operations share a
+ * single exception boundary, which maps exceptions to Results the same way Result.resultOf does.
+ * <p>
+ * Once an operation yields an unsuccessful status, all following operations are skipped up to the next recover. Every
+ * operation returns a new ResultPipeline, and leaves the one it was called on unchanged. The pipelines of a chain share
+ * a single list of operations, which is only copied when a pipeline is extended that already has been extended before.
+ * A chain should be built on a single thread; once built, it can be run any number of times from any thread.
+ *
+ * @param <T> The type of the contents at the current end of the chain.
+ */
+public final class ResultPipeline<T> {
+
+  private final Result<?> source;
+  private final Supplier<?> supplier;
+  private final boolean suppliesResult;
+  private final List<Step> steps;
+  private final int stepCount;
+
+  private ResultPipeline(Result<?> source,
+                         Supplier<?> supplier,
+                         boolean suppliesResult,
+                         List<Step> steps,
+                         int stepCount) {
+    this.source = source;
+    this.supplier = supplier;
+    this.suppliesResult = suppliesResult;
+    this.steps = steps;
+    this.stepCount = stepCount;
+  }
+
+  /**
+   * @param result the Result of which the contents are fed into the chain.
+   * @param <T>    the type of the contents.
+   * @return an empty ResultPipeline.
+   */
+  public static <T> ResultPipeline<T> of(Result<T> result) {
+    return new ResultPipeline<>(result, null, false, new ArrayList<>(), 0);
+  }
+
+  /**
+   * @param supplier the content-supplying function, which only runs when a terminal operation is called.
+   * @param <T>      the type of the contents.
+   * @return an empty ResultPipeline.
+   */
+  public static <T> ResultPipeline<T> of(Supplier<T> supplier) {
+    return new ResultPipeline<>(null, supplier, false, new ArrayList<>(), 0);
+  }
+
+  /**
+   * @param supplier the Result-supplying function, which only runs when a terminal operation is called.
+   * @param <T>      the type of the contents.
+   * @return an empty ResultPipeline.
+   */
+  public static <T> ResultPipeline<T> ofResult(Supplier<Result<T>> supplier) {
+    return new ResultPipeline<>(null, supplier, true, new ArrayList<>(), 0);
+  }
+
+  /**
+   * Applies the mapping function to the contents. Fails with an error occurred status when there are no contents.
+   *
+   * @param mappingFunction the operation you wish to apply to the contents.
+   * @param <R>             the type of the new contents.
+   * @return a new ResultPipeline.
+   */
+  public <R> ResultPipeline<R> map(Function<? super T, ? extends R> mappingFunction) {
+    return addStep(Kind.MAP, mappingFunction);
+  }
+
+  /**
+   * Applies the mapping function to the contents, and continues with the contents of the returned Result. An
+   * unsuccessful Result ends the chain with its status and message.
+   *
+   * @param mappingFunction the operation you wish to apply to the contents.
+   * @param <R>             the type of the new contents.
+   * @return a new ResultPipeline.
+   */
+  public <R> ResultPipeline<R> flatMap(Function<? super T, Result<R>> mappingFunction) {
+    return addStep(Kind.FLAT_MAP, mappingFunction);
+  }
+
+  /**
+   * Continues if the predicate holds for the contents, and ends the chain with an unprocessable status otherwise.
+   *
+   * @param predicate the predicate the contents must satisfy.
+   * @return a new ResultPipeline.
+   */
+  public ResultPipeline<T> filter(Predicate<? super T> predicate) {
+    return addStep(Kind.FILTER, predicate);
+  }
+
+  /**
+   * Continues with the supplied contents if the chain is unsuccessful at this point, whatever its status.
+   *
+   * @param supplier the contents to continue with.
+   * @return a new ResultPipeline.
+   */
+  public ResultPipeline<T> recover(Supplier<? extends T> supplier) {
+    return addStep(Kind.RECOVER, supplier);
+  }
+
+  /**
+   * Continues with the supplied contents if the chain is unsuccessful with the given status at this point.
+   *
+   * @param resultStatus the status to recover from.
+   * @param supplier     the contents to continue with.
+   * @return a new ResultPipeline.
+   */
+  public ResultPipeline<T> recover(ResultStatus resultStatus, Supplier<? extends T> supplier) {
+    return addStep(new Step(Kind.RECOVER, supplier, resultStatus));
+  }
+
+  /**
+   * Runs the chain.
+   *
+   * @return a SuccessResult with the final contents, or the unsuccessful Result of the chain.
+   */
+  @SuppressWarnings("unchecked")
+  public Result<T> toResult() {
+    Result<?> failure = null;
+    Object contents = null;
+    // index -1 stands for the source of the chain
+    int index = -1;
+    while (index < stepCount) {
+      try {
+        if (index < 0) {
+          if (supplier != null && suppliesResult) {
+            var result = (Result<?>) supplier.get();
+            failure = result.isUnsuccessful() ? result : null;
+            contents = result.getNullableContents();
+          } else if (supplier != null) {
+            contents = supplier.get();
+          } else if (source.isUnsuccessful()) {
+            failure = source;
+          } else {
+            contents = source.getNullableContents();
+          }
+          index = 0;
+        }
+        for (; index < stepCount; index++) {
+          var step = steps.get(index);
+          if (failure != null) {
+            if (step.recovers(failure)) {
+              contents = ((Supplier<?>) step.operation).get();
+              failure = null;
+            }
+            continue;
+          }
+          switch (step.kind) {
+            case MAP -> {
+              if (contents == null) {
+                failure = Result.errorOccurred(Messages.NO_VALUE_PRESENT);
+              } else {
+                contents = ((Function<Object, ?>) step.operation).apply(contents);
+              }
+            }
+            case FLAT_MAP -> {
+              if (contents == null) {
+                failure = Result.errorOccurred(Messages.NO_VALUE_PRESENT);
+              } else {
+                var result = ((Function<Object, Result<?>>) step.operation).apply(contents);
+                if (result.isUnsuccessful()) {
+                  failure = result;
+                } else {
+                  contents = result.getNullableContents();
+                }
+              }
+            }
+            case FILTER -> {
+              if (!((Predicate<Object>) step.operation).test(contents)) {
+                failure = Result.unprocessable();
+              }
+            }
+            case RECOVER -> {
+              // only applies to an unsuccessful chain
+            }
+          }
+        }
+      } catch (RuntimeException exception) {
+        failure = toFailure(exception);
+        index++;
+      }
+    }
+    if (failure != null) {
+      return failure.hasContents() ? Result.transform(failure, null) : (Result<T>) failure;
+    }
+    return Result.success((T) contents);
+  }
+
+  /**
+   * Runs the chain.
+   *
+   * @return the final contents.
+   * @see Result#getContentsOrElseThrow()
+   */
+  public T getContentsOrElseThrow() {
+    return toResult().getContentsOrElseThrow();
+  }
+
+  private static Result<?> toFailure(RuntimeException exception) {
+    return Result.resultOf((Supplier<?>) () -> {
+      throw exception;
+    });
+  }
+
+  private <R> ResultPipeline<R> addStep(Kind kind, Object operation) {
+    return addStep(new Step(kind, operation, null));
+  }
+
+  /**
+   * Appends to the shared list if this pipeline is its last, and to a copy of its own steps otherwise.
+   */
+  private <R> ResultPipeline<R> addStep(Step step) {
+    var nextSteps = steps.size() == stepCount ? steps : new ArrayList<>(steps.subList(0, stepCount));
+    nextSteps.add(step);
+    return new ResultPipeline<>(source, supplier, suppliesResult, nextSteps, stepCount + 1);
+  }
+
+  private enum Kind {
+    MAP,
+    FLAT_MAP,
+    FILTER,
+    RECOVER
+  }
+
+  /**
+   * @param resultStatus the status a recover step applies to, or null for any unsuccessful status.
+   */
+  private record Step(Kind kind, Object operation, ResultStatus resultStatus) {
+
+    private boolean recovers(Result<?> failure) {
+      return kind == Kind.RECOVER && (resultStatus == null || resultStatus == failure.getResultStatus());
+    }
+  }
+}
@@ -2,6 +2,8 @@ package com.compilit.results;
 
 class SuccessResult<T> extends AbstractResult<T> {
 
+  private static final SuccessResult<?> EMPTY = new SuccessResult<>();
+
   SuccessResult() {
     super(ResultStatus.SUCCESS);
   }
@@ -10,4 +12,9 @@ class SuccessResult<T> extends AbstractResult<T> {
     super(ResultStatus.SUCCESS, contents);
   }
 
+  @SuppressWarnings("unchecked")
+  static <T> SuccessResult<T> empty() {
+    return (SuccessResult<T>) EMPTY;
+  }
+
 }
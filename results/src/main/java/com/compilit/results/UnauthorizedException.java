@@ -1,11 +1,21 @@
 package com.compilit.results;
 
+import java.util.function.Supplier;
+
 /**
  * An exception that can be thrown in case of any unauthorized result.
  */
-public class UnauthorizedException extends RuntimeException {
+public class UnauthorizedException extends ResultException {
 
   UnauthorizedException(String message) {
     super(message);
   }
+
+  UnauthorizedException(String message, boolean lightweight) {
+    super(message, lightweight);
+  }
+
+  UnauthorizedException(Supplier<String> messageSupplier, boolean lightweight) {
+    super(messageSupplier, lightweight);
+  }
 }
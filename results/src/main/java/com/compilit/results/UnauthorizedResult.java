@@ -2,6 +2,8 @@ package com.compilit.results;
 
 class UnauthorizedResult<T> extends AbstractResult<T> {
 
+  private static final UnauthorizedResult<?> EMPTY = new UnauthorizedResult<>();
+
   UnauthorizedResult() {
     super(ResultStatus.UNAUTHORIZED);
   }
@@ -10,4 +12,13 @@ class UnauthorizedResult<T> extends AbstractResult<T> {
     super(ResultStatus.UNAUTHORIZED, message);
   }
 
+  UnauthorizedResult(String message, Object[] formatArguments) {
+    super(ResultStatus.UNAUTHORIZED, message, formatArguments);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> UnauthorizedResult<T> empty() {
+    return (UnauthorizedResult<T>) EMPTY;
+  }
+
 }
@@ -1,11 +1,21 @@
 package com.compilit.results;
 
+import java.util.function.Supplier;
+
 /**
  * An exception that can be thrown in case of any unprocessable result.
  */
-public class UnprocessableException extends RuntimeException {
+public class UnprocessableException extends ResultException {
 
   UnprocessableException(String message) {
     super(message);
   }
+
+  UnprocessableException(String message, boolean lightweight) {
+    super(message, lightweight);
+  }
+
+  UnprocessableException(Supplier<String> messageSupplier, boolean lightweight) {
+    super(messageSupplier, lightweight);
+  }
 }
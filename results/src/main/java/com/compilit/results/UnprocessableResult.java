@@ -2,6 +2,8 @@ package com.compilit.results;
 
 class UnprocessableResult<T> extends AbstractResult<T> {
 
+  private static final UnprocessableResult<?> EMPTY = new UnprocessableResult<>();
+
   UnprocessableResult() {
     super(ResultStatus.UNPROCESSABLE);
   }
@@ -10,4 +12,13 @@ class UnprocessableResult<T> extends AbstractResult<T> {
     super(ResultStatus.UNPROCESSABLE, message);
   }
 
+  UnprocessableResult(String message, Object[] formatArguments) {
+    super(ResultStatus.UNPROCESSABLE, message, formatArguments);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> UnprocessableResult<T> empty() {
+    return (UnprocessableResult<T>) EMPTY;
+  }
+
 }
@@ -0,0 +1,155 @@
+package com.compilit.results;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.results.testutil.TestValue;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncResultTest {
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void resultOfAsync_shouldRunOnExecutor() {
+    var result = Result.resultOfAsync(() -> Thread.currentThread().getName(), executor).join();
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getNullableContents()).isNotEqualTo(Thread.currentThread().getName());
+  }
+
+  @Test
+  void resultOfAsync_throwingSupplier_shouldMapExceptionToStatus() {
+    var result = Result.<String>resultOfAsync(() -> {
+      throw new NotFoundException(TestValue.TEST_MESSAGE);
+    }, executor).join();
+    assertThat(result.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    assertThat(result.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void resultOfAsync_supplierThrowingUnmappedException_shouldReturnErrorOccurred() {
+    var result = Result.<String>resultOfAsync(() -> {
+      throw new IllegalStateException(TestValue.TEST_MESSAGE);
+    }, executor).join();
+    assertThat(result.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    assertThat(result.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void resultOfAsync_supplierThrowingError_shouldCompleteExceptionally() {
+    var error = new AssertionError(TestValue.TEST_MESSAGE);
+    var asyncResult = Result.<String>resultOfAsync(() -> {
+      throw error;
+    }, executor).onSuccessMap(String::length);
+    assertThat(asyncResult.toCompletableFuture())
+      .failsWithin(5, TimeUnit.SECONDS)
+      .withThrowableOfType(ExecutionException.class)
+      .withCause(error);
+  }
+
+  @Test
+  void onSuccessFlatMap_functionThrowingError_shouldCompleteExceptionally() {
+    var error = new AssertionError(TestValue.TEST_MESSAGE);
+    var asyncResult = AsyncResult.completed(Result.success(TestValue.TEST_CONTENT)).onSuccessFlatMap(value -> {
+      throw error;
+    });
+    assertThat(asyncResult.toCompletableFuture()).isCompletedExceptionally();
+  }
+
+  @Test
+  void onSuccess_throwingConsumer_shouldReturnUnsuccessfulResult() {
+    var asyncResult = AsyncResult.completed(Result.success(TestValue.TEST_CONTENT)).onSuccess(value -> {
+      throw new UnprocessableException(TestValue.TEST_MESSAGE);
+    });
+    assertThat(asyncResult.toCompletableFuture()).isNotCompletedExceptionally();
+    assertThat(asyncResult.join().getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+  }
+
+  @Test
+  void orElse_throwingSupplier_shouldReturnErrorOccurred() {
+    var asyncResult = AsyncResult.completed(Result.<String>notFound()).orElse(() -> {
+      throw new IllegalStateException(TestValue.TEST_MESSAGE);
+    });
+    assertThat(asyncResult.toCompletableFuture()).isNotCompletedExceptionally();
+    assertThat(asyncResult.join().getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+  }
+
+  @Test
+  void fromFuture_exceptionallyCompleted_shouldReturnErrorOccurred() {
+    var future = CompletableFuture.<String>failedFuture(new IOException(TestValue.TEST_MESSAGE));
+    var result = AsyncResult.fromFuture(future).join();
+    assertThat(result.getResultStatus()).isEqualTo(ResultStatus.ERROR_OCCURRED);
+    assertThat(result.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void onSuccessMap_shouldComposeWithoutBlocking() {
+    var future = new CompletableFuture<Integer>();
+    var mapped = AsyncResult.fromFuture(future).onSuccessMap(value -> value * 2).orElseNotFound();
+    assertThat(mapped.toCompletableFuture()).isNotDone();
+
+    future.complete(21);
+
+    assertThat(mapped.join().getNullableContents()).isEqualTo(42);
+  }
+
+  @Test
+  void onSuccessFlatMap_unsuccessful_shouldNotApplyFunction() {
+    var result = AsyncResult.completed(Result.<Integer>unauthorized(TestValue.TEST_MESSAGE))
+      .onSuccessFlatMap(value -> AsyncResult.completed(Result.success(value.toString())))
+      .join();
+    assertThat(result.getResultStatus()).isEqualTo(ResultStatus.UNAUTHORIZED);
+  }
+
+  @Test
+  void orElseNotFound_unsuccessful_shouldConvertStatus() {
+    var result = AsyncResult.completed(Result.<String>unprocessable(TestValue.TEST_MESSAGE)).orElseNotFound().join();
+    assertThat(result.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    assertThat(result.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void merge_allSuccessful_shouldReturnAllContents() {
+    var result = AsyncResult.merge(
+      Result.resultOfAsync(() -> 1, executor),
+      AsyncResult.completed(Result.success(2)),
+      AsyncResult.fromFuture(CompletableFuture.completedFuture(3))
+    ).join();
+    assertThat(result.getNullableContents()).isEqualTo(List.of(1, 2, 3));
+  }
+
+  @Test
+  void merge_oneCompletedWithError_shouldCompleteExceptionally() {
+    var error = new AssertionError(TestValue.TEST_MESSAGE);
+    var failed = Result.<Integer>resultOfAsync(() -> {
+      throw error;
+    }, executor);
+    var merged = AsyncResult.merge(AsyncResult.completed(Result.success(1)), failed);
+    assertThat(merged.toCompletableFuture())
+      .failsWithin(5, TimeUnit.SECONDS)
+      .withThrowableOfType(ExecutionException.class)
+      .withCause(error);
+  }
+
+  @Test
+  void sum_oneUnsuccessful_shouldReturnUnsuccessfulResult() {
+    var result = AsyncResult.sum(
+      AsyncResult.completed(Result.success(1)),
+      AsyncResult.completed(Result.<Integer>notFound(TestValue.TEST_MESSAGE))
+    ).join();
+    assertThat(result.isUnsuccessful()).isTrue();
+    assertThat(result.getMessage()).contains(TestValue.TEST_MESSAGE);
+  }
+}
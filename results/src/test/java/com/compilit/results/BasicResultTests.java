@@ -15,6 +15,14 @@ class BasicResultTests {
                     .isEmpty();
   }
 
+  @Test
+  void success_withoutContents_shouldReturnSharedInstance() {
+    Assertions.assertThat(Result.success()).isSameAs(Result.success()).isSameAs(Result.success(null));
+    Assertions.assertThat(Result.notFound()).isSameAs(Result.notFound());
+    Assertions.assertThat(Result.unprocessable()).isSameAs(Result.unprocessable());
+    Assertions.assertThat(Result.unauthorized()).isSameAs(Result.unauthorized());
+  }
+
   @Test
   void success_shouldReturnSuccessResultWithContents() {
     ResultAssertions.assertThat(Result.success(TestValue.TEST_CONTENT))
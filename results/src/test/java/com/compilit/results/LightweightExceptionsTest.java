@@ -0,0 +1,77 @@
+package com.compilit.results;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.compilit.results.testutil.TestValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LightweightExceptionsTest {
+
+  @BeforeEach
+  void enable() {
+    Result.useLightweightExceptions(true);
+  }
+
+  @AfterEach
+  void disable() {
+    Result.useLightweightExceptions(false);
+  }
+
+  @Test
+  void getContentsOrElseThrow_lightweight_shouldThrowExceptionWithoutStackTrace() {
+    assertThatThrownBy(() -> Result.notFound("missing %s", "order").getContentsOrElseThrow())
+      .isInstanceOf(NotFoundException.class)
+      .hasMessage("missing order")
+      .satisfies(exception -> assertThat(exception.getStackTrace()).isEmpty());
+  }
+
+  @Test
+  void orElseThrow_lightweightContentLessResult_shouldThrowPreallocatedException() {
+    var first = catchException(() -> Result.unprocessable().orElseThrow());
+    var second = catchException(() -> Result.unprocessable().orElseThrow());
+    assertThat(first).isInstanceOf(UnprocessableException.class).isSameAs(second);
+    assertThat(first.getMessage()).isEqualTo(Messages.NOTHING_TO_REPORT);
+  }
+
+  @Test
+  void orElseThrow_regular_shouldThrowExceptionWithStackTrace() {
+    Result.useLightweightExceptions(false);
+    assertThatThrownBy(() -> Result.errorOccurred(TestValue.TEST_MESSAGE).orElseThrow())
+      .isInstanceOf(ErrorOccurredException.class)
+      .hasMessage(TestValue.TEST_MESSAGE)
+      .satisfies(exception -> assertThat(exception.getStackTrace()).isNotEmpty());
+  }
+
+  @Test
+  void getMessage_formattedMessage_shouldOnlyFormatOnce() {
+    var argument = new CountingArgument();
+    var formatted = new AbstractResult<>(ResultStatus.NOT_FOUND, "user %s", new Object[]{argument}) {
+    };
+    assertThat(argument.formatted).isZero();
+    assertThat(formatted.getMessage()).isEqualTo("user 1");
+    assertThat(formatted.getMessage()).isEqualTo("user 1");
+    assertThat(argument.formatted).isEqualTo(1);
+  }
+
+  private static RuntimeException catchException(Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (RuntimeException exception) {
+      return exception;
+    }
+    throw new AssertionError("Expected an exception");
+  }
+
+  private static final class CountingArgument {
+
+    private int formatted;
+
+    @Override
+    public String toString() {
+      return String.valueOf(++formatted);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.compilit.results;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.results.testutil.TestValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class ResultCollectorsTest {
+
+  @Test
+  void toMergedResult_parallelStream_shouldKeepEncounterOrder() {
+    var expected = IntStream.range(0, 100_000).boxed().toList();
+    var result = expected.parallelStream()
+                         .map(Result::success)
+                         .collect(Result.toMergedResult(expected.size()));
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getNullableContents()).isEqualTo(expected);
+  }
+
+  @Test
+  void toMergedResult_sizedCollectorReused_shouldMergeEachStream() {
+    var collector = Result.<Integer>toMergedResult(3);
+    assertThat(Stream.of(1, 2, 3).map(Result::success).collect(collector).getNullableContents())
+      .isEqualTo(List.of(1, 2, 3));
+    assertThat(Stream.of(4, 5).parallel().map(Result::success).collect(collector).getNullableContents())
+      .isEqualTo(List.of(4, 5));
+  }
+
+  @Test
+  void toMergedResult_unsuccessfulResults_shouldCombineMessages() {
+    var result = Stream.of(
+      Result.success(1),
+      Result.<Integer>notFound("first"),
+      Result.<Integer>unauthorized("second")
+    ).parallel().collect(Result.toMergedResult());
+    assertThat(result.getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+    assertThat(result.getMessage())
+      .isEqualTo(Messages.UNSUCCESSFUL_RESULT + "message-1: first, message-2: second");
+  }
+
+  @Test
+  void toMergedResult_shouldEqualMerge() {
+    var results = List.of(Result.success(1), Result.<Integer>unprocessable(TestValue.TEST_MESSAGE));
+    assertThat(results.stream().collect(Result.toMergedResult()))
+      .isEqualTo(Result.merge(results.get(0), results.get(1)));
+  }
+
+  @Test
+  void toSummedResult_allSuccessful_shouldReturnSuccessWithoutContents() {
+    var result = Stream.of(Result.success(1), Result.success(2)).collect(Result.toSummedResult());
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.isEmpty()).isTrue();
+  }
+
+  @Test
+  void mergeFailFast_shouldStopAtFirstUnsuccessfulResult() {
+    var consumed = new ArrayList<Integer>();
+    var result = IntStream.range(0, 10).boxed()
+                          .peek(consumed::add)
+                          .map(index -> index == 3 ? Result.<Integer>notFound("missing %s", "3") : Result.success(index));
+    var merged = Result.mergeFailFast(result);
+    assertThat(merged.getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+    assertThat(merged.getMessage()).endsWith("message-1: missing 3");
+    assertThat(consumed).containsExactly(0, 1, 2, 3);
+  }
+
+  @Test
+  void mergeFailFast_allSuccessful_shouldReturnAllContents() {
+    var merged = Result.mergeFailFast(Stream.of(Result.success("a"), Result.success("b")));
+    assertThat(merged.getNullableContents()).containsExactly("a", "b");
+  }
+}
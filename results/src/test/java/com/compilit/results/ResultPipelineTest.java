@@ -0,0 +1,133 @@
+package com.compilit.results;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.compilit.results.testutil.TestValue;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+class ResultPipelineTest {
+
+  @Test
+  void toResult_successfulChain_shouldApplyAllSteps() {
+    var result = Result.success(TestValue.TEST_CONTENT)
+                       .pipeline()
+                       .map(String::length)
+                       .filter(length -> length > 0)
+                       .flatMap(length -> Result.success(length * 2))
+                       .toResult();
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getNullableContents()).isEqualTo(TestValue.TEST_CONTENT.length() * 2);
+  }
+
+  @Test
+  void toResult_shouldOnlyRunAtTerminalOperation() {
+    var calls = new ArrayList<String>();
+    var pipeline = ResultPipeline.of(() -> {
+      calls.add("source");
+      return TestValue.TEST_CONTENT;
+    }).map(contents -> {
+      calls.add("map");
+      return contents;
+    });
+    assertThat(calls).isEmpty();
+    assertThat(pipeline.getContentsOrElseThrow()).isEqualTo(TestValue.TEST_CONTENT);
+    assertThat(calls).containsExactly("source", "map");
+  }
+
+  @Test
+  void toResult_unsuccessfulStep_shouldShortCircuit() {
+    var calls = new ArrayList<String>();
+    var result = Result.success(TestValue.TEST_CONTENT)
+                       .pipeline()
+                       .flatMap(contents -> Result.<String>notFound(TestValue.TEST_MESSAGE))
+                       .map(contents -> {
+                         calls.add("map");
+                         return contents;
+                       })
+                       .toResult();
+    assertThat(result.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    assertThat(result.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+    assertThat(calls).isEmpty();
+  }
+
+  @Test
+  void toResult_unsuccessfulSource_shouldKeepStatusAndMessage() {
+    var result = Result.<String>unauthorized(TestValue.TEST_MESSAGE).pipeline().map(String::length).toResult();
+    assertThat(result.getResultStatus()).isEqualTo(ResultStatus.UNAUTHORIZED);
+    assertThat(result.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void toResult_exception_shouldMapLikeResultOf() {
+    var result = Result.success(TestValue.TEST_CONTENT)
+                       .pipeline()
+                       .map(contents -> {
+                         throw new UnprocessableException(TestValue.TEST_MESSAGE);
+                       })
+                       .toResult();
+    assertThat(result).isEqualTo(Result.resultOf(() -> {
+      throw new UnprocessableException(TestValue.TEST_MESSAGE);
+    }));
+  }
+
+  @Test
+  void toResult_failedFilter_shouldReturnUnprocessable() {
+    var result = Result.success(TestValue.TEST_CONTENT).pipeline().filter(String::isEmpty).toResult();
+    assertThat(result.getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+  }
+
+  @Test
+  void toResult_emptySuccess_shouldFailLikeOnSuccessMap() {
+    var result = Result.<String>success().pipeline().map(String::length).toResult();
+    assertThat(result).isEqualTo(Result.<String>success().onSuccessMap(String::length));
+  }
+
+  @Test
+  void recover_shouldOnlyRecoverMatchingStatus() {
+    var result = Result.success(TestValue.TEST_CONTENT)
+                       .pipeline()
+                       .<String>map(contents -> {
+                         throw new IllegalStateException(TestValue.TEST_MESSAGE);
+                       })
+                       .recover(ResultStatus.NOT_FOUND, () -> "not found")
+                       .recover(() -> "recovered")
+                       .map(String::toUpperCase)
+                       .toResult();
+    assertThat(result.isSuccessful()).isTrue();
+    assertThat(result.getNullableContents()).isEqualTo("RECOVERED");
+  }
+
+  @Test
+  void map_onExtendedPipeline_shouldLeaveOtherBranchesUnchanged() {
+    var pipeline = ResultPipeline.of(Result.success(TestValue.TEST_CONTENT));
+    var lengths = pipeline.map(String::length);
+    var filtered = pipeline.filter(String::isEmpty);
+    var doubled = lengths.map(length -> length * 2);
+    assertThat(pipeline.getContentsOrElseThrow()).isEqualTo(TestValue.TEST_CONTENT);
+    assertThat(lengths.getContentsOrElseThrow()).isEqualTo(TestValue.TEST_CONTENT.length());
+    assertThat(filtered.toResult().getResultStatus()).isEqualTo(ResultStatus.UNPROCESSABLE);
+    assertThat(doubled.getContentsOrElseThrow()).isEqualTo(TestValue.TEST_CONTENT.length() * 2);
+  }
+
+  @Test
+  void ofResult_unsuccessfulResult_shouldKeepStatusAndMessage() {
+    var result = ResultPipeline.ofResult(() -> Result.<String>notFound(TestValue.TEST_MESSAGE))
+                               .map(String::length)
+                               .toResult();
+    assertThat(result.getResultStatus()).isEqualTo(ResultStatus.NOT_FOUND);
+    assertThat(result.getMessage()).isEqualTo(TestValue.TEST_MESSAGE);
+  }
+
+  @Test
+  void of_supplierOfResult_shouldNotUnwrapResult() {
+    var contents = ResultPipeline.of(() -> Result.success(TestValue.TEST_CONTENT)).getContentsOrElseThrow();
+    assertThat(contents).isInstanceOf(Result.class);
+  }
+
+  @Test
+  void toResult_shouldBeRepeatable() {
+    var pipeline = Result.success(1).pipeline().map(value -> value + 1);
+    assertThat(pipeline.toResult()).isEqualTo(pipeline.toResult());
+  }
+}